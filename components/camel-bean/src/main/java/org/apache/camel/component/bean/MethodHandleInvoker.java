@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a {@link MethodHandle} instead of reflection.
+ * <p/>
+ * An instance method with up to {@link #MAX_ARITY} parameters is bound to a class generated by the
+ * {@link LambdaMetafactory}, which calls the method directly, so the JIT compiler can inline the method into the
+ * invocation, and the arguments are passed on one by one without an array (see {@link #invoke1(Object, Object)}).
+ * Otherwise the method handle is adapted to take the bean and the arguments as an array (see
+ * {@link #invoke(Object, Object[])}).
+ * <p/>
+ * The arguments must match the parameter types, which is checked using {@link #canInvoke(Object)} and
+ * {@link #adapt(int, Object)}, as reflection reports invalid arguments differently, so those invocations should use
+ * reflection. The arguments are widened to the primitive parameter types the same way as reflection does.
+ */
+final class MethodHandleInvoker {
+
+    /**
+     * The maximum number of parameters of a method which can be invoked without an array of the arguments
+     */
+    static final int MAX_ARITY = 3;
+
+    /**
+     * Returned by {@link #adapt(int, Object)} when the argument does not match the parameter type
+     */
+    static final Object NO_MATCH = new Object();
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleInvoker.class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Class<?>[] INVOKERS = { Invoker0.class, Invoker1.class, Invoker2.class, Invoker3.class };
+    private static final Class<?>[] VOID_INVOKERS
+            = { VoidInvoker0.class, VoidInvoker1.class, VoidInvoker2.class, VoidInvoker3.class };
+
+    // the interfaces which are implemented by the generated classes, which must be public as the classes are defined in
+    // the package of the bean
+
+    public interface Invoker0 {
+        Object invoke(Object pojo);
+    }
+
+    public interface Invoker1 {
+        Object invoke(Object pojo, Object a1);
+    }
+
+    public interface Invoker2 {
+        Object invoke(Object pojo, Object a1, Object a2);
+    }
+
+    public interface Invoker3 {
+        Object invoke(Object pojo, Object a1, Object a2, Object a3);
+    }
+
+    public interface VoidInvoker0 {
+        void invoke(Object pojo);
+    }
+
+    public interface VoidInvoker1 {
+        void invoke(Object pojo, Object a1);
+    }
+
+    public interface VoidInvoker2 {
+        void invoke(Object pojo, Object a1, Object a2);
+    }
+
+    public interface VoidInvoker3 {
+        void invoke(Object pojo, Object a1, Object a2, Object a3);
+    }
+
+    private final MethodHandle handle;
+    private final Object invoker;
+    private final Class<?> declaringClass;
+    private final boolean isStatic;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] argumentTypes;
+
+    private MethodHandleInvoker(MethodHandle handle, Object invoker, Method method) {
+        this.handle = handle;
+        this.invoker = invoker;
+        this.declaringClass = method.getDeclaringClass();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.parameterTypes = method.getParameterTypes();
+        this.argumentTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            argumentTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+        }
+    }
+
+    /**
+     * Creates the invoker for the method.
+     *
+     * @return the invoker, or <tt>null</tt> if the method cannot be invoked using a method handle
+     */
+    static MethodHandleInvoker create(Method method) {
+        try {
+            // if the method cannot be made accessible then the method handle cannot be created either
+            method.trySetAccessible();
+            MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+            Object invoker = createInvoker(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // ignore the bean for static methods
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            mh = mh.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+            return new MethodHandleInvoker(mh, invoker, method);
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {}. Will use reflection instead.", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates the class which calls the method directly, for an instance method with up to {@link #MAX_ARITY}
+     * parameters.
+     *
+     * @return the instance of the class, or <tt>null</tt> if the class cannot be created for the method
+     */
+    private static Object createInvoker(Method method) {
+        int arity = method.getParameterCount();
+        if (Modifier.isStatic(method.getModifiers()) || method.isVarArgs() || arity > MAX_ARITY) {
+            return null;
+        }
+        try {
+            // the class is defined in the package of the bean, so it can call the method even if its not public
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle mh = lookup.unreflect(method);
+            boolean isVoid = method.getReturnType() == void.class;
+            Class<?> type = isVoid ? VOID_INVOKERS[arity] : INVOKERS[arity];
+            MethodType invokeType = MethodType.genericMethodType(arity + 1);
+            if (isVoid) {
+                invokeType = invokeType.changeReturnType(void.class);
+            }
+            // the arguments are cast to the wrapper types of the parameters, and then unboxed
+            MethodType instantiatedType = mh.type().wrap();
+            if (isVoid) {
+                instantiatedType = instantiatedType.changeReturnType(void.class);
+            }
+            MethodHandle factory = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(type),
+                    invokeType, mh, instantiatedType).getTarget();
+            return factory.invoke();
+        } catch (Throwable e) {
+            // such as the bean class cannot see this class, then the method handle is used instead
+            LOG.debug("Cannot create invoker for method: {}. Will use method handle instead.", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the method can be invoked with the arguments one by one (such as {@link #invoke1(Object, Object)}).
+     */
+    boolean hasArityInvoker() {
+        return invoker != null;
+    }
+
+    int getArity() {
+        return parameterTypes.length;
+    }
+
+    /**
+     * Whether the bean matches the method, so the method can be invoked using the method handle.
+     */
+    boolean canInvoke(Object pojo) {
+        return isStatic || declaringClass.isInstance(pojo);
+    }
+
+    /**
+     * Whether the bean and the arguments match the method, so the method can be invoked using the method handle. The
+     * arguments which must be widened to the primitive parameter types are replaced in the array.
+     */
+    boolean canInvoke(Object pojo, Object[] arguments) {
+        if (!canInvoke(pojo)) {
+            return false;
+        }
+        int length = arguments != null ? arguments.length : 0;
+        if (length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            Object argument = adapt(i, arguments[i]);
+            if (argument == NO_MATCH) {
+                return false;
+            }
+            arguments[i] = argument;
+        }
+        return true;
+    }
+
+    /**
+     * Adapts the argument to the parameter type at the given index.
+     *
+     * @return the argument to use, which is widened for a primitive parameter type if needed, or {@link #NO_MATCH} if
+     *         the argument does not match the parameter type
+     */
+    Object adapt(int index, Object argument) {
+        if (argument == null) {
+            return parameterTypes[index].isPrimitive() ? NO_MATCH : null;
+        }
+        if (argumentTypes[index].isInstance(argument)) {
+            return argument;
+        }
+        if (parameterTypes[index].isPrimitive()) {
+            Object answer = widen(argument, parameterTypes[index]);
+            return answer != null ? answer : NO_MATCH;
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Invokes the method, which must only be called if {@link #canInvoke(Object, Object[])} is <tt>true</tt>.
+     *
+     * @throws Throwable is thrown from the invoked method
+     */
+    Object invoke(Object pojo, Object[] arguments) throws Throwable {
+        // the arguments must be typed as an array, as the call site must match the type of the handle exactly
+        Object[] args = arguments != null ? arguments : NO_ARGUMENTS;
+        return (Object) handle.invokeExact(pojo, args);
+    }
+
+    /**
+     * Invokes the method without parameters, which must only be called if {@link #hasArityInvoker()} and
+     * {@link #canInvoke(Object)} are <tt>true</tt>.
+     */
+    Object invoke0(Object pojo) {
+        if (invoker instanceof Invoker0) {
+            return ((Invoker0) invoker).invoke(pojo);
+        }
+        ((VoidInvoker0) invoker).invoke(pojo);
+        return null;
+    }
+
+    /**
+     * Invokes the method with one parameter, which must only be called if {@link #hasArityInvoker()} and
+     * {@link #canInvoke(Object)} are <tt>true</tt>, with the argument from {@link #adapt(int, Object)}.
+     */
+    Object invoke1(Object pojo, Object a1) {
+        if (invoker instanceof Invoker1) {
+            return ((Invoker1) invoker).invoke(pojo, a1);
+        }
+        ((VoidInvoker1) invoker).invoke(pojo, a1);
+        return null;
+    }
+
+    /**
+     * Invokes the method with two parameters, which must only be called if {@link #hasArityInvoker()} and
+     * {@link #canInvoke(Object)} are <tt>true</tt>, with the arguments from {@link #adapt(int, Object)}.
+     */
+    Object invoke2(Object pojo, Object a1, Object a2) {
+        if (invoker instanceof Invoker2) {
+            return ((Invoker2) invoker).invoke(pojo, a1, a2);
+        }
+        ((VoidInvoker2) invoker).invoke(pojo, a1, a2);
+        return null;
+    }
+
+    /**
+     * Invokes the method with three parameters, which must only be called if {@link #hasArityInvoker()} and
+     * {@link #canInvoke(Object)} are <tt>true</tt>, with the arguments from {@link #adapt(int, Object)}.
+     */
+    Object invoke3(Object pojo, Object a1, Object a2, Object a3) {
+        if (invoker instanceof Invoker3) {
+            return ((Invoker3) invoker).invoke(pojo, a1, a2, a3);
+        }
+        ((VoidInvoker3) invoker).invoke(pojo, a1, a2, a3);
+        return null;
+    }
+
+    /**
+     * Widens the value to the primitive type, which are the widening primitive conversions reflection does.
+     *
+     * @return the widened value, or <tt>null</tt> if the value cannot be widened to the type
+     */
+    private static Object widen(Object value, Class<?> type) {
+        if (value instanceof Character) {
+            // a char can be widened to the same types as an int except for short
+            if (type == short.class) {
+                return null;
+            }
+            value = (int) (Character) value;
+        }
+        int from = rank(value.getClass());
+        int to = rank(type);
+        if (from < 0 || to <= from) {
+            return null;
+        }
+        Number number = (Number) value;
+        switch (to) {
+            case 1:
+                return number.shortValue();
+            case 2:
+                return number.intValue();
+            case 3:
+                return number.longValue();
+            case 4:
+                return number.floatValue();
+            default:
+                return number.doubleValue();
+        }
+    }
+
+    private static int rank(Class<?> type) {
+        if (type == Byte.class || type == byte.class) {
+            return 0;
+        } else if (type == Short.class || type == short.class) {
+            return 1;
+        } else if (type == Integer.class || type == int.class) {
+            return 2;
+        } else if (type == Long.class || type == long.class) {
+            return 3;
+        } else if (type == Float.class || type == float.class) {
+            return 4;
+        } else if (type == Double.class || type == double.class) {
+            return 5;
+        }
+        return -1;
+    }
+}
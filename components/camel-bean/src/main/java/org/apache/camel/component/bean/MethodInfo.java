@@ -69,6 +69,8 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    // number of reflective invocations before using a method handle, as some method infos are only used once
+    private static final int METHOD_HANDLE_THRESHOLD = 8;
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -82,6 +84,8 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile MethodHandleInvoker invoker;
+    private int invocations;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -268,116 +272,214 @@ public class MethodInfo {
     }
 
     public MethodInvocation createMethodInvocation(final Object pojo, boolean hasParameters, final Exchange exchange) {
+        MethodHandleInvoker mhi = invoker;
+        int size = parameters.size();
+        if (mhi != null && mhi.hasArityInvoker() && mhi.getArity() == size && (hasParameters || size == 0)
+                && parametersExpression instanceof ParameterExpression) {
+            // bind the arguments one by one, to invoke the method without an array of the arguments
+            ParameterExpression expression = (ParameterExpression) parametersExpression;
+            Object a1 = null;
+            Object a2 = null;
+            Object a3 = null;
+            if (size > 0) {
+                expression.init(camelContext);
+                Object body = exchange.getIn().getBody();
+                Iterator<?> it = expression.parameterValues(exchange);
+                a1 = expression.evaluateParameter(exchange, body, it, 0);
+                if (size > 1) {
+                    a2 = expression.evaluateParameter(exchange, body, it, 1);
+                }
+                if (size > 2) {
+                    a3 = expression.evaluateParameter(exchange, body, it, 2);
+                }
+            }
+            return new DefaultMethodInvocation(pojo, exchange, null, mhi, size, a1, a2, a3);
+        }
+
         final Object[] arguments = initializeArguments(hasParameters, exchange);
+        return new DefaultMethodInvocation(pojo, exchange, arguments, null, 0, null, null, null);
+    }
 
-        return new MethodInvocation() {
-            public Method getMethod() {
-                return method;
-            }
+    /**
+     * Invocation of the method, with either the arguments as an array, or the arguments which was bound one by one to
+     * invoke the method using a {@link MethodHandleInvoker}.
+     */
+    private final class DefaultMethodInvocation implements MethodInvocation {
+        private final Object pojo;
+        private final Exchange exchange;
+        private final Object[] arguments;
+        private final MethodHandleInvoker handleInvoker;
+        private final int arity;
+        private final Object a1;
+        private final Object a2;
+        private final Object a3;
+
+        private DefaultMethodInvocation(Object pojo, Exchange exchange, Object[] arguments, MethodHandleInvoker handleInvoker,
+                                        int arity, Object a1, Object a2, Object a3) {
+            this.pojo = pojo;
+            this.exchange = exchange;
+            this.arguments = arguments;
+            this.handleInvoker = handleInvoker;
+            this.arity = arity;
+            this.a1 = a1;
+            this.a2 = a2;
+            this.a3 = a3;
+        }
 
-            public Object[] getArguments() {
-                return arguments;
-            }
+        @Override
+        public Method getMethod() {
+            return method;
+        }
 
-            public boolean proceed(AsyncCallback callback) {
-                try {
-                    // reset cached streams so they can be read again
-                    MessageHelper.resetStreamCache(exchange.getIn());
-                    return doProceed(callback);
-                } catch (InvocationTargetException e) {
-                    exchange.setException(e.getTargetException());
-                    callback.done(true);
-                    return true;
-                } catch (Exception e) {
-                    exchange.setException(e);
-                    callback.done(true);
-                    return true;
+        @Override
+        public Object[] getArguments() {
+            if (arguments == null && handleInvoker != null) {
+                // the arguments was bound one by one
+                Object[] answer = new Object[arity];
+                if (arity > 0) {
+                    answer[0] = a1;
                 }
+                if (arity > 1) {
+                    answer[1] = a2;
+                }
+                if (arity > 2) {
+                    answer[2] = a3;
+                }
+                return answer;
             }
+            return arguments;
+        }
 
-            private boolean doProceed(AsyncCallback callback) throws Exception {
-                // dynamic router should be invoked beforehand
-                if (dynamicRouter != null) {
-                    if (!ServiceHelper.isStarted(dynamicRouter)) {
-                        ServiceHelper.startService(dynamicRouter);
-                    }
-                    // use an expression which invokes the method to be used by dynamic router
-                    Expression expression = new DynamicRouterExpression(pojo);
-                    expression.init(camelContext);
-                    exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, expression);
-                    return dynamicRouter.process(exchange, callback);
-                }
+        @Override
+        public boolean proceed(AsyncCallback callback) {
+            try {
+                // reset cached streams so they can be read again
+                MessageHelper.resetStreamCache(exchange.getIn());
+                return doProceed(callback);
+            } catch (InvocationTargetException e) {
+                exchange.setException(e.getTargetException());
+                callback.done(true);
+                return true;
+            } catch (Exception e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+        }
 
-                // invoke pojo
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace(">>>> invoking: {} on bean: {} with arguments: {} for exchange: {}", method, pojo,
-                            asString(arguments), exchange);
-                }
-                Object result = invoke(method, pojo, arguments, exchange);
-
-                // the method may be a closure or chained method returning a callable which should be called
-                if (result instanceof Callable) {
-                    LOG.trace("Method returned Callback which will be called: {}", result);
-                    Object callableResult = ((Callable) result).call();
-                    if (callableResult != null) {
-                        result = callableResult;
-                    } else {
-                        // if callable returned null we should not change the body
-                        result = Void.TYPE;
-                    }
+        private boolean doProceed(AsyncCallback callback) throws Exception {
+            // dynamic router should be invoked beforehand
+            if (dynamicRouter != null) {
+                if (!ServiceHelper.isStarted(dynamicRouter)) {
+                    ServiceHelper.startService(dynamicRouter);
                 }
+                // use an expression which invokes the method to be used by dynamic router
+                Expression expression = new DynamicRouterExpression(pojo);
+                expression.init(camelContext);
+                exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, expression);
+                return dynamicRouter.process(exchange, callback);
+            }
 
-                if (recipientList != null) {
-                    // ensure its started
-                    if (!ServiceHelper.isStarted(recipientList)) {
-                        ServiceHelper.startService(recipientList);
-                    }
-                    exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
-                    return recipientList.process(exchange, callback);
-                }
-                if (routingSlip != null) {
-                    if (!ServiceHelper.isStarted(routingSlip)) {
-                        ServiceHelper.startService(routingSlip);
-                    }
-                    exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
-                    return routingSlip.process(exchange, callback);
+            // invoke pojo
+            if (LOG.isTraceEnabled()) {
+                LOG.trace(">>>> invoking: {} on bean: {} with arguments: {} for exchange: {}", method, pojo,
+                        asString(getArguments()), exchange);
+            }
+            Object result = handleInvoker != null ? invokeBound() : invoke(method, pojo, arguments, exchange);
+
+            // the method may be a closure or chained method returning a callable which should be called
+            if (result instanceof Callable) {
+                LOG.trace("Method returned Callback which will be called: {}", result);
+                Object callableResult = ((Callable) result).call();
+                if (callableResult != null) {
+                    result = callableResult;
+                } else {
+                    // if callable returned null we should not change the body
+                    result = Void.TYPE;
                 }
+            }
 
-                //If it's Java 8 async result
-                if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
-                    CompletionStage<?> completionStage = (CompletionStage<?>) result;
-
-                    completionStage
-                            .whenComplete((resultObject, e) -> {
-                                if (e != null) {
-                                    exchange.setException(e);
-                                } else if (resultObject != null) {
-                                    fillResult(exchange, resultObject);
-                                }
-                                callback.done(false);
-                            });
-                    return false;
+            if (recipientList != null) {
+                // ensure its started
+                if (!ServiceHelper.isStarted(recipientList)) {
+                    ServiceHelper.startService(recipientList);
                 }
-
-                // if the method returns something then set the value returned on the Exchange
-                if (result != Void.TYPE && !method.getReturnType().equals(Void.TYPE)) {
-                    fillResult(exchange, result);
+                exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
+                return recipientList.process(exchange, callback);
+            }
+            if (routingSlip != null) {
+                if (!ServiceHelper.isStarted(routingSlip)) {
+                    ServiceHelper.startService(routingSlip);
                 }
+                exchange.setProperty(ExchangePropertyKey.EVALUATE_EXPRESSION_RESULT, result);
+                return routingSlip.process(exchange, callback);
+            }
 
-                // we did not use any of the eips, but just invoked the bean
-                // so notify the callback we are done synchronously
-                callback.done(true);
-                return true;
+            //If it's Java 8 async result
+            if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+                CompletionStage<?> completionStage = (CompletionStage<?>) result;
+
+                completionStage
+                        .whenComplete((resultObject, e) -> {
+                            if (e != null) {
+                                exchange.setException(e);
+                            } else if (resultObject != null) {
+                                fillResult(exchange, resultObject);
+                            }
+                            callback.done(false);
+                        });
+                return false;
             }
 
-            public Object getThis() {
-                return pojo;
+            // if the method returns something then set the value returned on the Exchange
+            if (result != Void.TYPE && !method.getReturnType().equals(Void.TYPE)) {
+                fillResult(exchange, result);
             }
 
-            public AccessibleObject getStaticPart() {
-                return method;
+            // we did not use any of the eips, but just invoked the bean
+            // so notify the callback we are done synchronously
+            callback.done(true);
+            return true;
+        }
+
+        /**
+         * Invokes the method with the arguments which was bound one by one
+         */
+        private Object invokeBound() throws InvocationTargetException {
+            Object b1 = arity > 0 ? handleInvoker.adapt(0, a1) : null;
+            Object b2 = arity > 1 ? handleInvoker.adapt(1, a2) : null;
+            Object b3 = arity > 2 ? handleInvoker.adapt(2, a3) : null;
+            if (!handleInvoker.canInvoke(pojo) || b1 == MethodHandleInvoker.NO_MATCH || b2 == MethodHandleInvoker.NO_MATCH
+                    || b3 == MethodHandleInvoker.NO_MATCH) {
+                // reflection reports the invalid arguments
+                return invoke(method, pojo, getArguments(), exchange);
             }
-        };
+            try {
+                switch (arity) {
+                    case 0:
+                        return handleInvoker.invoke0(pojo);
+                    case 1:
+                        return handleInvoker.invoke1(pojo, b1);
+                    case 2:
+                        return handleInvoker.invoke2(pojo, b1, b2);
+                    default:
+                        return handleInvoker.invoke3(pojo, b1, b2, b3);
+                }
+            } catch (Throwable e) {
+                // same as reflection which wraps any exception thrown from the method
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        @Override
+        public Object getThis() {
+            return pojo;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
     }
 
     private void fillResult(Exchange exchange, Object result) {
@@ -490,6 +592,15 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        MethodHandleInvoker mhi = mth == method ? methodHandleInvoker() : null;
+        if (mhi != null && mhi.canInvoke(pojo, arguments)) {
+            try {
+                return mhi.invoke(pojo, arguments);
+            } catch (Throwable e) {
+                // same as reflection which wraps any exception thrown from the method
+                throw new InvocationTargetException(e);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -503,6 +614,18 @@ public class MethodInfo {
         }
     }
 
+    private MethodHandleInvoker methodHandleInvoker() {
+        MethodHandleInvoker answer = invoker;
+        if (answer == null && invocations <= METHOD_HANDLE_THRESHOLD) {
+            // its okay its not thread safe, as the worst case is creating the invoker more than once
+            if (++invocations > METHOD_HANDLE_THRESHOLD) {
+                answer = MethodHandleInvoker.create(method);
+                invoker = answer;
+            }
+        }
+        return answer;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -546,9 +669,15 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // the parameter types are resolved once instead of on each evaluation
+        private final Class<?>[] parameterTypes;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.parameterTypes = new Class<?>[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                parameterTypes[i] = parameters.get(i).getType();
+            }
         }
 
         @Override
@@ -566,7 +695,17 @@ public class MethodInfo {
         @SuppressWarnings("unchecked")
         public <T> T evaluate(Exchange exchange, Class<T> type) {
             Object body = exchange.getIn().getBody();
+            Iterator<?> it = parameterValues(exchange);
+            Object[] answer = evaluateParameterExpressions(exchange, body, it);
+            return (T) answer;
+        }
 
+        /**
+         * The parameter values which can be provided in the method name syntax
+         *
+         * @return an iterator of the parameter values, or <tt>null</tt> if there are no parameter values
+         */
+        Iterator<?> parameterValues(Exchange exchange) {
             // if there was an explicit method name to invoke, then we should support using
             // any provided parameter values in the method name
             String methodName = exchange.getIn().getHeader(BeanConstants.BEAN_METHOD_NAME, String.class);
@@ -588,9 +727,7 @@ public class MethodInfo {
             if (methodName != null) {
                 exchange.getIn().removeHeader(Exchange.BEAN_METHOD_NAME);
             }
-
-            Object[] answer = evaluateParameterExpressions(exchange, body, it);
-            return (T) answer;
+            return it;
         }
 
         /**
@@ -599,37 +736,42 @@ public class MethodInfo {
         private Object[] evaluateParameterExpressions(Exchange exchange, Object body, Iterator<?> it) {
             Object[] answer = new Object[expressions.length];
             for (int i = 0; i < expressions.length; i++) {
+                answer[i] = evaluateParameter(exchange, body, it, i);
+            }
 
-                if (body instanceof StreamCache) {
-                    // need to reset stream cache for each expression as you may access the message body in multiple parameters
-                    ((StreamCache) body).reset();
-                }
+            return answer;
+        }
 
-                // grab the parameter value for the given index
-                Object parameterValue = it != null && it.hasNext() ? it.next() : null;
-                // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
-                // the value for the parameter to use
-                Object value = null;
-
-                // prefer to use parameter value if given, as they override any bean parameter binding
-                // we should skip * as its a type placeholder to indicate any type
-                if (parameterValue != null && !parameterValue.equals("*")) {
-                    // evaluate the parameter value binding
-                    value = evaluateParameterValue(exchange, i, parameterValue, parameterType);
-                }
-                // use bean parameter binding, if still no value
-                Expression expression = expressions[i];
-                if (value == null && expression != null) {
-                    value = evaluateParameterBinding(exchange, expression, i, parameterType);
-                }
-                // remember the value to use
-                if (value != Void.TYPE) {
-                    answer[i] = value;
-                }
+        /**
+         * Evaluates the parameter expression at the given index, where the parameter values must be evaluated in order
+         *
+         * @return the value for the parameter to use
+         */
+        Object evaluateParameter(Exchange exchange, Object body, Iterator<?> it, int i) {
+            if (body instanceof StreamCache) {
+                // need to reset stream cache for each expression as you may access the message body in multiple parameters
+                ((StreamCache) body).reset();
             }
 
-            return answer;
+            // grab the parameter value for the given index
+            Object parameterValue = it != null && it.hasNext() ? it.next() : null;
+            // and the expected parameter type
+            Class<?> parameterType = parameterTypes[i];
+            // the value for the parameter to use
+            Object value = null;
+
+            // prefer to use parameter value if given, as they override any bean parameter binding
+            // we should skip * as its a type placeholder to indicate any type
+            if (parameterValue != null && !parameterValue.equals("*")) {
+                // evaluate the parameter value binding
+                value = evaluateParameterValue(exchange, i, parameterValue, parameterType);
+            }
+            // use bean parameter binding, if still no value
+            Expression expression = expressions[i];
+            if (value == null && expression != null) {
+                value = evaluateParameterBinding(exchange, expression, i, parameterType);
+            }
+            return value != Void.TYPE ? value : null;
         }
 
         /**
@@ -59,6 +59,12 @@ public class CsvDataFormatConfigurer extends PropertyConfigurerSupport implement
         case "captureHeaderRecord": dataformat.setCaptureHeaderRecord(property(camelContext, boolean.class, value)); return true;
         case "lazyload":
         case "lazyLoad": dataformat.setLazyLoad(property(camelContext, boolean.class, value)); return true;
+        case "batchsize":
+        case "batchSize": dataformat.setBatchSize(property(camelContext, int.class, value)); return true;
+        case "reuserows":
+        case "reuseRows": dataformat.setReuseRows(property(camelContext, boolean.class, value)); return true;
+        case "selectcolumns":
+        case "selectColumns": dataformat.setSelectColumns(property(camelContext, java.lang.String.class, value)); return true;
         case "usemaps":
         case "useMaps": dataformat.setUseMaps(property(camelContext, boolean.class, value)); return true;
         case "useorderedmaps":
@@ -64,6 +64,9 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
     // Unmarshal options
     private boolean captureHeaderRecord;
     private boolean lazyLoad;
+    private int batchSize;
+    private boolean reuseRows;
+    private String selectColumns;
     private boolean useMaps;
     private boolean useOrderedMaps;
     private CsvRecordConverter<?> recordConverter;
@@ -698,6 +701,71 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Gets the number of records to group together as a list when lazily loading the records.
+     *
+     * @return the batch size, or {@code 0} to not group the records
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of records to group together as a list when lazily loading the records. The iterator then
+     * produces a list of records, instead of a single record.
+     *
+     * @param  batchSize the batch size, or {@code 0} to not group the records
+     * @return           Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Indicates whether or not the lists or maps of the records (and the list of the batch) are reused when lazily
+     * loading the records.
+     *
+     * @return {@code true} to reuse the rows, {@code false} otherwise
+     */
+    public boolean isReuseRows() {
+        return reuseRows;
+    }
+
+    /**
+     * Sets whether or not the lists or maps of the records (and the list of the batch) are reused when lazily loading
+     * the records. This allows to unmarshal large files in constant memory, however the values must be processed (or
+     * copied) before the next record is read.
+     *
+     * @param  reuseRows {@code true} to reuse the rows, {@code false} otherwise
+     * @return           Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setReuseRows(boolean reuseRows) {
+        this.reuseRows = reuseRows;
+        return this;
+    }
+
+    /**
+     * Gets the comma separated list of the columns (header names or zero based indexes) to unmarshal.
+     *
+     * @return the columns to unmarshal, or {@code null} for all columns
+     */
+    public String getSelectColumns() {
+        return selectColumns;
+    }
+
+    /**
+     * Sets the comma separated list of the columns (header names or zero based indexes) to unmarshal. This is not used
+     * by a custom record converter.
+     *
+     * @param  selectColumns the columns to unmarshal, or {@code null} for all columns
+     * @return               Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setSelectColumns(String selectColumns) {
+        this.selectColumns = selectColumns;
+        return this;
+    }
+
     /**
      * Indicates whether or not the unmarshalling should produce maps instead of lists.
      *
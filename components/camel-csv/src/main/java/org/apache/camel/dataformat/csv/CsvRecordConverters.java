@@ -17,6 +17,8 @@
 package org.apache.camel.dataformat.csv;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -90,4 +92,108 @@ final class CsvRecordConverters {
             return record.toMap();
         }
     }
+
+    /**
+     * Returns a converter that transforms the CSV record into a list with the values of the given columns. The lists
+     * can be reused, in which case the converter must only be used by a single thread.
+     *
+     * @param  columns    indexes of the columns to include, or {@code null} for all columns
+     * @param  reusedRows number of lists to reuse in a round-robin fashion, or {@code 0} to create a new list per
+     *                    record
+     * @return            converter that transforms the CSV record into a list
+     */
+    public static CsvRecordConverter<List<String>> selectListConverter(int[] columns, int reusedRows) {
+        return new SelectListCsvRecordConverter(columns, reusedRows);
+    }
+
+    private static final class SelectListCsvRecordConverter implements CsvRecordConverter<List<String>> {
+        private final int[] columns;
+        private final List<List<String>> rows;
+        private int next;
+
+        private SelectListCsvRecordConverter(int[] columns, int reusedRows) {
+            this.columns = columns;
+            this.rows = new ArrayList<>(reusedRows);
+            for (int i = 0; i < reusedRows; i++) {
+                rows.add(new ArrayList<>());
+            }
+        }
+
+        @Override
+        public List<String> convertRecord(CSVRecord record) {
+            List<String> answer;
+            if (rows.isEmpty()) {
+                answer = new ArrayList<>(columns != null ? columns.length : record.size());
+            } else {
+                answer = rows.get(next);
+                next = (next + 1) % rows.size();
+                answer.clear();
+            }
+            if (columns == null) {
+                for (int i = 0; i < record.size(); i++) {
+                    answer.add(record.get(i));
+                }
+            } else {
+                for (int column : columns) {
+                    answer.add(column < record.size() ? record.get(column) : null);
+                }
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * Returns a converter that transforms the CSV record into a map with the values of the given columns. The maps can
+     * be reused, in which case the converter must only be used by a single thread.
+     *
+     * @param  names      the keys of the columns
+     * @param  columns    indexes of the columns to include
+     * @param  ordered    whether to use ordered maps
+     * @param  reusedRows number of maps to reuse in a round-robin fashion, or {@code 0} to create a new map per record
+     * @return            converter that transforms the CSV record into a map
+     */
+    public static CsvRecordConverter<Map<String, String>> selectMapConverter(
+            String[] names, int[] columns, boolean ordered, int reusedRows) {
+        return new SelectMapCsvRecordConverter(names, columns, ordered, reusedRows);
+    }
+
+    private static final class SelectMapCsvRecordConverter implements CsvRecordConverter<Map<String, String>> {
+        private final String[] names;
+        private final int[] columns;
+        private final boolean ordered;
+        private final List<Map<String, String>> rows;
+        private int next;
+
+        private SelectMapCsvRecordConverter(String[] names, int[] columns, boolean ordered, int reusedRows) {
+            this.names = names;
+            this.columns = columns;
+            this.ordered = ordered;
+            this.rows = new ArrayList<>(reusedRows);
+            for (int i = 0; i < reusedRows; i++) {
+                rows.add(newMap());
+            }
+        }
+
+        @Override
+        public Map<String, String> convertRecord(CSVRecord record) {
+            Map<String, String> answer;
+            if (rows.isEmpty()) {
+                answer = newMap();
+            } else {
+                answer = rows.get(next);
+                next = (next + 1) % rows.size();
+                answer.clear();
+            }
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] < record.size()) {
+                    answer.put(names[i], record.get(columns[i]));
+                }
+            }
+            return answer;
+        }
+
+        private Map<String, String> newMap() {
+            return ordered ? new LinkedHashMap<>(columns.length * 2) : new HashMap<>(columns.length * 2);
+        }
+    }
 }
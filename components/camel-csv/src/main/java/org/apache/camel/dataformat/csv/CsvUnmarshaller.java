@@ -24,6 +24,8 @@ import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
@@ -40,11 +42,13 @@ abstract class CsvUnmarshaller {
     protected final CSVFormat format;
     protected final CsvDataFormat dataFormat;
     protected final CsvRecordConverter<?> converter;
+    protected final String[] selectColumns;
 
     private CsvUnmarshaller(CSVFormat format, CsvDataFormat dataFormat) {
         this.format = format;
         this.dataFormat = dataFormat;
         this.converter = extractConverter(dataFormat);
+        this.selectColumns = dataFormat.getSelectColumns() != null ? dataFormat.getSelectColumns().split(",") : null;
     }
 
     public static CsvUnmarshaller create(CSVFormat format, CsvDataFormat dataFormat) {
@@ -77,6 +81,72 @@ abstract class CsvUnmarshaller {
      */
     public abstract Object unmarshal(Exchange exchange, InputStream inputStream) throws IOException;
 
+    /**
+     * Creates the converter to use for the records of the given parser. If the columns are selected or the rows are
+     * reused, then the converter is created for this parser only, as it depends on its header and is not thread-safe.
+     *
+     * @param  parser     the parser
+     * @param  reusedRows number of rows to reuse, or {@code 0} to not reuse the rows
+     * @return            the converter to use
+     */
+    protected CsvRecordConverter<?> createConverter(CSVParser parser, int reusedRows) {
+        if (dataFormat.getRecordConverter() != null || selectColumns == null && reusedRows == 0) {
+            return converter;
+        }
+        boolean maps = dataFormat.isUseMaps() || dataFormat.isUseOrderedMaps();
+        Map<String, Integer> headerMap = parser.getHeaderMap();
+
+        int[] columns = null;
+        String[] names = null;
+        if (selectColumns != null) {
+            columns = new int[selectColumns.length];
+            names = new String[selectColumns.length];
+            for (int i = 0; i < selectColumns.length; i++) {
+                String column = selectColumns[i].trim();
+                Integer index = headerMap != null ? headerMap.get(column) : null;
+                if (index == null) {
+                    try {
+                        index = Integer.valueOf(column);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException(
+                                "Cannot select column: " + column + " as it is not a header name or column index");
+                    }
+                    column = headerName(headerMap, index, column);
+                }
+                columns[i] = index;
+                names[i] = column;
+            }
+        } else if (maps && headerMap != null) {
+            columns = new int[headerMap.size()];
+            names = new String[headerMap.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : headerMap.entrySet()) {
+                names[i] = entry.getKey();
+                columns[i] = entry.getValue();
+                i++;
+            }
+        }
+
+        if (maps) {
+            if (names == null) {
+                throw new IllegalArgumentException("Cannot unmarshal to maps as the CSV has no header");
+            }
+            return CsvRecordConverters.selectMapConverter(names, columns, dataFormat.isUseOrderedMaps(), reusedRows);
+        }
+        return CsvRecordConverters.selectListConverter(columns, reusedRows);
+    }
+
+    private static String headerName(Map<String, Integer> headerMap, int index, String defaultName) {
+        if (headerMap != null) {
+            for (Map.Entry<String, Integer> entry : headerMap.entrySet()) {
+                if (entry.getValue() == index) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return defaultName;
+    }
+
     private static CsvRecordConverter<?> extractConverter(CsvDataFormat dataFormat) {
         if (dataFormat.getRecordConverter() != null) {
             return dataFormat.getRecordConverter();
@@ -107,7 +177,7 @@ abstract class CsvUnmarshaller {
                 if (dataFormat.isCaptureHeaderRecord()) {
                     exchange.getMessage().setHeader(CsvConstants.HEADER_RECORD, parser.getHeaderNames());
                 }
-                return asList(parser.iterator(), converter);
+                return asList(parser.iterator(), createConverter(parser, 0));
             } finally {
                 IOHelper.close(parser);
             }
@@ -138,7 +208,15 @@ abstract class CsvUnmarshaller {
             try {
                 reader = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
                 CSVParser parser = new CSVParser(reader, format);
-                CsvIterator answer = new CsvIterator(parser, converter);
+                int batchSize = dataFormat.getBatchSize();
+                int reusedRows = dataFormat.isReuseRows() ? Math.max(1, batchSize) : 0;
+                CsvRecordConverter<?> rowConverter = createConverter(parser, reusedRows);
+                Closeable answer;
+                if (batchSize > 0) {
+                    answer = new CsvBatchIterator(parser, rowConverter, batchSize, dataFormat.isReuseRows());
+                } else {
+                    answer = new CsvIterator(parser, rowConverter);
+                }
                 // add to UoW so we can close the iterator so it can release any resources
                 exchange.adapt(ExtendedExchange.class).addOnCompletion(new CsvUnmarshalOnCompletion(answer));
                 return answer;
@@ -187,5 +265,56 @@ abstract class CsvUnmarshaller {
             }
         }
     }
+
+    /**
+     * This class groups the converted records of the CSV iterator into lists of the batch size.
+     *
+     * @param <T> Converted type
+     */
+    private static final class CsvBatchIterator<T> implements Iterator<List<T>>, Closeable {
+        private final CSVParser parser;
+        private final Iterator<CSVRecord> iterator;
+        private final CsvRecordConverter<T> converter;
+        private final int batchSize;
+        private final List<T> batch;
+
+        private CsvBatchIterator(CSVParser parser, CsvRecordConverter<T> converter, int batchSize, boolean reuse) {
+            this.parser = parser;
+            this.iterator = parser.iterator();
+            this.converter = converter;
+            this.batchSize = batchSize;
+            this.batch = reuse ? new ArrayList<>(batchSize) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> answer;
+            if (batch != null) {
+                answer = batch;
+                answer.clear();
+            } else {
+                answer = new ArrayList<>(batchSize);
+            }
+            while (answer.size() < batchSize && iterator.hasNext()) {
+                answer.add(converter.convertRecord(iterator.next()));
+            }
+            return answer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!parser.isClosed()) {
+                parser.close();
+            }
+        }
+    }
     //endregion
 }
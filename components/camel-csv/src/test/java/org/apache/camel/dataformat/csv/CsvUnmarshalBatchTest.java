@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test for unmarshalling CSV in batches, with reused rows and selected columns.
+ */
+public class CsvUnmarshalBatchTest extends CamelTestSupport {
+
+    private static final String CSV = "a,b,c\n1,2,3\n4,5,6\n7,8,9\n";
+
+    @EndpointInject("mock:batch")
+    private MockEndpoint batch;
+
+    @EndpointInject("mock:select")
+    private MockEndpoint select;
+
+    @EndpointInject("mock:map")
+    private MockEndpoint map;
+
+    @Test
+    void testBatchReuseRows() throws Exception {
+        batch.expectedBodiesReceived("[[3, 1], [6, 4]]", "[[9, 7]]");
+
+        template.sendBody("direct:batch", CSV);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    void testSelectColumns() throws Exception {
+        select.expectedMessageCount(1);
+
+        template.sendBody("direct:select", CSV);
+
+        assertMockEndpointsSatisfied();
+
+        List<?> body = select.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(Arrays.asList(Arrays.asList("3", "1"), Arrays.asList("6", "4"), Arrays.asList("9", "7")), body);
+    }
+
+    @Test
+    void testSelectColumnsMap() throws Exception {
+        map.expectedMessageCount(3);
+
+        template.sendBody("direct:map", CSV);
+
+        assertMockEndpointsSatisfied();
+
+        Map<?, ?> body = map.getReceivedExchanges().get(1).getIn().getBody(Map.class);
+        assertEquals(2, body.size());
+        assertEquals("6", body.get("c"));
+        assertEquals("4", body.get("a"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                CsvDataFormat batchCsv = new CsvDataFormat()
+                        .setSkipHeaderRecord(true)
+                        .setLazyLoad(true)
+                        .setBatchSize(2)
+                        .setReuseRows(true)
+                        .setSelectColumns("c,0");
+
+                // the rows are reused, so the batch must be processed before the next batch is read
+                from("direct:batch")
+                        .unmarshal(batchCsv)
+                        .split(body()).streaming()
+                        .process(e -> e.getMessage().setBody(e.getMessage().getBody().toString()))
+                        .to("mock:batch");
+
+                CsvDataFormat selectCsv = new CsvDataFormat()
+                        .setSkipHeaderRecord(true)
+                        .setSelectColumns("c,0");
+
+                from("direct:select")
+                        .unmarshal(selectCsv)
+                        .to("mock:select");
+
+                CsvDataFormat mapCsv = new CsvDataFormat()
+                        .setUseMaps(true)
+                        .setLazyLoad(true)
+                        .setSelectColumns("c,0");
+
+                from("direct:map")
+                        .unmarshal(mapCsv)
+                        .split(body())
+                        .to("mock:map");
+            }
+        };
+    }
+}
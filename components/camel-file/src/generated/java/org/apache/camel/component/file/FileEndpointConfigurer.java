@@ -181,6 +181,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "startingDirectoryMustExist": target.setStartingDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
         case "startingdirectorymusthaveaccess":
         case "startingDirectoryMustHaveAccess": target.setStartingDirectoryMustHaveAccess(property(camelContext, boolean.class, value)); return true;
+        case "streamingscan":
+        case "streamingScan": target.setStreamingScan(property(camelContext, boolean.class, value)); return true;
         case "synchronous": target.setSynchronous(property(camelContext, boolean.class, value)); return true;
         case "tempfilename":
         case "tempFileName": target.setTempFileName(property(camelContext, java.lang.String.class, value)); return true;
@@ -357,6 +359,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "startingDirectoryMustExist": return boolean.class;
         case "startingdirectorymusthaveaccess":
         case "startingDirectoryMustHaveAccess": return boolean.class;
+        case "streamingscan":
+        case "streamingScan": return boolean.class;
         case "synchronous": return boolean.class;
         case "tempfilename":
         case "tempFileName": return java.lang.String.class;
@@ -534,6 +538,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "startingDirectoryMustExist": return target.isStartingDirectoryMustExist();
         case "startingdirectorymusthaveaccess":
         case "startingDirectoryMustHaveAccess": return target.isStartingDirectoryMustHaveAccess();
+        case "streamingscan":
+        case "streamingScan": return target.isStreamingScan();
         case "synchronous": return target.isSynchronous();
         case "tempfilename":
         case "tempFileName": return target.getTempFileName();
@@ -18,12 +18,17 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +44,7 @@ import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +58,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    // the directories being scanned when using streaming scan, with the current directory on top
+    private final Deque<DirectoryCursor> cursors = new ArrayDeque<>();
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -124,27 +132,117 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 // Windows can report false to a file on a share so regard it
                 // always as a file (if it is not a directory)
                 if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
-                    LOG.trace("Adding valid file: {}", file);
-                    // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
-                        }
+                    addValidFile(file, gf, fileList);
+                }
 
-                        gf.setExtendedAttributes(allAttributes);
-                    }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Polls the directories using a {@link DirectoryStream}, which reads the directory entries lazily instead of
+     * listing the whole directory up front. When the maximum number of messages per poll is reached, then the open
+     * directory streams are kept, and the next poll continues the scan from where it stopped.
+     */
+    private boolean pollDirectoryStream(File directory, List<GenericFile<File>> fileList, int depth) {
+        if (cursors.isEmpty()) {
+            DirectoryCursor root = openDirectory(directory, depth + 1);
+            if (root == null) {
+                return true;
+            }
+            cursors.push(root);
+        } else if (LOG.isTraceEnabled()) {
+            LOG.trace("Continuing scan of directory: {}", cursors.peek().directory);
+        }
 
-                    fileList.add(gf);
+        try {
+            while (!cursors.isEmpty()) {
+                DirectoryCursor cursor = cursors.peek();
+                if (!cursor.iterator.hasNext()) {
+                    // this directory is done so continue with its parent
+                    cursors.pop();
+                    IOHelper.close(cursor.stream, "directory stream", LOG);
+                    continue;
+                }
+
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
+
+                File file = cursor.iterator.next().toFile();
+                LOG.trace("Found file: {}", file);
+
+                // creates a generic file
+                GenericFile<File> gf
+                        = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+
+                if (resumeStrategy != null) {
+                    ResumeAdapter adapter = resumeStrategy.getAdapter();
+                    if (adapter instanceof FileOffsetResumeAdapter) {
+                        ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
+                        adapter.resume();
+                    }
                 }
 
+                if (gf.isDirectory()) {
+                    if (endpoint.isRecursive() && cursor.depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                        DirectoryCursor child = openDirectory(file, cursor.depth + 1);
+                        if (child != null) {
+                            cursors.push(child);
+                        }
+                    }
+                } else if (cursor.depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+                    addValidFile(file, gf, fileList);
+                }
             }
+        } catch (DirectoryIteratorException e) {
+            closeCursors();
+            throw new GenericFileOperationFailedException("Error scanning directory: " + directory, e.getCause());
         }
 
         return true;
     }
 
+    private DirectoryCursor openDirectory(File directory, int depth) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+        }
+        // skip the entries which cannot match by their name before reading their attributes
+        boolean recursive = endpoint.isRecursive();
+        DirectoryStream.Filter<Path> filter = path -> isMatchedName(path.getFileName().toString(), recursive);
+        try {
+            return new DirectoryCursor(directory, depth, Files.newDirectoryStream(directory.toPath(), filter));
+        } catch (IOException e) {
+            LOG.debug("Cannot scan directory: {} due to: {}. This directory is skipped.", directory, e.getMessage());
+            return null;
+        }
+    }
+
+    private void closeCursors() {
+        while (!cursors.isEmpty()) {
+            IOHelper.close(cursors.pop().stream, "directory stream", LOG);
+        }
+    }
+
+    private void addValidFile(File file, GenericFile<File> gf, List<GenericFile<File>> fileList) {
+        LOG.trace("Adding valid file: {}", file);
+        // matched file so add
+        if (extendedAttributes != null) {
+            Path path = file.toPath();
+            Map<String, Object> allAttributes = new HashMap<>();
+            for (String attribute : extendedAttributes) {
+                readAttributes(file, path, allAttributes, attribute);
+            }
+
+            gf.setExtendedAttributes(allAttributes);
+        }
+
+        fileList.add(gf);
+    }
+
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
@@ -152,12 +250,17 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         File directory = new File(fileName);
         if (!directory.exists() || !directory.isDirectory()) {
             LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
+            // start from scratch when the directory appears again
+            closeCursors();
             if (getEndpoint().isDirectoryMustExist()) {
                 throw new GenericFileOperationFailedException("Directory does not exist: " + directory);
             }
             return true;
         }
 
+        if (getEndpoint().isStreamingScan()) {
+            return pollDirectoryStream(directory, fileList, depth);
+        }
         return pollDirectory(directory, fileList, depth);
     }
 
@@ -223,6 +326,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, File[] files) {
         String onlyName = FileUtil.stripPath(doneFileName);
+        if (files == null) {
+            // the directory is scanned lazily so check the done file on the file system
+            if (new File(file.getFile().getParentFile(), onlyName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
         // the done file name must be among the files
         for (File f : files) {
             if (f.getName().equals(onlyName)) {
@@ -325,11 +436,22 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     protected void doStart() throws Exception {
         if (resumeStrategy != null) {
             resumeStrategy.loadCache();
+            if (getEndpoint().isStreamingScan() && resumeStrategy.getAdapter() instanceof DirectoryEntriesResumeAdapter) {
+                throw new IllegalArgumentException(
+                        "Cannot use streamingScan together with a directory entries resume strategy");
+            }
         }
 
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        closeCursors();
+    }
+
     @Override
     public ResumeStrategy getResumeStrategy() {
         return resumeStrategy;
@@ -344,4 +466,18 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     public String adapterFactoryService() {
         return "file-adapter-factory";
     }
+
+    private static final class DirectoryCursor {
+        private final File directory;
+        private final int depth;
+        private final DirectoryStream<Path> stream;
+        private final Iterator<Path> iterator;
+
+        private DirectoryCursor(File directory, int depth, DirectoryStream<Path> stream) {
+            this.directory = directory;
+            this.depth = depth;
+            this.stream = stream;
+            this.iterator = stream.iterator();
+        }
+    }
 }
@@ -75,6 +75,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean streamingScan;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -121,6 +123,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
             throw new IllegalArgumentException("You cannot set both delete=true and move options");
         }
 
+        if (isStreamingScan() && isPreSort()) {
+            throw new IllegalArgumentException("You cannot set both streamingScan=true and preSort=true");
+        }
+
         // if noop=true then idempotent should also be configured
         if (isNoop() && !isIdempotentSet()) {
             LOG.info("Endpoint is configured with noop=true so forcing endpoint to be idempotent as well");
@@ -360,6 +366,22 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isStreamingScan() {
+        return streamingScan;
+    }
+
+    /**
+     * Whether to scan the directories lazily using a {@link java.nio.file.DirectoryStream}, instead of listing all the
+     * files of a directory up front. Together with maxMessagesPerPoll, the scan stops as soon as the limit is reached,
+     * and the next poll continues the scan from where it stopped. This can be used to poll directories with a very
+     * large number of files with a bounded memory usage. Files which are skipped during a scan, for example because
+     * they are in progress, are only picked up again when the scan restarts from the beginning of the directory. Cannot
+     * be used together with preSort.
+     */
+    public void setStreamingScan(boolean streamingScan) {
+        this.streamingScan = streamingScan;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
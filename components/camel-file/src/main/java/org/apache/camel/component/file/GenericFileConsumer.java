@@ -622,6 +622,50 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return false;
     }
 
+    /**
+     * Strategy to perform the file matching which only requires the name of the file, so files can be skipped before
+     * their attributes are read. The include and exclude options are only applied when the file cannot be a directory,
+     * as directories are not matched by those options.
+     *
+     * @param  name           the file name without any paths
+     * @param  maybeDirectory whether the file may be a directory
+     * @return                <tt>false</tt> if the file is known to not match, <tt>true</tt> otherwise
+     */
+    protected boolean isMatchedName(String name, boolean maybeDirectory) {
+        // names starting with dot and lock files are always skipped
+        if (name.startsWith(".") || name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX)) {
+            return false;
+        }
+        if (maybeDirectory) {
+            return true;
+        }
+
+        // exclude take precedence over include
+        if (excludePattern != null && excludePattern.matcher(name).matches()) {
+            return false;
+        }
+        if (excludeExt != null) {
+            String fname = name.toLowerCase();
+            for (String exclude : excludeExt) {
+                if (fname.endsWith("." + exclude)) {
+                    return false;
+                }
+            }
+        }
+        if (includePattern != null && !includePattern.matcher(name).matches()) {
+            return false;
+        }
+        if (includeExt != null) {
+            String fname = name.toLowerCase();
+            boolean any = false;
+            for (String include : includeExt) {
+                any |= fname.endsWith("." + include);
+            }
+            return any;
+        }
+        return true;
+    }
+
     /**
      * Strategy to perform file matching based on endpoint configuration.
      * <p/>
@@ -33,6 +33,10 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "authPassword": target.setAuthPassword(property(camelContext, java.lang.String.class, value)); return true;
         case "authusername":
         case "authUsername": target.setAuthUsername(property(camelContext, java.lang.String.class, value)); return true;
+        case "asyncclient":
+        case "asyncClient": target.setAsyncClient(property(camelContext, boolean.class, value)); return true;
+        case "asyncclientiothreadcount":
+        case "asyncClientIoThreadCount": target.setAsyncClientIoThreadCount(property(camelContext, int.class, value)); return true;
         case "authenticationpreemptive":
         case "authenticationPreemptive": target.setAuthenticationPreemptive(property(camelContext, boolean.class, value)); return true;
         case "bridgeendpoint":
@@ -138,6 +142,10 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "authPassword": return java.lang.String.class;
         case "authusername":
         case "authUsername": return java.lang.String.class;
+        case "asyncclient":
+        case "asyncClient": return boolean.class;
+        case "asyncclientiothreadcount":
+        case "asyncClientIoThreadCount": return int.class;
         case "authenticationpreemptive":
         case "authenticationPreemptive": return boolean.class;
         case "bridgeendpoint":
@@ -244,6 +252,10 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "authPassword": return target.getAuthPassword();
         case "authusername":
         case "authUsername": return target.getAuthUsername();
+        case "asyncclient":
+        case "asyncClient": return target.isAsyncClient();
+        case "asyncclientiothreadcount":
+        case "asyncClientIoThreadCount": return target.getAsyncClientIoThreadCount();
         case "authenticationpreemptive":
         case "authenticationPreemptive": return target.isAuthenticationPreemptive();
         case "bridgeendpoint":
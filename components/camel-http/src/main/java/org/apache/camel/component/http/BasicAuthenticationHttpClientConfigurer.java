@@ -22,6 +22,7 @@ import org.apache.http.auth.NTCredentials;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
 public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfigurer {
     private final String username;
@@ -38,6 +39,15 @@ public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfig
 
     @Override
     public void configureHttpClient(HttpClientBuilder clientBuilder) {
+        clientBuilder.setDefaultCredentialsProvider(createCredentialsProvider());
+    }
+
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        clientBuilder.setDefaultCredentialsProvider(createCredentialsProvider());
+    }
+
+    private BasicCredentialsProvider createCredentialsProvider() {
         Credentials defaultcreds;
         if (domain != null) {
             defaultcreds = new NTCredentials(username, password, host, domain);
@@ -46,7 +56,7 @@ public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfig
         }
         BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
         credentialsProvider.setCredentials(AuthScope.ANY, defaultcreds);
-        clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+        return credentialsProvider;
     }
 
 }
@@ -377,6 +377,8 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         endpoint.setSkipResponseHeaders(skipResponseHeaders);
         endpoint.setUserAgent(userAgent);
         endpoint.setMuteException(muteException);
+        // the non-blocking client creates its own connection manager so it needs the ssl configuration
+        endpoint.setSslContextParameters(sslContextParameters);
 
         // configure the endpoint with the common configuration from the component
         if (getHttpConfiguration() != null) {
@@ -22,6 +22,7 @@ import java.net.URISyntaxException;
 import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Category;
 import org.apache.camel.Consumer;
@@ -43,14 +44,26 @@ import org.apache.http.HttpHost;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -158,6 +171,23 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private boolean skipResponseHeaders;
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     private String userAgent;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should use the non-blocking Apache HttpAsyncClient instead of the blocking HttpClient."
+                            + " The thread sending the request is then not blocked waiting for the response, so many concurrent requests"
+                            + " do not need a thread each while waiting. The response is processed, and the routing continued,"
+                            + " by a worker thread pool of the producer, which is bounded by the default thread pool profile."
+                            + " The response body is buffered in memory before it is returned."
+                            + " The non-blocking client supports HTTP/1.1 only, and does not support HTTP/2."
+                            + " The httpClient, clientBuilder and clientConnectionManager options are not used by the non-blocking client.")
+    private boolean asyncClient;
+    @UriParam(label = "producer,advanced",
+              description = "The number of I/O dispatcher threads of the non-blocking HttpAsyncClient,"
+                            + " which is used when the asyncClient option is enabled."
+                            + " By default the number of available processors is used.")
+    private int asyncClientIoThreadCount;
+
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private volatile PoolingNHttpClientConnectionManager asyncClientConnectionManager;
 
     public HttpEndpoint() {
     }
@@ -236,19 +266,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
-                    && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug(
-                        "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
-                        host, port, scheme);
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = createProxyFromGlobalOptions();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -282,6 +301,131 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    /**
+     * Gets the non-blocking {@link CloseableHttpAsyncClient} used by the producer when the asyncClient option is
+     * enabled, which is created and started on first use.
+     */
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() throws Exception {
+        if (httpAsyncClient == null) {
+            httpAsyncClient = createHttpAsyncClient();
+            httpAsyncClient.start();
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new non-blocking {@link CloseableHttpAsyncClient} instance, which is configured the
+     * same way as the blocking {@link HttpClient}.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws Exception {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (asyncClientIoThreadCount > 0) {
+            ioReactorConfig.setIoThreadCount(asyncClientIoThreadCount);
+        }
+
+        SSLContext sslContext;
+        if (sslContextParameters != null) {
+            sslContext = sslContextParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        HostnameVerifier hostnameVerifier = x509HostnameVerifier;
+        if (hostnameVerifier == null) {
+            hostnameVerifier
+                    = getComponent() != null ? getComponent().getX509HostnameVerifier() : new DefaultHostnameVerifier();
+        }
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy> create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SSLIOSessionStrategy(sslContext, hostnameVerifier))
+                .build();
+
+        asyncClientConnectionManager
+                = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig.build()), registry);
+        // use the same connection limits as the connection manager of the blocking client
+        int max = 0;
+        int perRoute = 0;
+        if (clientConnectionManager instanceof PoolingHttpClientConnectionManager) {
+            max = ((PoolingHttpClientConnectionManager) clientConnectionManager).getMaxTotal();
+            perRoute = ((PoolingHttpClientConnectionManager) clientConnectionManager).getDefaultMaxPerRoute();
+        } else if (getComponent() != null) {
+            max = getComponent().getMaxTotalConnections();
+            perRoute = getComponent().getConnectionsPerRoute();
+        }
+        if (max > 0) {
+            asyncClientConnectionManager.setMaxTotal(max);
+        }
+        if (perRoute > 0) {
+            asyncClientConnectionManager.setDefaultMaxPerRoute(perRoute);
+        }
+
+        HttpAsyncClientBuilder asyncClientBuilder = HttpAsyncClientBuilder.create();
+        asyncClientBuilder.setConnectionManager(asyncClientConnectionManager);
+        asyncClientBuilder.setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout((int) connectionRequestTimeout)
+                .setConnectTimeout((int) connectTimeout)
+                .setSocketTimeout((int) socketTimeout)
+                .build());
+        asyncClientBuilder.setDefaultCookieStore(cookieStore);
+        if (getComponent() != null && getComponent().isCookieManagementDisabled()) {
+            asyncClientBuilder.disableCookieManagement();
+        }
+
+        if (!useSystemProperties) {
+            // configure http proxy from camelContext
+            HttpHost proxy = createProxyFromGlobalOptions();
+            if (proxy != null) {
+                asyncClientBuilder.setProxy(proxy);
+            }
+        } else {
+            asyncClientBuilder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            asyncClientBuilder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+        String userAgent = getUserAgent();
+        if (userAgent != null) {
+            asyncClientBuilder.setUserAgent(userAgent);
+        }
+
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(asyncClientBuilder);
+        }
+
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            asyncClientBuilder.setDefaultCookieStore(new NoopCookieStore());
+        }
+
+        if (isFollowRedirects()) {
+            asyncClientBuilder.setRedirectStrategy(new LaxRedirectStrategy());
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", asyncClientBuilder);
+        return asyncClientBuilder.build();
+    }
+
+    private HttpHost createProxyFromGlobalOptions() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug(
+                    "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
+                    host, port, scheme);
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -296,6 +440,14 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable) httpClient);
         }
+        synchronized (this) {
+            if (httpAsyncClient != null) {
+                // closing the client also shuts down its connection manager
+                IOHelper.close(httpAsyncClient);
+                httpAsyncClient = null;
+                asyncClientConnectionManager = null;
+            }
+        }
     }
 
     // Properties
@@ -610,65 +762,72 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.userAgent = userAgent;
     }
 
+    @ManagedAttribute(description = "Whether the producer uses the non-blocking HttpAsyncClient")
+    public boolean isAsyncClient() {
+        return asyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking Apache HttpAsyncClient instead of the blocking HttpClient. The
+     * thread sending the request is then not blocked waiting for the response, so many concurrent requests do not need
+     * a thread each while waiting. The response is processed, and the routing continued, by a worker thread pool of the
+     * producer, which is bounded by the default thread pool profile. The response body is buffered in memory before it
+     * is returned. The non-blocking client supports HTTP/1.1 only, and does not support HTTP/2. The httpClient,
+     * clientBuilder and clientConnectionManager options are not used by the non-blocking client.
+     */
+    public void setAsyncClient(boolean asyncClient) {
+        this.asyncClient = asyncClient;
+    }
+
+    public int getAsyncClientIoThreadCount() {
+        return asyncClientIoThreadCount;
+    }
+
+    /**
+     * The number of I/O dispatcher threads of the non-blocking HttpAsyncClient, which is used when the asyncClient
+     * option is enabled. By default the number of available processors is used.
+     */
+    public void setAsyncClientIoThreadCount(int asyncClientIoThreadCount) {
+        this.asyncClientIoThreadCount = asyncClientIoThreadCount;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getMax();
-            }
-        }
-        return -1;
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getMax() : -1;
     }
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getAvailable();
-            }
-        }
-        return -1;
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getAvailable() : -1;
     }
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getLeased();
-            }
-        }
-        return -1;
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getLeased() : -1;
     }
 
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
                                     + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getPending() : -1;
+    }
+
+    /**
+     * Gets the statistics of the connection pool of the client in use, which is the pool of the non-blocking client
+     * when the asyncClient option is enabled.
+     */
+    private PoolStats getClientConnectionsPoolStats() {
         ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
+        if (asyncClient) {
+            pool = asyncClientConnectionManager;
+        } else if (clientConnectionManager instanceof ConnPoolControl) {
             pool = (ConnPoolControl<?>) clientConnectionManager;
         }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getPending();
-            }
-        }
-        return -1;
+        return pool != null ? pool.getTotalStats() : null;
     }
 
 }
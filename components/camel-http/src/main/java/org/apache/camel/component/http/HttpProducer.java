@@ -33,7 +33,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -47,7 +50,7 @@ import org.apache.camel.http.base.HttpOperationFailedException;
 import org.apache.camel.http.common.HttpHelper;
 import org.apache.camel.http.common.HttpProtocolHeaderFilterStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.GZIPHelper;
 import org.apache.camel.support.MessageHelper;
@@ -68,12 +71,14 @@ import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.utils.URIUtils;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.protocol.HttpContext;
@@ -81,13 +86,15 @@ import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class HttpProducer extends DefaultProducer {
+public class HttpProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpProducer.class);
 
     private static final Integer OK_RESPONSE_CODE = 200;
 
     private HttpClient httpClient;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private ExecutorService workerPool;
     private final HttpContext httpContext;
     private final boolean throwException;
     private final boolean transferException;
@@ -100,7 +107,8 @@ public class HttpProducer extends DefaultProducer {
 
     public HttpProducer(HttpEndpoint endpoint) {
         super(endpoint);
-        this.httpClient = endpoint.getHttpClient();
+        // the blocking client is not used when using the non-blocking client
+        this.httpClient = endpoint.isAsyncClient() ? null : endpoint.getHttpClient();
         this.httpContext = endpoint.getHttpContext();
         this.throwException = endpoint.isThrowExceptionOnFailure();
         this.transferException = endpoint.isTransferException();
@@ -139,8 +147,112 @@ public class HttpProducer extends DefaultProducer {
         defaultHttpHost = URIUtils.extractHost(uri);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getEndpoint().isAsyncClient()) {
+            httpAsyncClient = getEndpoint().getHttpAsyncClient();
+            if (workerPool == null) {
+                // the pool is bounded by the default thread pool profile
+                workerPool = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this,
+                        "HttpAsyncClientWorkerPool");
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (workerPool != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(workerPool);
+            workerPool = null;
+        }
+    }
+
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpRequestBase httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+
+        // lets store the result in the output message.
+        HttpResponse httpResponse = null;
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+            }
+            httpResponse = executeMethod(httpHost, httpRequest);
+            handleResponse(exchange, httpRequest, httpResponse);
+        } finally {
+            releaseResponse(exchange, httpResponse);
+        }
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        if (httpAsyncClient == null) {
+            // use the blocking client
+            try {
+                process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        }
+
+        final HttpRequestBase httpRequest;
+        try {
+            httpRequest = createRequest(exchange);
+            HttpHost httpHost = createHost(httpRequest);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {} using non-blocking client", httpRequest.getMethod(),
+                        httpRequest.getURI());
+            }
+            executeMethodAsync(httpHost, httpRequest, new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse httpResponse) {
+                    // use worker pool to process the response and continue routing to avoid blocking the I/O dispatcher threads
+                    continueOnWorkerPool(() -> {
+                        try {
+                            handleResponse(exchange, httpRequest, httpResponse);
+                        } catch (Exception e) {
+                            exchange.setException(e);
+                        } finally {
+                            releaseResponse(exchange, httpResponse);
+                            callback.done(false);
+                        }
+                    });
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    exchange.setException(e);
+                    // use worker pool to continue routing to avoid blocking the I/O dispatcher threads
+                    continueOnWorkerPool(() -> callback.done(false));
+                }
+
+                @Override
+                public void cancelled() {
+                    exchange.setException(new CamelExchangeException(
+                            "Http request cancelled: " + httpRequest.getURI(), exchange));
+                    // use worker pool to continue routing to avoid blocking the I/O dispatcher threads
+                    continueOnWorkerPool(() -> callback.done(false));
+                }
+            });
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates the request to send to the remote server with the headers of the exchange
+     */
+    protected HttpRequestBase createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -160,7 +272,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpRequestBase httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(HttpConstants.HTTP_PROTOCOL_VERSION, String.class);
@@ -264,57 +375,77 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HTTP.CONN_CLOSE);
         }
 
-        // lets store the result in the output message.
-        HttpResponse httpResponse = null;
-        try {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
-            }
-            httpResponse = executeMethod(httpHost, httpRequest);
-            int responseCode = httpResponse.getStatusLine().getStatusCode();
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Http responseCode: {}", responseCode);
-            }
+        return httpRequest;
+    }
+
+    /**
+     * Handles the response from the remote server, by either populating the response on the exchange or throwing a
+     * {@link HttpOperationFailedException} if the response code is not ok
+     */
+    protected void handleResponse(Exchange exchange, HttpRequestBase httpRequest, HttpResponse httpResponse)
+            throws Exception {
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        int responseCode = httpResponse.getStatusLine().getStatusCode();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Http responseCode: {}", responseCode);
+        }
 
-            if (!throwException) {
-                // if we do not use failed exception then populate response for all response codes
+        if (!throwException) {
+            // if we do not use failed exception then populate response for all response codes
+            populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+        } else {
+            boolean ok;
+            if (minOkRange > 0) {
+                ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+            } else {
+                ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+            }
+            if (ok) {
+                // only populate response for OK response
                 populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
             } else {
-                boolean ok;
-                if (minOkRange > 0) {
-                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                } else {
-                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
-                }
-                if (ok) {
-                    // only populate response for OK response
-                    populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                } else {
-                    // operation failed so populate exception to throw
-                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
-                }
+                // operation failed so populate exception to throw
+                throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
             }
-        } finally {
-            final HttpResponse response = httpResponse;
-            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
-                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
-                    @Override
-                    public void onDone(Exchange exchange) {
-                        try {
-                            EntityUtils.consume(response.getEntity());
-                        } catch (Exception e) {
-                            // ignore
-                        }
+        }
+    }
+
+    /**
+     * Continues the exchange on the worker pool. If the bounded pool rejects the task, then the task runs on the calling
+     * I/O dispatcher thread, so the exchange is always continued.
+     */
+    private void continueOnWorkerPool(Runnable task) {
+        try {
+            workerPool.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Worker pool rejected the task, running it on the I/O dispatcher thread", e);
+            task.run();
+        }
+    }
+
+    /**
+     * Releases the response stream, either now or when the exchange is done if the stream cache is disabled
+     */
+    protected void releaseResponse(Exchange exchange, HttpResponse httpResponse) {
+        final HttpResponse response = httpResponse;
+        if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+            // close the stream at the end of the exchange to ensure it gets eventually closed later
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    try {
+                        EntityUtils.consume(response.getEntity());
+                    } catch (Exception e) {
+                        // ignore
                     }
-                });
-            } else if (httpResponse != null) {
-                // close the stream now
-                try {
-                    EntityUtils.consume(response.getEntity());
-                } catch (Exception e) {
-                    // ignore
                 }
+            });
+        } else if (httpResponse != null) {
+            // close the stream now
+            try {
+                EntityUtils.consume(response.getEntity());
+            } catch (Exception e) {
+                // ignore
             }
         }
     }
@@ -445,6 +576,27 @@ public class HttpProducer extends DefaultProducer {
         return httpClient.execute(httpHost, httpRequest, localContext);
     }
 
+    /**
+     * Strategy when executing the method (calling the remote server) using the non-blocking client.
+     *
+     * @param httpHost    the http host to call
+     * @param httpRequest the http request to execute
+     * @param callback    the callback which is invoked with the response by the I/O dispatcher thread of the client,
+     *                    and which must not block the thread
+     */
+    protected void executeMethodAsync(
+            HttpHost httpHost, HttpUriRequest httpRequest, FutureCallback<HttpResponse> callback) {
+        HttpContext localContext = new BasicHttpContext();
+        if (getEndpoint().isAuthenticationPreemptive()) {
+            BasicScheme basicAuth = new BasicScheme();
+            localContext.setAttribute("preemptive-auth", basicAuth);
+        }
+        if (httpContext != null) {
+            localContext = new BasicHttpContext(httpContext);
+        }
+        httpAsyncClient.execute(httpHost, httpRequest, localContext, callback);
+    }
+
     /**
      * Extracts the response headers
      *
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.http.HttpStatus;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpProducerAsyncClientTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setExpectationVerifier(getHttpExpectationVerifier()).setSslContext(getSSLContext())
+                .registerHandler("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .registerHandler("/post", new BasicValidationHandler(POST.name(), null, "rocks camel?", getExpectedContent()))
+                .registerHandler("/fail", (request, response, context) -> {
+                    response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void httpGet() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/get?asyncClient=true&asyncClientIoThreadCount=1", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpPost() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/post?asyncClient=true",
+                exchange1 -> exchange1.getIn().setBody("rocks camel?"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpFailed() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/fail?asyncClient=true", exchange1 -> {
+        });
+
+        assertNotNull(exchange);
+        assertTrue(exchange.isFailed());
+        HttpOperationFailedException cause = exchange.getException(HttpOperationFailedException.class);
+        assertNotNull(cause);
+        assertEquals(HttpStatus.SC_NOT_FOUND, cause.getStatusCode());
+    }
+
+    @Test
+    public void httpContinuesOnWorkerPool() throws Exception {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:async")
+                        .to(baseUrl + "/get?asyncClient=true")
+                        .process(e -> threadName.set(Thread.currentThread().getName()));
+            }
+        });
+
+        Exchange exchange = template.request("direct:async", exchange1 -> {
+        });
+
+        assertNotNull(exchange);
+        assertHeaders(exchange.getMessage().getHeaders());
+        assertBody(exchange.getMessage().getBody(String.class));
+        // the routing must continue on the worker pool of the producer and not on the I/O dispatcher threads of the client
+        assertNotNull(threadName.get());
+        assertTrue(threadName.get().contains("HttpAsyncClientWorkerPool"), "Should be a worker thread: " + threadName.get());
+    }
+
+    @Test
+    public void httpPoolStats() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/get?asyncClient=true", exchange1 -> {
+        });
+        assertFalse(exchange.isFailed());
+
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?asyncClient=true", HttpEndpoint.class);
+        assertTrue(endpoint.isAsyncClient());
+        assertEquals(200, endpoint.getClientConnectionsPoolStatsMax());
+    }
+
+}
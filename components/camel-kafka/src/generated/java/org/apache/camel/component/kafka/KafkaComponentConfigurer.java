@@ -230,6 +230,12 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "valueDeserializer": getOrCreateConfiguration(target).setValueDeserializer(property(camelContext, java.lang.String.class, value)); return true;
         case "valueserializer":
         case "valueSerializer": getOrCreateConfiguration(target).setValueSerializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "workerlanequeuesize":
+        case "workerLaneQueueSize": getOrCreateConfiguration(target).setWorkerLaneQueueSize(property(camelContext, int.class, value)); return true;
+        case "workerlanes":
+        case "workerLanes": getOrCreateConfiguration(target).setWorkerLanes(property(camelContext, int.class, value)); return true;
+        case "workerlanesbykey":
+        case "workerLanesByKey": getOrCreateConfiguration(target).setWorkerLanesByKey(property(camelContext, boolean.class, value)); return true;
         case "workerpool":
         case "workerPool": getOrCreateConfiguration(target).setWorkerPool(property(camelContext, java.util.concurrent.ExecutorService.class, value)); return true;
         case "workerpoolcoresize":
@@ -450,6 +456,12 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "valueDeserializer": return java.lang.String.class;
         case "valueserializer":
         case "valueSerializer": return java.lang.String.class;
+        case "workerlanequeuesize":
+        case "workerLaneQueueSize": return int.class;
+        case "workerlanes":
+        case "workerLanes": return int.class;
+        case "workerlanesbykey":
+        case "workerLanesByKey": return boolean.class;
         case "workerpool":
         case "workerPool": return java.util.concurrent.ExecutorService.class;
         case "workerpoolcoresize":
@@ -666,6 +678,12 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "valueDeserializer": return getOrCreateConfiguration(target).getValueDeserializer();
         case "valueserializer":
         case "valueSerializer": return getOrCreateConfiguration(target).getValueSerializer();
+        case "workerlanequeuesize":
+        case "workerLaneQueueSize": return getOrCreateConfiguration(target).getWorkerLaneQueueSize();
+        case "workerlanes":
+        case "workerLanes": return getOrCreateConfiguration(target).getWorkerLanes();
+        case "workerlanesbykey":
+        case "workerLanesByKey": return getOrCreateConfiguration(target).isWorkerLanesByKey();
         case "workerpool":
         case "workerPool": return getOrCreateConfiguration(target).getWorkerPool();
         case "workerpoolcoresize":
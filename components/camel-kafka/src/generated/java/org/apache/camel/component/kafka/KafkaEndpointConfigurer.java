@@ -212,6 +212,12 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "valueDeserializer": target.getConfiguration().setValueDeserializer(property(camelContext, java.lang.String.class, value)); return true;
         case "valueserializer":
         case "valueSerializer": target.getConfiguration().setValueSerializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "workerlanequeuesize":
+        case "workerLaneQueueSize": target.getConfiguration().setWorkerLaneQueueSize(property(camelContext, int.class, value)); return true;
+        case "workerlanes":
+        case "workerLanes": target.getConfiguration().setWorkerLanes(property(camelContext, int.class, value)); return true;
+        case "workerlanesbykey":
+        case "workerLanesByKey": target.getConfiguration().setWorkerLanesByKey(property(camelContext, boolean.class, value)); return true;
         case "workerpool":
         case "workerPool": target.getConfiguration().setWorkerPool(property(camelContext, java.util.concurrent.ExecutorService.class, value)); return true;
         case "workerpoolcoresize":
@@ -416,6 +422,12 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "valueDeserializer": return java.lang.String.class;
         case "valueserializer":
         case "valueSerializer": return java.lang.String.class;
+        case "workerlanequeuesize":
+        case "workerLaneQueueSize": return int.class;
+        case "workerlanes":
+        case "workerLanes": return int.class;
+        case "workerlanesbykey":
+        case "workerLanesByKey": return boolean.class;
         case "workerpool":
         case "workerPool": return java.util.concurrent.ExecutorService.class;
         case "workerpoolcoresize":
@@ -621,6 +633,12 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "valueDeserializer": return target.getConfiguration().getValueDeserializer();
         case "valueserializer":
         case "valueSerializer": return target.getConfiguration().getValueSerializer();
+        case "workerlanequeuesize":
+        case "workerLaneQueueSize": return target.getConfiguration().getWorkerLaneQueueSize();
+        case "workerlanes":
+        case "workerLanes": return target.getConfiguration().getWorkerLanes();
+        case "workerlanesbykey":
+        case "workerLanesByKey": return target.getConfiguration().isWorkerLanesByKey();
         case "workerpool":
         case "workerPool": return target.getConfiguration().getWorkerPool();
         case "workerpoolcoresize":
@@ -21,7 +21,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(102);
+        Set<String> props = new HashSet<>(105);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
@@ -121,6 +121,9 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("topicIsPattern");
         props.add("valueDeserializer");
         props.add("valueSerializer");
+        props.add("workerLaneQueueSize");
+        props.add("workerLanes");
+        props.add("workerLanesByKey");
         props.add("workerPool");
         props.add("workerPoolCoreSize");
         props.add("workerPoolMaxSize");
@@ -140,6 +140,12 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private int workerLanes;
+    @UriParam(label = "consumer")
+    private boolean workerLanesByKey;
+    @UriParam(label = "consumer", defaultValue = "1000")
+    private int workerLaneQueueSize = 1000;
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
     @UriParam(label = "consumer", defaultValue = "ERROR_HANDLER")
     private PollOnError pollOnError = PollOnError.ERROR_HANDLER;
@@ -494,6 +500,11 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         // additional properties
         applyAdditionalProperties(props, getAdditionalProperties());
 
+        if (workerLanes > 0) {
+            // the worker lanes commit the offsets of the records once they have been processed
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
         return props;
     }
 
@@ -696,7 +707,7 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     }
 
     public boolean isAutoCommitEnable() {
-        return offsetRepository == null ? autoCommitEnable : false;
+        return offsetRepository == null && workerLanes <= 0 ? autoCommitEnable : false;
     }
 
     public boolean getAutoCommitEnable() {
@@ -828,6 +839,52 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public int getWorkerLanes() {
+        return workerLanes;
+    }
+
+    /**
+     * The number of worker lanes each consumer hands the polled records to, so the records of different partitions are
+     * processed in parallel instead of one after another by the consumer thread. The records of a partition are always
+     * processed in order by the same lane, unless workerLanesByKey is enabled. The offsets are committed in order, up
+     * to the last record of each partition which has been processed along with all the records before it. Setting this
+     * to 0 (the default) processes the records by the consumer thread. Worker lanes cannot be used together with
+     * breakOnFirstError. When allowManualCommit is enabled the offsets are committed by the consumer, and the
+     * KafkaManualCommit header is not set, as the Kafka consumer cannot be used by the worker lanes. Otherwise the auto
+     * commit of the Kafka consumer is disabled, regardless of autoCommitEnable, as it would commit the records which
+     * have been polled but not yet processed, and the offsets processed by the worker lanes are committed by the
+     * consumer at most once every autoCommitIntervalMs instead.
+     */
+    public void setWorkerLanes(int workerLanes) {
+        this.workerLanes = workerLanes;
+    }
+
+    public boolean isWorkerLanesByKey() {
+        return workerLanesByKey;
+    }
+
+    /**
+     * Whether the records are handed to the worker lanes by the key of the record instead of by the partition, so the
+     * records of a single partition are processed in parallel while the records with the same key are processed in
+     * order. Records without a key are handed to the lane of their partition.
+     */
+    public void setWorkerLanesByKey(boolean workerLanesByKey) {
+        this.workerLanesByKey = workerLanesByKey;
+    }
+
+    public int getWorkerLaneQueueSize() {
+        return workerLaneQueueSize;
+    }
+
+    /**
+     * The maximum number of records which can be waiting to be processed by each worker lane. When a lane is full the
+     * consumer waits for room in the lane before polling more records, so the queue size multiplied by the processing
+     * time of a record should be kept well below maxPollIntervalMs.
+     */
+    public void setWorkerLaneQueueSize(int workerLaneQueueSize) {
+        this.workerLaneQueueSize = workerLaneQueueSize;
+    }
+
     public String getBrokers() {
         return brokers;
     }
@@ -17,7 +17,9 @@
 package org.apache.camel.component.kafka;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -27,6 +29,8 @@ import java.util.stream.Collectors;
 
 import org.apache.camel.Processor;
 import org.apache.camel.Suspendable;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
 import org.apache.camel.health.HealthCheckAware;
 import org.apache.camel.health.HealthCheckHelper;
@@ -43,6 +47,7 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@ManagedResource(description = "Managed Kafka Consumer")
 public class KafkaConsumer extends DefaultConsumer
         implements ResumeAware<ResumeStrategy>, HealthCheckAware, ConsumerListenerAware<KafkaConsumerListener>,
         Suspendable {
@@ -122,6 +127,20 @@ public class KafkaConsumer extends DefaultConsumer
                 endpoint.getConfiguration().isBreakOnFirstError());
         super.doStart();
 
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.getWorkerLanes() > 0) {
+            if (configuration.isBreakOnFirstError()) {
+                throw new IllegalArgumentException("Cannot use both workerLanes and breakOnFirstError");
+            }
+            if (consumerListener != null) {
+                throw new IllegalArgumentException("Cannot use workerLanes together with a consumer listener");
+            }
+            if (configuration.getAutoCommitEnable()) {
+                LOG.debug("Disabling the auto commit of the Kafka consumer as the offsets are committed by the worker"
+                          + " lanes after the records have been processed");
+            }
+        }
+
         // health-check is optional so discover and resolve
         healthCheckRepository = HealthCheckHelper.getHealthCheckRepository(endpoint.getCamelContext(), "camel-kafka",
                 KafkaHealthCheckRepository.class);
@@ -231,6 +250,23 @@ public class KafkaConsumer extends DefaultConsumer
         super.doResume();
     }
 
+    @ManagedAttribute(description = "Number of worker lanes of each consumer thread")
+    public int getWorkerLanes() {
+        return endpoint.getConfiguration().getWorkerLanes();
+    }
+
+    @ManagedAttribute(description = "Number of records waiting, or being processed, by each worker lane of the consumer threads")
+    public long[] getWorkerLaneLag() {
+        return tasks.stream().map(KafkaFetchRecords::getWorkerLanes).filter(Objects::nonNull)
+                .flatMapToLong(lanes -> Arrays.stream(lanes.getLag())).toArray();
+    }
+
+    @ManagedAttribute(description = "Number of records processed by each worker lane of the consumer threads")
+    public long[] getWorkerLaneProcessed() {
+        return tasks.stream().map(KafkaFetchRecords::getWorkerLanes).filter(Objects::nonNull)
+                .flatMapToLong(lanes -> Arrays.stream(lanes.getProcessed())).toArray();
+    }
+
     public List<TaskHealthState> healthStates() {
         return tasks.stream().map(t -> t.healthState()).collect(Collectors.toList());
     }
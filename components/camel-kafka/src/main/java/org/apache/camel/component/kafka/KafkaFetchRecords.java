@@ -29,6 +29,7 @@ import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListe
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaErrorStrategies;
 import org.apache.camel.component.kafka.consumer.support.KafkaConsumerResumeAdapter;
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.KafkaWorkerLanes;
 import org.apache.camel.component.kafka.consumer.support.PartitionAssignmentListener;
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.component.kafka.consumer.support.ResumeStrategyFactory;
@@ -77,6 +78,7 @@ public class KafkaFetchRecords implements Runnable {
     private final BridgeExceptionHandlerToErrorHandler bridge;
     private final ReentrantLock lock = new ReentrantLock();
     private CommitManager commitManager;
+    private volatile KafkaWorkerLanes workerLanes;
     private volatile Exception lastError;
     private final KafkaConsumerListener consumerListener;
 
@@ -201,6 +203,12 @@ public class KafkaFetchRecords implements Runnable {
             createConsumer();
             commitManager
                     = CommitManagers.createCommitManager(consumer, kafkaConsumer, threadId, getPrintableTopic());
+            if (kafkaConsumer.getEndpoint().getConfiguration().getWorkerLanes() > 0) {
+                if (workerLanes != null) {
+                    workerLanes.stop();
+                }
+                workerLanes = new KafkaWorkerLanes(kafkaConsumer, threadId, commitManager);
+            }
 
             if (consumerListener != null) {
                 consumerListener.setConsumer(consumer);
@@ -274,7 +282,7 @@ public class KafkaFetchRecords implements Runnable {
         resumeStrategy.setConsumer(consumer);
 
         PartitionAssignmentListener listener = new PartitionAssignmentListener(
-                threadId, kafkaConsumer.getEndpoint().getConfiguration(), commitManager, resumeStrategy);
+                threadId, kafkaConsumer.getEndpoint().getConfiguration(), commitManager, resumeStrategy, workerLanes);
 
         if (LOG.isInfoEnabled()) {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
@@ -305,6 +313,9 @@ public class KafkaFetchRecords implements Runnable {
 
             KafkaRecordProcessorFacade recordProcessorFacade = new KafkaRecordProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
+            if (workerLanes != null) {
+                workerLanes.start();
+            }
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             while (isKafkaConsumerRunnable() && isConnected() && pollExceptionStrategy.canContinue()) {
@@ -315,19 +326,34 @@ public class KafkaFetchRecords implements Runnable {
                     }
                 }
 
-                ProcessingResult result = recordProcessorFacade.processPolledRecords(allRecords);
-
-                if (result.isBreakOnErrorHit()) {
-                    LOG.debug("We hit an error ... setting flags to force reconnect");
-                    // force re-connect
-                    setReconnect(true);
-                    setConnected(false);
+                if (workerLanes != null) {
+                    // the records are processed by the worker lanes, so commit what they have processed so far, once
+                    // the commit interval has elapsed
+                    workerLanes.dispatch(allRecords);
+                    workerLanes.maybeCommit();
+                } else {
+                    ProcessingResult result = recordProcessorFacade.processPolledRecords(allRecords);
+
+                    if (result.isBreakOnErrorHit()) {
+                        LOG.debug("We hit an error ... setting flags to force reconnect");
+                        // force re-connect
+                        setReconnect(true);
+                        setConnected(false);
+                    }
                 }
 
                 updateTaskState();
             }
 
-            if (!isConnected()) {
+            if (workerLanes != null) {
+                // wait for the worker lanes to process the records they have been handed, and commit them
+                workerLanes.stop();
+                workerLanes.commit();
+            }
+
+            // the worker lanes have committed the processed records, and committing the position of the consumer
+            // would also commit the records discarded by the lanes
+            if (!isConnected() && workerLanes == null) {
                 LOG.debug("Not reconnecting, check whether to auto-commit or not ...");
                 commitManager.commit();
             }
@@ -336,7 +362,9 @@ public class KafkaFetchRecords implements Runnable {
         } catch (InterruptException e) {
             kafkaConsumer.getExceptionHandler().handleException("Interrupted while consuming " + threadId + " from kafka topic",
                     e);
-            commitManager.commit();
+            if (workerLanes == null) {
+                commitManager.commit();
+            }
 
             LOG.info("Unsubscribing {} from {}", threadId, getPrintableTopic());
             safeUnsubscribe();
@@ -360,6 +388,9 @@ public class KafkaFetchRecords implements Runnable {
         } finally {
             // only close if not retry
             if (!pollExceptionStrategy.canContinue()) {
+                if (workerLanes != null) {
+                    workerLanes.stop();
+                }
                 LOG.debug("Closing consumer {}", threadId);
                 safeUnsubscribe();
                 IOHelper.close(consumer);
@@ -526,6 +557,14 @@ public class KafkaFetchRecords implements Runnable {
                 currentBackoffInterval, kafkaProps);
     }
 
+    /**
+     * The worker lanes which process the polled records, or <tt>null</tt> if the records are processed by the thread of
+     * the consumer
+     */
+    public KafkaWorkerLanes getWorkerLanes() {
+        return workerLanes;
+    }
+
     public BridgeExceptionHandlerToErrorHandler getBridge() {
         return bridge;
     }
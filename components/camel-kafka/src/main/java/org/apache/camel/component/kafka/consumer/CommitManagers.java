@@ -54,6 +54,10 @@ public final class CommitManagers {
                 LOG.debug("Using a commit-to-offset manager for commit management");
                 return new CommitToOffsetManager(consumer, kafkaConsumer, threadId, printableTopic);
             }
+            if (configuration.getWorkerLanes() > 0) {
+                LOG.debug("Using a sync commit manager to commit the offsets processed by the worker lanes");
+                return new SyncCommitManager(consumer, kafkaConsumer, threadId, printableTopic);
+            }
         }
 
         LOG.debug("Using a NO-OP commit manager with auto-commit enabled on the Kafka consumer");
@@ -39,12 +39,23 @@ public class KafkaRecordProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordProcessor.class);
 
     private final boolean autoCommitEnabled;
+    private final boolean allowManualCommit;
     private final KafkaConfiguration configuration;
     private final Processor processor;
     private final CommitManager commitManager;
 
     public KafkaRecordProcessor(KafkaConfiguration configuration, Processor processor, CommitManager commitManager) {
+        this(configuration, processor, commitManager, configuration.isAllowManualCommit());
+    }
+
+    /**
+     * @param allowManualCommit whether to set the {@link KafkaManualCommit} on the exchange, which must only be done
+     *                          when the exchange is processed by the thread of the Kafka consumer
+     */
+    public KafkaRecordProcessor(KafkaConfiguration configuration, Processor processor, CommitManager commitManager,
+                                boolean allowManualCommit) {
         this.autoCommitEnabled = configuration.isAutoCommitEnable();
+        this.allowManualCommit = allowManualCommit;
         this.configuration = configuration;
         this.processor = processor;
         this.commitManager = commitManager;
@@ -97,7 +108,7 @@ public class KafkaRecordProcessor {
             message.setHeader(KafkaConstants.LAST_POLL_RECORD, !recordHasNext && !partitionHasNext);
         }
 
-        if (configuration.isAllowManualCommit()) {
+        if (allowManualCommit) {
             // allow Camel users to access the Kafka consumer API to be able to do for example manual commits
             KafkaManualCommit manual = commitManager.getManualCommit(exchange, partition, record);
 
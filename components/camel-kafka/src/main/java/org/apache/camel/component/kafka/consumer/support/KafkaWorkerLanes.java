@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.support.task.ForegroundTask;
+import org.apache.camel.support.task.Tasks;
+import org.apache.camel.support.task.budget.Budgets;
+import org.apache.camel.support.task.budget.IterationBoundedBudget;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands the records polled by a Kafka consumer to a number of worker lanes, which process the records in parallel.
+ * <p/>
+ * The records are handed to a lane by their partition, or by their key, so the records of a partition (or with the same
+ * key) are processed in order by the same lane. Each lane has a bounded queue, and the consumer waits for room in the
+ * queue when the lane is full.
+ * <p/>
+ * The Kafka consumer is not thread safe, so the records are polled, and the offsets committed, by the thread of the
+ * consumer only. The offset of a partition is only committed up to the last record which has been processed along with
+ * all the records before it, so no record is committed before it has been processed.
+ */
+public class KafkaWorkerLanes {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaWorkerLanes.class);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final String threadId;
+    private final CommitManager commitManager;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final boolean byKey;
+    private final long shutdownTimeout;
+    private final long commitInterval;
+    private final Lane[] lanes;
+    private final Map<TopicPartition, PartitionOffsets> offsets = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+    private long lastCommitTime;
+
+    public KafkaWorkerLanes(KafkaConsumer camelKafkaConsumer, String threadId, CommitManager commitManager) {
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+        // the manual commit uses the Kafka consumer which must not be used by the threads of the lanes
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(
+                configuration, camelKafkaConsumer.getProcessor(), commitManager, false);
+        this.byKey = configuration.isWorkerLanesByKey();
+        this.shutdownTimeout = configuration.getShutdownTimeout();
+        Integer interval = configuration.getAutoCommitIntervalMs();
+        this.commitInterval = interval != null ? interval : 5000;
+
+        this.lanes = new Lane[configuration.getWorkerLanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(configuration.getWorkerLaneQueueSize());
+        }
+    }
+
+    /**
+     * Starts the threads of the lanes
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+
+        LOG.debug("Starting {} worker lanes for thread {}", lanes.length, threadId);
+        offsets.clear();
+        lastCommitTime = System.currentTimeMillis();
+        running = true;
+        executor = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(
+                camelKafkaConsumer,
+                "KafkaConsumerWorkerLane[" + camelKafkaConsumer.getEndpoint().getConfiguration().getTopic() + "]",
+                lanes.length);
+        for (Lane lane : lanes) {
+            executor.submit(lane);
+        }
+    }
+
+    /**
+     * Stops the threads of the lanes, after waiting for the lanes to process the records in their queues. The records
+     * which are still in the queues when the shutdown timeout is hit are discarded, and will be polled again as their
+     * offsets are not committed. The offsets of the processed records can still be committed after stopping.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        if (!awaitCompletion(offsets.values())) {
+            LOG.warn("The worker lanes of thread {} did not process all the records within {} millis", threadId,
+                    shutdownTimeout);
+        }
+
+        running = false;
+        camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(executor);
+        executor = null;
+
+        for (Lane lane : lanes) {
+            int discarded = lane.queue.size();
+            if (discarded > 0) {
+                LOG.warn("Discarding {} records not yet processed by a worker lane of thread {}", discarded, threadId);
+            }
+            lane.queue.clear();
+            lane.lag.set(0);
+        }
+    }
+
+    /**
+     * Hands the records to the lanes, waiting for room in the queue of a lane if it is full
+     */
+    public void dispatch(ConsumerRecords<Object, Object> allRecords) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Last poll on thread {} resulted on {} records to hand to the worker lanes", threadId,
+                    allRecords.count());
+        }
+
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext() && isRunnable()) {
+            TopicPartition partition = partitionIterator.next();
+            PartitionOffsets partitionOffsets = offsets.computeIfAbsent(partition, p -> new PartitionOffsets());
+
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = allRecords.records(partition).iterator();
+            while (recordIterator.hasNext() && isRunnable()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                Task task = new Task(
+                        partition, record, partitionOffsets, partitionIterator.hasNext(), recordIterator.hasNext());
+                if (!laneOf(record).offer(task)) {
+                    // stopping so the rest of the records are polled again
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits the offsets of the records which have been processed, in order
+     */
+    public void commit() {
+        lastCommitTime = System.currentTimeMillis();
+        offsets.forEach(this::commit);
+    }
+
+    /**
+     * Commits the offsets of the records which have been processed, in order, if the commit interval
+     * (autoCommitIntervalMs) has elapsed since the last commit
+     */
+    public void maybeCommit() {
+        if (System.currentTimeMillis() - lastCommitTime >= commitInterval) {
+            commit();
+        }
+    }
+
+    /**
+     * Waits for the lanes to process the records of the revoked partitions, and commits their offsets
+     */
+    public void revoke(Collection<TopicPartition> partitions) {
+        if (!running) {
+            return;
+        }
+
+        for (TopicPartition partition : partitions) {
+            PartitionOffsets partitionOffsets = offsets.get(partition);
+            if (partitionOffsets != null) {
+                if (!awaitCompletion(Collections.singleton(partitionOffsets))) {
+                    LOG.warn("The worker lanes of thread {} did not process the records of the revoked partition {}"
+                             + " within {} millis",
+                            threadId, partition, shutdownTimeout);
+                }
+                commit(partition, partitionOffsets);
+                offsets.remove(partition);
+            }
+        }
+    }
+
+    /**
+     * Number of records waiting in the queue, or being processed, by each lane
+     */
+    public long[] getLag() {
+        long[] answer = new long[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            answer[i] = lanes[i].lag.get();
+        }
+        return answer;
+    }
+
+    /**
+     * Number of records processed by each lane
+     */
+    public long[] getProcessed() {
+        long[] answer = new long[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            answer[i] = lanes[i].processed.get();
+        }
+        return answer;
+    }
+
+    private boolean isRunnable() {
+        return running && !camelKafkaConsumer.isStopping();
+    }
+
+    private Lane laneOf(ConsumerRecord<Object, Object> record) {
+        int hash;
+        if (byKey && record.key() != null) {
+            hash = record.key().hashCode();
+        } else {
+            hash = record.topic().hashCode() * 31 + record.partition();
+        }
+        // spread the high bits as the hash codes of keys which only differ at the end are close to each other
+        hash ^= hash >>> 16;
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    private void commit(TopicPartition partition, PartitionOffsets partitionOffsets) {
+        long offset = partitionOffsets.getCommittableOffset();
+        if (offset > partitionOffsets.lastCommitted) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Committing offset {} of partition {} processed by the worker lanes of thread {}", offset,
+                        partition, threadId);
+            }
+            commitManager.recordOffset(partition, offset);
+            commitManager.commit(partition);
+            partitionOffsets.lastCommitted = offset;
+        }
+    }
+
+    private boolean awaitCompletion(Collection<PartitionOffsets> partitionOffsets) {
+        ForegroundTask task = Tasks.foregroundTask().withBudget(Budgets.iterationTimeBudget()
+                .withMaxIterations(IterationBoundedBudget.UNLIMITED_ITERATIONS)
+                .withMaxDuration(Duration.ofMillis(shutdownTimeout))
+                .withInterval(Duration.ofMillis(10))
+                .build())
+                .build();
+
+        return task.run(() -> partitionOffsets.stream().allMatch(p -> p.pending.isEmpty()));
+    }
+
+    /**
+     * The offsets of the records of a partition which have been handed to the lanes. The records are handed to the
+     * lanes, and the offsets committed, by the thread of the consumer only.
+     */
+    private static final class PartitionOffsets {
+        // the offsets of the records handed to the lanes which are not processed yet
+        private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+        private long lastDispatched = AbstractCommitManager.START_OFFSET;
+        private long lastCommitted = AbstractCommitManager.START_OFFSET;
+
+        /**
+         * Gets the offset of the last record which has been processed along with all the records before it
+         */
+        long getCommittableOffset() {
+            // the records are handed to the lanes in the order of their offsets, so all the records before the first
+            // pending record have been processed
+            Long first = pending.ceiling(0L);
+            return first != null ? first - 1 : lastDispatched;
+        }
+    }
+
+    private static final class Task {
+        private final TopicPartition partition;
+        private final ConsumerRecord<Object, Object> record;
+        private final PartitionOffsets partitionOffsets;
+        private final boolean partitionHasNext;
+        private final boolean recordHasNext;
+
+        Task(TopicPartition partition, ConsumerRecord<Object, Object> record, PartitionOffsets partitionOffsets,
+             boolean partitionHasNext, boolean recordHasNext) {
+            this.partition = partition;
+            this.record = record;
+            this.partitionOffsets = partitionOffsets;
+            this.partitionHasNext = partitionHasNext;
+            this.recordHasNext = recordHasNext;
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final BlockingQueue<Task> queue;
+        private final AtomicLong lag = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+
+        Lane(int queueSize) {
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        boolean offer(Task task) {
+            long offset = task.record.offset();
+            // the offset must be pending before the lane can process the record
+            task.partitionOffsets.pending.add(offset);
+            lag.incrementAndGet();
+            try {
+                while (!queue.offer(task, 100, TimeUnit.MILLISECONDS)) {
+                    if (!isRunnable()) {
+                        undo(task);
+                        return false;
+                    }
+                }
+            } catch (InterruptedException e) {
+                undo(task);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            task.partitionOffsets.lastDispatched = offset;
+            return true;
+        }
+
+        private void undo(Task task) {
+            task.partitionOffsets.pending.remove(task.record.offset());
+            lag.decrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Task task;
+                try {
+                    task = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (task != null) {
+                    process(task);
+                }
+            }
+        }
+
+        private void process(Task task) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", task.record.partition(),
+                        task.record.offset(), task.record.key(), task.record.value());
+            }
+
+            Exchange exchange = camelKafkaConsumer.createExchange(false);
+            try {
+                kafkaRecordProcessor.processExchange(exchange, task.partition, task.partitionHasNext,
+                        task.recordHasNext, task.record, ProcessingResult.newUnprocessed(),
+                        camelKafkaConsumer.getExceptionHandler());
+            } catch (Exception e) {
+                camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange, e);
+            } finally {
+                camelKafkaConsumer.releaseExchange(exchange, false);
+                task.partitionOffsets.pending.remove(task.record.offset());
+                processed.incrementAndGet();
+                lag.decrementAndGet();
+            }
+        }
+    }
+}
@@ -35,18 +35,32 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
     private final KafkaConfiguration configuration;
     private final KafkaConsumerResumeAdapter resumeStrategy;
     private final CommitManager commitManager;
+    private final KafkaWorkerLanes workerLanes;
 
     public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
                                        CommitManager commitManager,
                                        KafkaConsumerResumeAdapter resumeStrategy) {
+        this(threadId, configuration, commitManager, resumeStrategy, null);
+    }
+
+    public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
+                                       CommitManager commitManager,
+                                       KafkaConsumerResumeAdapter resumeStrategy,
+                                       KafkaWorkerLanes workerLanes) {
         this.threadId = threadId;
         this.configuration = configuration;
         this.commitManager = commitManager;
         this.resumeStrategy = resumeStrategy;
+        this.workerLanes = workerLanes;
     }
 
     @Override
     public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (workerLanes != null) {
+            // let the worker lanes finish the records of the partitions, so their offsets are committed
+            workerLanes.revoke(partitions);
+        }
+
         for (TopicPartition partition : partitions) {
             LOG.debug("onPartitionsRevoked: {} from {}", threadId, partition.topic());
 
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaWorkerLanesTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    private final KafkaConsumer kafkaConsumer = mock(KafkaConsumer.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final List<String> processed = new ArrayList<>();
+    private CamelContext context;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+        context.start();
+
+        configuration.setTopic("test");
+        configuration.setWorkerLanes(2);
+        when(endpoint.getCamelContext()).thenReturn(context);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(kafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(kafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    public void testProcessAndCommitInOrder() {
+        when(kafkaConsumer.getProcessor()).thenReturn(recordingProcessor());
+
+        KafkaWorkerLanes lanes = new KafkaWorkerLanes(kafkaConsumer, "thread-0", commitManager);
+        lanes.start();
+        lanes.dispatch(records(PARTITION_0, 5, false));
+        lanes.dispatch(records(PARTITION_1, 5, false));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Arrays.stream(lanes.getProcessed()).sum() == 10);
+        lanes.commit();
+        lanes.stop();
+
+        verify(commitManager).recordOffset(PARTITION_0, 4);
+        verify(commitManager).commit(PARTITION_0);
+        verify(commitManager).recordOffset(PARTITION_1, 4);
+        verify(commitManager).commit(PARTITION_1);
+
+        // the records of a partition are processed in order
+        List<String> partition0 = new ArrayList<>();
+        synchronized (processed) {
+            processed.stream().filter(s -> s.startsWith("0-")).forEach(partition0::add);
+        }
+        assertEquals(Arrays.asList("0-0", "0-1", "0-2", "0-3", "0-4"), partition0);
+        assertArrayEquals(new long[] { 0, 0 }, lanes.getLag());
+    }
+
+    @Test
+    public void testCommitUpToFirstPendingRecord() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        when(kafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            // the record with offset 1 is slow
+            if (exchange.getMessage().getBody(String.class).equals("0-1")) {
+                latch.await(5, TimeUnit.SECONDS);
+            }
+            synchronized (processed) {
+                processed.add(exchange.getMessage().getBody(String.class));
+            }
+        });
+        configuration.setWorkerLanes(4);
+        configuration.setWorkerLanesByKey(true);
+
+        KafkaWorkerLanes lanes = new KafkaWorkerLanes(kafkaConsumer, "thread-0", commitManager);
+        lanes.start();
+        lanes.dispatch(records(PARTITION_0, 4, true));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Arrays.stream(lanes.getProcessed()).sum() == 3);
+        lanes.commit();
+        verify(commitManager).recordOffset(PARTITION_0, 0);
+        verify(commitManager, never()).recordOffset(eq(PARTITION_0), eq(3L));
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Arrays.stream(lanes.getProcessed()).sum() == 4);
+        lanes.commit();
+        lanes.stop();
+
+        verify(commitManager).recordOffset(PARTITION_0, 3);
+    }
+
+    @Test
+    public void testCommitThrottled() {
+        when(kafkaConsumer.getProcessor()).thenReturn(recordingProcessor());
+        configuration.setAutoCommitIntervalMs(60000);
+
+        KafkaWorkerLanes lanes = new KafkaWorkerLanes(kafkaConsumer, "thread-0", commitManager);
+        lanes.start();
+        lanes.dispatch(records(PARTITION_0, 5, false));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Arrays.stream(lanes.getProcessed()).sum() == 5);
+        // the commit interval has not elapsed yet
+        lanes.maybeCommit();
+        verify(commitManager, never()).commit(PARTITION_0);
+
+        lanes.commit();
+        lanes.stop();
+        verify(commitManager).recordOffset(PARTITION_0, 4);
+        verify(commitManager).commit(PARTITION_0);
+    }
+
+    @Test
+    public void testCommitEachPollWithoutInterval() {
+        when(kafkaConsumer.getProcessor()).thenReturn(recordingProcessor());
+        configuration.setAutoCommitIntervalMs(0);
+
+        KafkaWorkerLanes lanes = new KafkaWorkerLanes(kafkaConsumer, "thread-0", commitManager);
+        lanes.start();
+        lanes.dispatch(records(PARTITION_0, 5, false));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Arrays.stream(lanes.getProcessed()).sum() == 5);
+        lanes.maybeCommit();
+        lanes.stop();
+        verify(commitManager).recordOffset(PARTITION_0, 4);
+        verify(commitManager).commit(PARTITION_0);
+    }
+
+    @Test
+    public void testRevokeWaitsForPartition() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        when(kafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            // the first record is slow
+            if (exchange.getMessage().getBody(String.class).equals("0-0")) {
+                latch.await(5, TimeUnit.SECONDS);
+            }
+            synchronized (processed) {
+                processed.add(exchange.getMessage().getBody(String.class));
+            }
+        });
+
+        KafkaWorkerLanes lanes = new KafkaWorkerLanes(kafkaConsumer, "thread-0", commitManager);
+        lanes.start();
+        lanes.dispatch(records(PARTITION_0, 5, false));
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        });
+        releaser.start();
+
+        // the records of the revoked partition must be processed and committed before it is released
+        lanes.revoke(Collections.singleton(PARTITION_0));
+        assertEquals(5, Arrays.stream(lanes.getProcessed()).sum());
+        verify(commitManager).recordOffset(PARTITION_0, 4);
+        verify(commitManager).commit(PARTITION_0);
+
+        releaser.join();
+        lanes.stop();
+    }
+
+    @Test
+    public void testAutoCommitDisabled() {
+        configuration.setAutoCommitEnable(true);
+        configuration.getAdditionalProperties().put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true");
+
+        assertFalse(configuration.isAutoCommitEnable());
+        assertEquals("false", configuration.createConsumerProperties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG));
+
+        configuration.setWorkerLanes(0);
+        assertTrue(configuration.isAutoCommitEnable());
+    }
+
+    private Processor recordingProcessor() {
+        return exchange -> {
+            synchronized (processed) {
+                processed.add(exchange.getMessage().getBody(String.class));
+            }
+        };
+    }
+
+    private static ConsumerRecords<Object, Object> records(TopicPartition partition, int count, boolean keys) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String key = keys ? "key-" + i : null;
+            records.add(new ConsumerRecord<>(
+                    partition.topic(), partition.partition(), i, key, partition.partition() + "-" + i));
+        }
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> map = new HashMap<>();
+        map.put(partition, records);
+        return new ConsumerRecords<>(map);
+    }
+}
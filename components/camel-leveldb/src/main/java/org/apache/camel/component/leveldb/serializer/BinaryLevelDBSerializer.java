@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb.serializer;
+
+import java.io.IOException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+
+/**
+ * Serializes the exchanges using the compact {@link BinaryExchangeHolderCodec}. The keys are serialized the same way as
+ * the {@link DefaultLevelDBSerializer}, and exchanges stored with Java serialization can still be read, so an existing
+ * repository can be switched to this serializer.
+ */
+public class BinaryLevelDBSerializer extends DefaultLevelDBSerializer {
+
+    private final BinaryExchangeHolderCodec codec;
+
+    public BinaryLevelDBSerializer() {
+        this(new BinaryExchangeHolderCodec());
+    }
+
+    public BinaryLevelDBSerializer(BinaryExchangeHolderCodec codec) {
+        this.codec = codec;
+    }
+
+    public BinaryExchangeHolderCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        return serializeExchange(exchange, allowSerializedHeaders, codec::encode);
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        if (!BinaryExchangeHolderCodec.isBinaryFormat(buffer)) {
+            // stored before switching to the binary format
+            return super.deserializeExchange(camelContext, buffer);
+        }
+        return deserializeExchange(camelContext, buffer, b -> {
+            try {
+                return codec.decode(camelContext, b);
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        });
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
+import org.apache.camel.component.leveldb.serializer.BinaryLevelDBSerializer;
 import org.apache.camel.component.leveldb.serializer.DefaultLevelDBSerializer;
 import org.apache.camel.component.leveldb.serializer.JacksonLevelDBSerializer;
 import org.apache.camel.test.junit5.CamelTestSupport;
@@ -44,13 +45,15 @@ public abstract class LevelDBTestSupport extends CamelTestSupport {
     public enum SerializerType {
         JACKSON,
         JAVA_SERIALIZATION,
+        BINARY,
     }
 
     @Parameters
     public static Collection<Object[]> serializers() {
         Object[][] serializers = {
                 { SerializerType.JAVA_SERIALIZATION },
-                { SerializerType.JACKSON } };
+                { SerializerType.JACKSON },
+                { SerializerType.BINARY } };
         return Arrays.asList(serializers);
     }
 
@@ -62,6 +65,8 @@ public abstract class LevelDBTestSupport extends CamelTestSupport {
         switch (serializerType) {
             case JACKSON:
                 return new JacksonLevelDBSerializer();
+            case BINARY:
+                return new BinaryLevelDBSerializer();
             default:
                 return new DefaultLevelDBSerializer();
         }
@@ -21,7 +21,7 @@ public class NettyHttpEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(84);
+        Set<String> props = new HashSet<>(85);
         props.add("allowSerializedHeaders");
         props.add("backlog");
         props.add("bossCount");
@@ -70,6 +70,7 @@ public class NettyHttpEndpointUriFactory extends org.apache.camel.support.compon
         props.add("path");
         props.add("port");
         props.add("producerPoolEnabled");
+        props.add("producerPoolLockFree");
         props.add("producerPoolMaxIdle");
         props.add("producerPoolMaxTotal");
         props.add("producerPoolMinEvictableIdle");
@@ -98,6 +98,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "passphrase": getOrCreateConfiguration(target).setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": getOrCreateConfiguration(target).setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "producerpoollockfree":
+        case "producerPoolLockFree": getOrCreateConfiguration(target).setProducerPoolLockFree(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": getOrCreateConfiguration(target).setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
@@ -237,6 +239,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "passphrase": return java.lang.String.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
+        case "producerpoollockfree":
+        case "producerPoolLockFree": return boolean.class;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return int.class;
         case "producerpoolmaxtotal":
@@ -377,6 +381,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "passphrase": return getOrCreateConfiguration(target).getPassphrase();
         case "producerpoolenabled":
         case "producerPoolEnabled": return getOrCreateConfiguration(target).isProducerPoolEnabled();
+        case "producerpoollockfree":
+        case "producerPoolLockFree": return getOrCreateConfiguration(target).isProducerPoolLockFree();
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return getOrCreateConfiguration(target).getProducerPoolMaxIdle();
         case "producerpoolmaxtotal":
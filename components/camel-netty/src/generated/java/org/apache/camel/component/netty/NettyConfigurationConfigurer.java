@@ -99,6 +99,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Port": target.setPort(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
         case "ProducerPoolEnabled": target.setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "producerpoollockfree":
+        case "ProducerPoolLockFree": target.setProducerPoolLockFree(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "ProducerPoolMaxIdle": target.setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
@@ -252,6 +254,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Port": return int.class;
         case "producerpoolenabled":
         case "ProducerPoolEnabled": return boolean.class;
+        case "producerpoollockfree":
+        case "ProducerPoolLockFree": return boolean.class;
         case "producerpoolmaxidle":
         case "ProducerPoolMaxIdle": return int.class;
         case "producerpoolmaxtotal":
@@ -406,6 +410,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Port": return target.getPort();
         case "producerpoolenabled":
         case "ProducerPoolEnabled": return target.isProducerPoolEnabled();
+        case "producerpoollockfree":
+        case "ProducerPoolLockFree": return target.isProducerPoolLockFree();
         case "producerpoolmaxidle":
         case "ProducerPoolMaxIdle": return target.getProducerPoolMaxIdle();
         case "producerpoolmaxtotal":
@@ -88,6 +88,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "passphrase": target.getConfiguration().setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": target.getConfiguration().setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "producerpoollockfree":
+        case "producerPoolLockFree": target.getConfiguration().setProducerPoolLockFree(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": target.getConfiguration().setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
@@ -223,6 +225,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "passphrase": return java.lang.String.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
+        case "producerpoollockfree":
+        case "producerPoolLockFree": return boolean.class;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return int.class;
         case "producerpoolmaxtotal":
@@ -359,6 +363,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "passphrase": return target.getConfiguration().getPassphrase();
         case "producerpoolenabled":
         case "producerPoolEnabled": return target.getConfiguration().isProducerPoolEnabled();
+        case "producerpoollockfree":
+        case "producerPoolLockFree": return target.getConfiguration().isProducerPoolLockFree();
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return target.getConfiguration().getProducerPoolMaxIdle();
         case "producerpoolmaxtotal":
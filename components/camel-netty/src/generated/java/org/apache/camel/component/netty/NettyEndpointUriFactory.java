@@ -21,7 +21,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(74);
+        Set<String> props = new HashSet<>(75);
         props.add("allowDefaultCodec");
         props.add("allowSerializedHeaders");
         props.add("autoAppendDelimiter");
@@ -62,6 +62,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("passphrase");
         props.add("port");
         props.add("producerPoolEnabled");
+        props.add("producerPoolLockFree");
         props.add("producerPoolMaxIdle");
         props.add("producerPoolMaxTotal");
         props.add("producerPoolMinEvictableIdle");
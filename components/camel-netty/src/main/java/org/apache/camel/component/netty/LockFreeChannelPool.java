@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.commons.pool2.ObjectPool;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ObjectPool} of channels which does not lock when borrowing and returning channels, as opposed to
+ * {@link org.apache.commons.pool2.impl.GenericObjectPool} which synchronizes these operations.
+ * <p/>
+ * The idle channels are kept in a lock-free queue per event loop. When a channel is borrowed from an event loop thread,
+ * then an idle channel bound to the same event loop is preferred, to avoid handing off the channel to another thread.
+ * The channels are validated when borrowed, and invalid channels are destroyed.
+ * <p/>
+ * The number of borrowed channels is capped by <tt>maxTotal</tt>, where a borrower will wait until a channel is
+ * returned, which is tracked by the wait metrics. Idle channels are not evicted, but are validated when borrowed.
+ */
+public class LockFreeChannelPool implements ObjectPool<ChannelFuture> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LockFreeChannelPool.class);
+    private static final Object NO_EVENT_LOOP = new Object();
+
+    private final PooledObjectFactory<ChannelFuture> factory;
+    private final int maxIdle;
+    private final Semaphore permits;
+    private final Map<Object, Queue<PooledObject<ChannelFuture>>> idle = new ConcurrentHashMap<>();
+    private final Map<ChannelFuture, PooledObject<ChannelFuture>> active = new ConcurrentHashMap<>();
+    private final AtomicInteger numIdle = new AtomicInteger();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates the pool.
+     *
+     * @param factory  the factory to create, validate and destroy the channels
+     * @param maxTotal the maximum number of borrowed channels, or a negative value for no limit
+     * @param maxIdle  the maximum number of idle channels, or a negative value for no limit
+     */
+    public LockFreeChannelPool(PooledObjectFactory<ChannelFuture> factory, int maxTotal, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+        this.permits = maxTotal < 0 ? null : new Semaphore(maxTotal);
+    }
+
+    @Override
+    public ChannelFuture borrowObject() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool not open");
+        }
+        acquirePermit();
+        boolean borrowed = false;
+        try {
+            PooledObject<ChannelFuture> p;
+            while ((p = pollIdle()) != null) {
+                numIdle.decrementAndGet();
+                if (activateAndValidate(p)) {
+                    active.put(p.getObject(), p);
+                    borrowed = true;
+                    return p.getObject();
+                }
+                LOG.trace("Destroying invalid idle channel request: {}", p.getObject());
+                destroy(p);
+            }
+
+            p = factory.makeObject();
+            if (!activateAndValidate(p)) {
+                destroy(p);
+                throw new NoSuchElementException("Unable to validate new channel request: " + p.getObject());
+            }
+            active.put(p.getObject(), p);
+            borrowed = true;
+            return p.getObject();
+        } finally {
+            if (!borrowed) {
+                releasePermit();
+            }
+        }
+    }
+
+    @Override
+    public void returnObject(ChannelFuture obj) throws Exception {
+        PooledObject<ChannelFuture> p = active.remove(obj);
+        if (p == null) {
+            throw new IllegalStateException("Returned object not currently part of this pool");
+        }
+        try {
+            if (closed || maxIdle >= 0 && numIdle.get() >= maxIdle) {
+                destroy(p);
+            } else {
+                factory.passivateObject(p);
+                numIdle.incrementAndGet();
+                Object key = eventLoopOf(obj);
+                Queue<PooledObject<ChannelFuture>> queue = idle.get(key);
+                if (queue == null) {
+                    queue = idle.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+                }
+                queue.offer(p);
+            }
+        } finally {
+            releasePermit();
+        }
+    }
+
+    @Override
+    public void invalidateObject(ChannelFuture obj) throws Exception {
+        PooledObject<ChannelFuture> p = active.remove(obj);
+        if (p == null) {
+            throw new IllegalStateException("Invalidated object not currently part of this pool");
+        }
+        try {
+            destroy(p);
+        } finally {
+            releasePermit();
+        }
+    }
+
+    @Override
+    public void addObject() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool not open");
+        }
+        PooledObject<ChannelFuture> p = factory.makeObject();
+        factory.passivateObject(p);
+        numIdle.incrementAndGet();
+        idle.computeIfAbsent(eventLoopOf(p.getObject()), k -> new ConcurrentLinkedQueue<>()).offer(p);
+    }
+
+    @Override
+    public void clear() {
+        for (Queue<PooledObject<ChannelFuture>> queue : idle.values()) {
+            PooledObject<ChannelFuture> p;
+            while ((p = queue.poll()) != null) {
+                numIdle.decrementAndGet();
+                destroy(p);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        clear();
+    }
+
+    @Override
+    public int getNumActive() {
+        return active.size();
+    }
+
+    @Override
+    public int getNumIdle() {
+        return numIdle.get();
+    }
+
+    /**
+     * Number of times a borrower had to wait for a channel to be returned, as the pool was exhausted
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Total time in millis borrowers have waited for a channel
+     */
+    public long getWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTime.sum());
+    }
+
+    /**
+     * Maximum time in millis a borrower has waited for a channel
+     */
+    public long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+    }
+
+    private void acquirePermit() throws InterruptedException {
+        if (permits == null || permits.tryAcquire()) {
+            return;
+        }
+        long start = System.nanoTime();
+        permits.acquire();
+        long elapsed = System.nanoTime() - start;
+        waitCount.increment();
+        waitTime.add(elapsed);
+        maxWaitTime.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private void releasePermit() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private PooledObject<ChannelFuture> pollIdle() {
+        if (numIdle.get() <= 0) {
+            return null;
+        }
+        // prefer a channel bound to the event loop of the current thread (if any)
+        for (Map.Entry<Object, Queue<PooledObject<ChannelFuture>>> entry : idle.entrySet()) {
+            Object key = entry.getKey();
+            if (key instanceof EventExecutor && ((EventExecutor) key).inEventLoop()) {
+                PooledObject<ChannelFuture> p = entry.getValue().poll();
+                if (p != null) {
+                    return p;
+                }
+                break;
+            }
+        }
+        for (Queue<PooledObject<ChannelFuture>> queue : idle.values()) {
+            PooledObject<ChannelFuture> p = queue.poll();
+            if (p != null) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    private boolean activateAndValidate(PooledObject<ChannelFuture> p) {
+        try {
+            factory.activateObject(p);
+            return factory.validateObject(p);
+        } catch (Exception e) {
+            LOG.debug("Error activating channel request: {}. This exception is ignored.", p.getObject(), e);
+            return false;
+        }
+    }
+
+    private void destroy(PooledObject<ChannelFuture> p) {
+        try {
+            factory.destroyObject(p);
+        } catch (Exception e) {
+            LOG.debug("Error destroying channel request: {}. This exception is ignored.", p.getObject(), e);
+        }
+    }
+
+    private static Object eventLoopOf(ChannelFuture channelFuture) {
+        Channel channel = channelFuture.channel();
+        if (channel != null && channel.isRegistered()) {
+            return channel.eventLoop();
+        }
+        return NO_EVENT_LOOP;
+    }
+
+    @Override
+    public String toString() {
+        return "LockFreeChannelPool[active=" + getNumActive() + ", idle=" + getNumIdle() + "]";
+    }
+}
@@ -106,6 +106,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
     @UriParam(label = "producer,advanced")
+    private boolean producerPoolLockFree;
+    @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
     private boolean clientMode;
@@ -681,6 +683,21 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public boolean isProducerPoolLockFree() {
+        return producerPoolLockFree;
+    }
+
+    /**
+     * Whether the producer pool should use a lock-free pool of channels instead of the default commons-pool2 based
+     * pool, which synchronizes when borrowing and returning channels. This can reduce contention at high request rates
+     * with sync=true. Channels bound to the event loop of the calling thread are preferred, and channels are validated
+     * when borrowed. The <tt>producerPoolMinIdle</tt> and <tt>producerPoolMinEvictableIdle</tt> options are not used,
+     * as idle channels are not evicted by the lock-free pool.
+     */
+    public void setProducerPoolLockFree(boolean producerPoolLockFree) {
+        this.producerPoolLockFree = producerPoolLockFree;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
@@ -48,6 +48,8 @@ import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
@@ -64,6 +66,7 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@ManagedResource(description = "Netty Producer")
 public class NettyProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(NettyProducer.class);
@@ -106,7 +109,15 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     @Override
     protected void doStart() throws Exception {
-        if (configuration.isProducerPoolEnabled()) {
+        if (configuration.isProducerPoolEnabled() && configuration.isProducerPoolLockFree()) {
+            pool = new LockFreeChannelPool(
+                    new NettyProducerPoolableObjectFactory(this), configuration.getProducerPoolMaxTotal(),
+                    configuration.getProducerPoolMaxIdle());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Created NettyProducer lock-free pool[maxTotal={}, maxIdle={}] -> {}",
+                        configuration.getProducerPoolMaxTotal(), configuration.getProducerPoolMaxIdle(), pool);
+            }
+        } else if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPoolConfig config = new GenericObjectPoolConfig();
             config.setMaxTotal(configuration.getProducerPoolMaxTotal());
@@ -571,6 +582,41 @@ public class NettyProducer extends DefaultAsyncProducer {
         return allChannels;
     }
 
+    @ManagedAttribute(description = "Number of channels currently borrowed from the producer pool")
+    public int getPoolActive() {
+        ObjectPool<ChannelFuture> p = pool;
+        return p != null ? p.getNumActive() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of idle channels in the producer pool")
+    public int getPoolIdle() {
+        ObjectPool<ChannelFuture> p = pool;
+        return p != null ? p.getNumIdle() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times waited for a channel as the producer pool was exhausted")
+    public long getPoolWaitCount() {
+        ObjectPool<ChannelFuture> p = pool;
+        return p instanceof LockFreeChannelPool ? ((LockFreeChannelPool) p).getWaitCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Total time in millis waited for a channel from the producer pool")
+    public long getPoolWaitTime() {
+        ObjectPool<ChannelFuture> p = pool;
+        return p instanceof LockFreeChannelPool ? ((LockFreeChannelPool) p).getWaitTime() : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum time in millis waited for a channel from the producer pool")
+    public long getPoolMaxWaitTime() {
+        ObjectPool<ChannelFuture> p = pool;
+        if (p instanceof LockFreeChannelPool) {
+            return ((LockFreeChannelPool) p).getMaxWaitTime();
+        } else if (p instanceof GenericObjectPool) {
+            return ((GenericObjectPool<?>) p).getMaxBorrowWaitDuration().toMillis();
+        }
+        return 0;
+    }
+
     /**
      * Callback that ensures the channel is returned to the pool when we are done.
      */
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyProducerPoolLockFreeTest extends BaseNettyTest {
+
+    @Test
+    public void testProducerPoolLockFree() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<String>> replies = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                final String body = "Hello " + i;
+                replies.add(executor.submit(() -> template.requestBody("direct:start", body, String.class)));
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals("Bye " + i, replies.get(i).get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .to("netty:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolLockFree=true"
+                            + "&producerPoolMaxTotal=2");
+
+                from("netty:tcp://localhost:{{port}}?textline=true&sync=true")
+                        .transform(body().regexReplaceAll("Hello", "Bye"));
+            }
+        };
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded multi-producer multi-consumer {@link BlockingQueue} backed by a pre-allocated ring buffer.
+ * <p/>
+ * Each slot in the ring buffer has a sequence number, which the producers and consumers use to claim the slot with a
+ * single compare-and-set, so the queue does not use any locks and does not allocate any objects when adding and
+ * removing elements. The blocking operations wait using the configured {@link WaitStrategy}.
+ * <p/>
+ * The {@link #drainTo(Collection, int)} operation claims all the available elements at once, which makes it cheaper to
+ * consume elements in batches than one at a time.
+ * <p/>
+ * The {@link #iterator()} is weakly consistent and does not support removing elements. An element removed using
+ * {@link #remove(Object)} is still counted in the size of the queue until it would have been consumed.
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * How a thread waits for the queue when it is empty or full.
+     */
+    public enum WaitStrategy {
+        /**
+         * Busy spins, which has the lowest latency but keeps a CPU core busy while waiting.
+         */
+        Spin,
+        /**
+         * Busy spins for a short while and then yields the thread to other threads while waiting.
+         */
+        Yield,
+        /**
+         * Busy spins and yields for a short while and then parks the thread, with a timeout that grows up to 1 millis,
+         * which uses the least CPU while waiting but has a higher latency.
+         */
+        Park
+    }
+
+    private static final Object REMOVED = new Object();
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final int MAX_PARK_SHIFT = 10;
+    private static final long MIN_PARK_NANOS = 1000;
+
+    private final int capacity;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    public RingBufferBlockingQueue(int capacity) {
+        this(capacity, WaitStrategy.Park);
+    }
+
+    public RingBufferBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 30) + ", was: " + capacity);
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("WaitStrategy must be specified");
+        }
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        // the ring buffer is rounded up to a power of two so the slot can be found using a mask
+        int length = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = length - 1;
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        for (;;) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long dif = sequences.get(index) - pos;
+            if (dif == 0) {
+                if (pos - head.get() >= capacity) {
+                    return false;
+                }
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    // publish the element to the consumers
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+            } else if (dif < 0) {
+                // the slot has not been consumed yet
+                return false;
+            }
+            // another producer claimed the slot so try again
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        int counter = 0;
+        while (!offer(e)) {
+            counter = idle(counter, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        while (!offer(e)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            counter = idle(counter, remaining);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        for (;;) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            long dif = sequences.get(index) - (pos + 1);
+            if (dif == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    Object e = release(index, pos);
+                    if (e != REMOVED) {
+                        return (E) e;
+                    }
+                }
+            } else if (dif < 0) {
+                // the slot has not been published yet
+                return null;
+            }
+            // another consumer claimed the slot so try again
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int counter = 0;
+        E e;
+        while ((e = poll()) == null) {
+            counter = idle(counter, Long.MAX_VALUE);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        E e;
+        while ((e = poll()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            counter = idle(counter, remaining);
+        }
+        return e;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        for (long pos = head.get(), end = tail.get(); pos < end; pos++) {
+            Object e = published(pos);
+            if (e != null) {
+                return (E) e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue to itself");
+        }
+        int n = 0;
+        while (n < maxElements) {
+            long pos = head.get();
+            // count the elements which have been published, so they can all be claimed at once
+            int limit = Math.min(maxElements - n, capacity);
+            int available = 0;
+            while (available < limit && sequences.get((int) (pos + available) & mask) == pos + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                if (head.get() == pos) {
+                    break;
+                }
+                continue;
+            }
+            if (head.compareAndSet(pos, pos + available)) {
+                for (int i = 0; i < available; i++) {
+                    Object e = release((int) (pos + i) & mask, pos + i);
+                    if (e != REMOVED) {
+                        c.add((E) e);
+                        n++;
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (long pos = head.get(), end = tail.get(); pos < end; pos++) {
+            Object e = published(pos);
+            // replace the element with a marker, which is skipped when the slot is consumed
+            if (e != null && o.equals(e) && buffer.compareAndSet((int) pos & mask, e, REMOVED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        // read the head before the tail so the size is never negative
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.min(capacity, t - h);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        for (long pos = head.get(), end = tail.get(); pos < end; pos++) {
+            Object e = published(pos);
+            if (e != null) {
+                answer.add((E) e);
+            }
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    /**
+     * Gets the element at the given position if it has been published and not yet consumed or removed.
+     */
+    private Object published(long pos) {
+        int index = (int) pos & mask;
+        if (sequences.get(index) == pos + 1) {
+            Object e = buffer.get(index);
+            if (e != REMOVED) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes the element from the claimed slot and releases the slot to the producers for the next lap of the ring
+     * buffer.
+     */
+    private Object release(int index, long pos) {
+        Object e = buffer.getAndSet(index, null);
+        sequences.lazySet(index, pos + mask + 1);
+        return e;
+    }
+
+    private int idle(int counter, long remainingNanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (waitStrategy == WaitStrategy.Spin || counter < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.Yield || counter < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(counter - SPIN_TRIES - YIELD_TRIES, MAX_PARK_SHIFT);
+            LockSupport.parkNanos(Math.min(remainingNanos, MIN_PARK_NANOS << shift));
+        }
+        // avoid overflow when waiting for a long time
+        return counter < SPIN_TRIES + YIELD_TRIES + MAX_PARK_SHIFT ? counter + 1 : counter;
+    }
+
+}
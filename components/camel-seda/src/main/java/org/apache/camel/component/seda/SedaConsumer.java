@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -24,16 +25,21 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -55,10 +61,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final long batchTimeout;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchTimeout = endpoint.getBatchTimeout();
     }
 
     @Override
@@ -179,7 +189,20 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && batchSize > 1) {
+                    List<Exchange> batch = pollBatch(queue, exchange);
+                    exchange = null;
+                    // route the batch before restoring the interrupt (if polling the batch was interrupted), so
+                    // the batch is not routed on an interrupted thread
+                    boolean interrupted = Thread.interrupted();
+                    try {
+                        processBatch(batch);
+                    } finally {
+                        if (interrupted) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                } else if (exchange != null) {
                     try {
                         // prepare the exchange before sending to consumer
                         Exchange newExchange = prepareExchange(exchange);
@@ -213,6 +236,101 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Takes more exchanges from the queue, until the batch is full or there are no more exchanges before the batch
+     * timeout.
+     *
+     * @param  queue the queue
+     * @param  first the exchange already polled from the queue
+     * @return       the batch of exchanges
+     */
+    protected List<Exchange> pollBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        if (batchTimeout > 0 && batch.size() < batchSize) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            try {
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Exchange exchange = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (exchange == null) {
+                        break;
+                    }
+                    batch.add(exchange);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Polling batch interrupted, are we stopping? {}", isStopping() || isStopped());
+                // keep the interrupt, the exchanges we have taken from the queue are routed before it is restored
+                Thread.currentThread().interrupt();
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Routes the batch of exchanges as a single grouped exchange, which has the exchanges as a {@link List} in the
+     * message body. The exchanges are done when the grouped exchange is done. Exchanges which expect a reply are failed
+     * instead, as only the grouped exchange is routed, so there is no reply for each exchange.
+     *
+     * @param exchanges the batch of exchanges
+     */
+    protected void processBatch(final List<Exchange> exchanges) {
+        final List<Exchange> batch = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            if (ExchangeHelper.isOutCapable(exchange)) {
+                exchange.setException(new CamelExchangeException(
+                        "Cannot consume an exchange which expects a reply in a batch (batchSize=" + batchSize + ")",
+                        exchange));
+                // done the exchange so the producer waiting for the reply can continue
+                List<Synchronization> completions = exchange.adapt(ExtendedExchange.class).handoverCompletions();
+                UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+            } else {
+                batch.add(exchange);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        LOG.trace("Processing batch of {} exchanges", batch.size());
+        getEndpoint().onBatch(batch.size());
+
+        for (Exchange exchange : batch) {
+            prepareExchange(exchange);
+        }
+        Exchange grouped = prepareExchange(getEndpoint().createExchange());
+        grouped.setProperty(ExchangePropertyKey.BATCH_SIZE, batch.size());
+        grouped.getMessage().setBody(batch);
+        grouped.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange answer) {
+                for (Exchange exchange : batch) {
+                    if (answer.getException() != null) {
+                        exchange.setException(answer.getException());
+                    }
+                    // done the exchanges so any producers waiting for the exchanges to complete can continue
+                    List<Synchronization> completions = exchange.adapt(ExtendedExchange.class).handoverCompletions();
+                    UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+                }
+            }
+        });
+
+        try {
+            sendToConsumers(grouped);
+            // log exception if an exception occurred and was not handled
+            if (grouped.getException() != null) {
+                getExceptionHandler().handleException("Error processing batch", grouped, grouped.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing batch", grouped, e);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -325,8 +443,18 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
         // create thread pool if needed
         if (executor == null) {
-            executor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
-                    getEndpoint().getEndpointUri(), poolSize);
+            ExecutorServiceManager manager = getEndpoint().getCamelContext().getExecutorServiceManager();
+            String name = getEndpoint().getEndpointUri();
+            if (Boolean.TRUE.equals(manager.getDefaultThreadPoolProfile().getVirtualThreads())) {
+                // a fixed thread pool never uses virtual threads, but there is only one long running task per
+                // concurrent consumer, so each task can run on its own virtual thread without any limit
+                ThreadPoolProfile profile = new ThreadPoolProfile(name);
+                profile.setVirtualThreads(true);
+                profile.setMaxQueueSize(-1);
+                executor = manager.newThreadPool(this, name, profile);
+            } else {
+                executor = manager.newFixedThreadPool(this, name, poolSize);
+            }
         }
 
         // submit needed number of tasks
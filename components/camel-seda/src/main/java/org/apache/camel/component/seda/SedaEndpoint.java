@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.apache.camel.AsyncEndpoint;
 import org.apache.camel.AsyncProcessor;
@@ -84,6 +85,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced")
+    private int batchSize;
+    @UriParam(label = "consumer,advanced", javaType = "java.time.Duration")
+    private long batchTimeout;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -101,6 +106,7 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean discardIfNoConsumers;
 
     private BlockingQueueFactory<Exchange> queueFactory;
+    private final AtomicLongArray batchSizeHistogram = new AtomicLongArray(32);
 
     public SedaEndpoint() {
         queueFactory = new LinkedBlockingQueueFactory<>();
@@ -440,6 +446,68 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of exchanges the consumer takes from the queue and routes together as a single batch. The
+     * batch is routed as one grouped exchange, which has the exchanges as a <tt>java.util.List</tt> in the message
+     * body, and the exchanges are completed when the grouped exchange is done. This reduces the overhead of routing
+     * each exchange when the route sends to a bulk sink. Exchanges which expect a reply (InOut) cannot be routed in a
+     * batch, and are failed. Use 0 or 1 to route the exchanges one at a time.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The timeout (in milliseconds) the consumer waits for more exchanges to arrive on the queue until the batch is
+     * full. By default, the consumer does not wait, and routes the exchanges which are on the queue when the batch is
+     * taken.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @ManagedAttribute(description = "Number of batches routed by the consumers")
+    public long getBatchCount() {
+        long answer = 0;
+        for (int i = 0; i < batchSizeHistogram.length(); i++) {
+            answer += batchSizeHistogram.get(i);
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Histogram of the sizes of the batches routed by the consumers,"
+                                    + " where the element at index n is the number of batches with a size from 2^n to 2^(n+1)-1")
+    public long[] getBatchSizeHistogram() {
+        // only include the buckets up to the largest batch size
+        int length = 32 - Integer.numberOfLeadingZeros(Math.max(1, batchSize));
+        long[] answer = new long[length];
+        for (int i = 0; i < length; i++) {
+            answer[i] = batchSizeHistogram.get(i);
+        }
+        return answer;
+    }
+
+    @ManagedOperation(description = "Resets the histogram of the sizes of the batches")
+    public void resetBatchSizeHistogram() {
+        for (int i = 0; i < batchSizeHistogram.length(); i++) {
+            batchSizeHistogram.set(i, 0);
+        }
+    }
+
+    void onBatch(int size) {
+        batchSizeHistogram.incrementAndGet(31 - Integer.numberOfLeadingZeros(size));
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
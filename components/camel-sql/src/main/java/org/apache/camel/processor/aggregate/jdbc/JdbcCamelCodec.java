@@ -23,12 +23,14 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
@@ -36,9 +38,33 @@ import org.apache.camel.util.IOHelper;
 
 /**
  * Adapted from HawtDBCamelCodec
+ * <p/>
+ * The exchanges are stored using Java serialization by default, or using the compact {@link BinaryExchangeHolderCodec}
+ * when configured. Exchanges stored in either format can be read, so an existing repository can be switched to the
+ * binary format.
  */
 public class JdbcCamelCodec {
 
+    private BinaryExchangeHolderCodec binaryCodec;
+
+    public JdbcCamelCodec() {
+    }
+
+    public JdbcCamelCodec(BinaryExchangeHolderCodec binaryCodec) {
+        this.binaryCodec = binaryCodec;
+    }
+
+    public BinaryExchangeHolderCodec getBinaryCodec() {
+        return binaryCodec;
+    }
+
+    /**
+     * To store the exchanges using the compact binary codec instead of Java serialization.
+     */
+    public void setBinaryCodec(BinaryExchangeHolderCodec binaryCodec) {
+        this.binaryCodec = binaryCodec;
+    }
+
     public byte[] marshallExchange(Exchange exchange, boolean allowSerializedHeaders)
             throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
@@ -94,14 +120,29 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private void encode(Object object, OutputStream bytesOut) throws IOException {
+    private void encode(DefaultExchangeHolder holder, OutputStream bytesOut) throws IOException {
+        if (binaryCodec != null) {
+            binaryCodec.encode(holder, bytesOut);
+            return;
+        }
         try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
-            objectOut.writeObject(object);
+            objectOut.writeObject(holder);
         }
     }
 
-    private DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn)
+    private DefaultExchangeHolder decode(CamelContext camelContext, InputStream in)
             throws IOException, ClassNotFoundException {
+        // peek at the first byte to detect whether the exchange is stored in the binary format
+        PushbackInputStream bytesIn = new PushbackInputStream(in, 1);
+        int first = bytesIn.read();
+        if (first != -1) {
+            bytesIn.unread(first);
+        }
+        if (BinaryExchangeHolderCodec.isBinaryFormat(first)) {
+            BinaryExchangeHolderCodec codec = binaryCodec != null ? binaryCodec : new BinaryExchangeHolderCodec();
+            return codec.decode(camelContext, bytesIn);
+        }
+
         ObjectInputStream objectIn = null;
         Object obj = null;
         try {
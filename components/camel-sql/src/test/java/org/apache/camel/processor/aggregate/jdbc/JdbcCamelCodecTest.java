@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcCamelCodecTest {
+
+    private CamelContext context;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+        context.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    public void testJavaSerialization() throws Exception {
+        JdbcCamelCodec codec = new JdbcCamelCodec();
+
+        byte[] data = codec.marshallExchange(createExchange(), false);
+        assertFalse(BinaryExchangeHolderCodec.isBinaryFormat(data));
+
+        assertExchange(codec.unmarshallExchange(context, data));
+        // the binary codec detects the exchanges stored with Java serialization
+        assertExchange(new JdbcCamelCodec(new BinaryExchangeHolderCodec()).unmarshallExchange(context, data));
+    }
+
+    @Test
+    public void testBinary() throws Exception {
+        JdbcCamelCodec codec = new JdbcCamelCodec(new BinaryExchangeHolderCodec());
+
+        byte[] data = codec.marshallExchange(createExchange(), false);
+        assertTrue(BinaryExchangeHolderCodec.isBinaryFormat(data));
+
+        assertExchange(codec.unmarshallExchange(context, data));
+        // the default codec detects the exchanges stored with the binary codec
+        assertExchange(new JdbcCamelCodec().unmarshallExchange(context, data));
+    }
+
+    @Test
+    public void testBinaryCompressed() throws Exception {
+        BinaryExchangeHolderCodec binaryCodec = new BinaryExchangeHolderCodec();
+        binaryCodec.setCompression(true);
+        binaryCodec.setCompressionThreshold(0);
+        JdbcCamelCodec codec = new JdbcCamelCodec(binaryCodec);
+
+        byte[] data = codec.marshallExchange(createExchange(), false);
+        assertTrue(BinaryExchangeHolderCodec.isBinaryFormat(data));
+
+        assertExchange(new JdbcCamelCodec().unmarshallExchange(context, data));
+    }
+
+    @Test
+    public void testReadOldSerializedRow() throws Exception {
+        // a row stored before the binary codec was added, which wrote the holder with an ObjectOutputStream
+        Exchange exchange = createExchange();
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, false);
+        DefaultExchangeHolder.addProperty(holder, Exchange.AGGREGATED_SIZE,
+                exchange.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+            objectOut.writeObject(holder);
+        }
+        byte[] row = bytesOut.toByteArray();
+
+        assertExchange(new JdbcCamelCodec().unmarshallExchange(context, row));
+        assertExchange(new JdbcCamelCodec(new BinaryExchangeHolderCodec()).unmarshallExchange(context, row));
+    }
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Olivier");
+        exchange.getIn().setHeader("number", 123);
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 3);
+        return exchange;
+    }
+
+    private void assertExchange(Exchange actual) {
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("number"));
+        assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE));
+    }
+}
@@ -21,7 +21,9 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(21);
+        props.add("batchSize");
+        props.add("batchTimeout");
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("concurrentConsumers");
@@ -260,6 +260,23 @@ public interface ManagementAgent extends Service {
      */
     Boolean getLoadStatisticsEnabled();
 
+    /**
+     * Sets whether the processing times of the routes and processors are recorded in histograms, to calculate
+     * percentiles of the processing times (such as the 99th percentile).
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable processing time histograms
+     */
+    void setProcessingTimeHistogramEnabled(Boolean flag);
+
+    /**
+     * Gets whether processing time histograms is enabled
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getProcessingTimeHistogramEnabled();
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,22 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of spooled {@link StreamCache} created which are kept in off-heap memory.
+         */
+        long getCacheSpoolOffHeapCounter();
+
+        /**
+         * Gets the counter for number of spooled {@link StreamCache} created which are spooled to disk, as there were
+         * no more off-heap memory available.
+         */
+        long getCacheSpoolOffHeapMissCounter();
+
+        /**
+         * Gets the number of bytes of off-heap memory currently in use by spooled {@link StreamCache}.
+         */
+        long getCacheSpoolOffHeapBytesInUse();
+
         /**
          * Reset the counters
          */
@@ -186,6 +203,37 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Sets the max number of bytes of off-heap (direct) memory to use for spooling, before spooling to disk.
+     * <p/>
+     * When in use, then streams which should be spooled are kept in pooled segments of off-heap memory, and are only
+     * spooled to disk when the off-heap memory is exhausted.
+     * <p/>
+     * The default value is <tt>0</tt> which means that streams are spooled to disk.
+     * <p/>
+     * The off-heap memory is not encrypted, so this cannot be used together with {@link #setSpoolCipher(String)}.
+     */
+    void setSpoolOffHeapLimit(long limit);
+
+    long getSpoolOffHeapLimit();
+
+    /**
+     * Allocates a segment of off-heap memory for spooling a stream.
+     * <p/>
+     * The segments have the same size, and must be released using {@link #releaseSpoolOffHeapSegment(ByteBuffer)} when
+     * the stream is no longer in use.
+     *
+     * @return the segment ready for writing, or <tt>null</tt> if spooling to off-heap memory is not in use, or there is
+     *         no more off-heap memory available
+     */
+    ByteBuffer allocateSpoolOffHeapSegment();
+
+    /**
+     * Releases a segment of off-heap memory which was allocated using {@link #allocateSpoolOffHeapSegment()}, so it can
+     * be used for spooling other streams.
+     */
+    void releaseSpoolOffHeapSegment(ByteBuffer segment);
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
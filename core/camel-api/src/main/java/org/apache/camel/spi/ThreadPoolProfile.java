@@ -40,6 +40,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -234,6 +235,30 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Whether to use virtual threads, where each task runs on its own virtual thread instead of a pooled platform
+     * thread.
+     *
+     * @return <tt>true</tt> to use virtual threads
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to use virtual threads, where each task runs on its own virtual thread instead of a pooled platform
+     * thread.
+     * <p/>
+     * The pool sizes are not used for virtual threads, instead the number of tasks that are either running or waiting
+     * to run is limited by the max queue size. Virtual threads requires Java 21 or newer, and on older JVMs platform
+     * threads are used instead.
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      * 
@@ -264,11 +289,15 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreads == null) {
+            virtualThreads = defaultProfile.getVirtualThreads();
+        }
     }
 
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && virtualThreads == null;
     }
 
     @Override
@@ -283,6 +312,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         cloned.setAllowCoreThreadTimeOut(allowCoreThreadTimeOut);
         cloned.setRejectedPolicy(rejectedPolicy);
         cloned.setTimeUnit(timeUnit);
+        cloned.setVirtualThreads(virtualThreads);
         return cloned;
     }
 
@@ -290,7 +320,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreads:" + virtualThreads + "]";
     }
 
 }
@@ -187,4 +187,28 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
      */
     void setTypeConverterExists(TypeConverterExists typeConverterExists);
 
+    /**
+     * Whether the type converters which have been resolved for a pair of types, are kept in a lookup table once the
+     * registry has been started.
+     * <p/>
+     * The lookup table is keyed by the identity of the types, and is read without any locks, which makes repeated
+     * conversions between the same types faster. The table is cleared when new bulk or fallback type converters are
+     * added.
+     * <p/>
+     * The default is <tt>false</tt>
+     */
+    boolean isLookupTableEnabled();
+
+    /**
+     * Whether the type converters which have been resolved for a pair of types, are kept in a lookup table once the
+     * registry has been started.
+     * <p/>
+     * The lookup table is keyed by the identity of the types, and is read without any locks, which makes repeated
+     * conversions between the same types faster. The table is cleared when new bulk or fallback type converters are
+     * added.
+     * <p/>
+     * The default is <tt>false</tt>
+     */
+    void setLookupTableEnabled(boolean lookupTableEnabled);
+
 }
@@ -69,6 +69,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private long shutdownAwaitTermination = 10000;
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private ThreadPoolProfile defaultProfile;
+    private volatile boolean virtualThreadsWarned;
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -194,7 +195,14 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        boolean virtual = Boolean.TRUE.equals(profile.getVirtualThreads());
+        if (virtual && !ThreadHelper.isVirtualThreadsSupported() && !virtualThreadsWarned) {
+            virtualThreadsWarned = true;
+            LOG.warn("Virtual threads are not supported on this JVM (requires Java 21 or newer)."
+                     + " Thread pools with virtual threads enabled will use platform threads instead.");
+        }
+
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, virtual);
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -209,6 +217,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile profile = new ThreadPoolProfile(name);
         profile.setPoolSize(poolSize);
         profile.setMaxPoolSize(maxPoolSize);
+        // the caller asks for a bounded pool so do not inherit virtual threads from the default profile
+        profile.setVirtualThreads(false);
         return newThreadPool(source, name, profile);
     }
 
@@ -236,6 +246,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         profile.setMaxPoolSize(poolSize);
         profile.setKeepAliveTime(0L);
         profile.setAllowCoreThreadTimeOut(false);
+        // a fixed (or single) thread pool must be bounded so do not inherit virtual threads from the default profile
+        profile.setVirtualThreads(false);
         return newThreadPool(source, name, profile);
     }
 
@@ -587,4 +599,11 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
 
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean isVirtual) {
+        if (isVirtual) {
+            return new CamelThreadFactory(threadNamePattern, name, isDaemon, true);
+        }
+        return createThreadFactory(name, isDaemon);
+    }
+
 }
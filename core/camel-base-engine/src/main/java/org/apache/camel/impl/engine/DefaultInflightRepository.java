@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,19 +39,48 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The inflight exchanges are only kept (for browsing) when inflight browse is enabled, otherwise only the number of
+ * inflight exchanges (in total and per route) is counted. The counters can optionally be striped (using
+ * {@link LongAdder}) to avoid contention when many exchanges are concurrently processed. A striped counter counts the
+ * added and removed exchanges separately, and reads the removed before the added, which means the size can briefly be
+ * higher than the actual number of inflight exchanges while exchanges are concurrently added and removed, but it is
+ * never lower. The size is therefore only 0 when there are no inflight exchanges, which the graceful shutdown relies on
+ * when it regards a route as drained, and it is exact when no exchanges are concurrently added and removed.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
 
-    private final AtomicInteger size = new AtomicInteger();
+    private final boolean striped;
+    private final Counter size;
     private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> routeCount = new ConcurrentHashMap<>();
     private boolean inflightExchangeEnabled;
 
+    public DefaultInflightRepository() {
+        this(false);
+    }
+
+    /**
+     * Creates the repository
+     *
+     * @param striped whether to use striped counters for the total size and the sizes per route, which scales better
+     *                when many exchanges are concurrently processed, however the sizes can briefly be higher than the
+     *                actual number of inflight exchanges while exchanges are concurrently added and removed.
+     */
+    public DefaultInflightRepository(boolean striped) {
+        this.striped = striped;
+        this.size = striped ? new StripedCounter() : new AtomicCounter();
+    }
+
+    public boolean isStriped() {
+        return striped;
+    }
+
     @Override
     public void add(Exchange exchange) {
-        size.incrementAndGet();
+        size.increment();
 
         if (inflightExchangeEnabled) {
             inflight.put(exchange.getExchangeId(), exchange);
@@ -59,7 +89,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public void remove(Exchange exchange) {
-        size.decrementAndGet();
+        size.decrement();
 
         if (inflightExchangeEnabled) {
             inflight.remove(exchange.getExchangeId());
@@ -68,17 +98,17 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        Counter existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        Counter existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
@@ -89,7 +119,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, striped ? new StripedCounter() : new AtomicCounter());
     }
 
     @Override
@@ -99,7 +129,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        Counter existing = routeCount.get(routeId);
         return existing != null ? existing.get() : 0;
     }
 
@@ -212,6 +242,59 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return System.currentTimeMillis() - exchange.getCreated();
     }
 
+    private interface Counter {
+
+        void increment();
+
+        void decrement();
+
+        int get();
+    }
+
+    private static final class AtomicCounter implements Counter {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void increment() {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void decrement() {
+            count.decrementAndGet();
+        }
+
+        @Override
+        public int get() {
+            return count.get();
+        }
+    }
+
+    private static final class StripedCounter implements Counter {
+
+        private final LongAdder added = new LongAdder();
+        private final LongAdder removed = new LongAdder();
+
+        @Override
+        public void increment() {
+            added.increment();
+        }
+
+        @Override
+        public void decrement() {
+            removed.increment();
+        }
+
+        @Override
+        public int get() {
+            // the sums are not atomic snapshots, but as both only grow and an exchange is always added before it is
+            // removed, then reading the removed before the added never counts fewer than the actual inflight exchanges
+            long count = removed.sum();
+            return (int) (added.sum() - count);
+        }
+    }
+
     private static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
@@ -19,19 +19,25 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +48,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
+    /**
+     * The size of the segments of off-heap memory used for spooling
+     */
+    private static final int SPOOL_OFF_HEAP_SEGMENT_SIZE = 64 * 1024;
+
     private CamelContext camelContext;
     private boolean enabled;
     private boolean spoolEnabled;
@@ -51,11 +62,15 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
+    private long spoolOffHeapLimit;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    // the off-heap segments which are not in use, and the number of bytes allocated for all the segments
+    private final Queue<ByteBuffer> spoolOffHeapSegments = new ConcurrentLinkedQueue<>();
+    private final AtomicLong spoolOffHeapAllocated = new AtomicLong();
 
     @Override
     public CamelContext getCamelContext() {
@@ -142,6 +157,45 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolCipher = spoolCipher;
     }
 
+    @Override
+    public long getSpoolOffHeapLimit() {
+        return spoolOffHeapLimit;
+    }
+
+    @Override
+    public void setSpoolOffHeapLimit(long spoolOffHeapLimit) {
+        this.spoolOffHeapLimit = spoolOffHeapLimit;
+    }
+
+    @Override
+    public ByteBuffer allocateSpoolOffHeapSegment() {
+        if (spoolOffHeapLimit <= 0) {
+            return null;
+        }
+        ByteBuffer segment = spoolOffHeapSegments.poll();
+        if (segment == null) {
+            // allocate a new segment if it is within the limit
+            long allocated;
+            do {
+                allocated = spoolOffHeapAllocated.get();
+                if (allocated + SPOOL_OFF_HEAP_SEGMENT_SIZE > spoolOffHeapLimit) {
+                    LOG.trace("Cannot allocate off-heap segment as {} of {} bytes are in use", allocated, spoolOffHeapLimit);
+                    return null;
+                }
+            } while (!spoolOffHeapAllocated.compareAndSet(allocated, allocated + SPOOL_OFF_HEAP_SEGMENT_SIZE));
+            segment = ByteBuffer.allocateDirect(SPOOL_OFF_HEAP_SEGMENT_SIZE);
+        }
+        statistics.spoolOffHeapBytesInUse.addAndGet(segment.capacity());
+        return segment;
+    }
+
+    @Override
+    public void releaseSpoolOffHeapSegment(ByteBuffer segment) {
+        statistics.spoolOffHeapBytesInUse.addAndGet(-segment.capacity());
+        segment.clear();
+        spoolOffHeapSegments.offer(segment);
+    }
+
     @Override
     public int getBufferSize() {
         return bufferSize;
@@ -231,6 +285,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                         statistics.updateMemory(cache.length());
                     } else {
                         statistics.updateSpool(cache.length());
+                        if (spoolOffHeapLimit > 0) {
+                            statistics.updateSpoolOffHeap(cache instanceof OffHeapInputStreamCache);
+                        }
                     }
                 } catch (Exception e) {
                     LOG.debug("Error updating cache statistics. This exception is ignored.", e);
@@ -288,6 +345,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             throw new IllegalArgumentException(
                     "SpoolHeapMemoryWatermarkThreshold must not be higher than 99, was: " + spoolUsedHeapMemoryThreshold);
         }
+        if (spoolOffHeapLimit > 0 && ObjectHelper.isNotEmpty(spoolCipher)) {
+            // the off-heap segments are not encrypted so they cannot be used when the spooled content must be encrypted
+            throw new IllegalArgumentException("SpoolOffHeapLimit cannot be used together with SpoolCipher");
+        }
 
         // if we can overflow to disk then make sure directory exists / is created
         if (spoolEnabled && (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0)) {
@@ -335,7 +396,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (spoolDirectory != null && spoolOffHeapLimit > 0) {
+            LOG.info("StreamCaching in use with off-heap limit: {} bytes, spool directory: {} and rules: {}", spoolOffHeapLimit,
+                    spoolDirectory.getPath(), spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -357,6 +421,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // free the off-heap segments which are not in use
+        ByteBuffer segment;
+        while ((segment = spoolOffHeapSegments.poll()) != null) {
+            spoolOffHeapAllocated.addAndGet(-segment.capacity());
+        }
     }
 
     private boolean isSpoolRemovable() {
@@ -370,6 +440,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolDirectory=" + spoolDirectory
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
+               + ", spoolOffHeapLimit=" + spoolOffHeapLimit
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
@@ -450,6 +521,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long spoolOffHeapCounter;
+        private volatile long spoolOffHeapMissCounter;
+        // is not reset as it is the number of bytes currently in use
+        private final AtomicLong spoolOffHeapBytesInUse = new AtomicLong();
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -463,6 +538,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateSpoolOffHeap(boolean offHeap) {
+            if (offHeap) {
+                spoolOffHeapCounter++;
+            } else {
+                spoolOffHeapMissCounter++;
+            }
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -493,6 +576,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheSpoolOffHeapCounter() {
+            return spoolOffHeapCounter;
+        }
+
+        @Override
+        public long getCacheSpoolOffHeapMissCounter() {
+            return spoolOffHeapMissCounter;
+        }
+
+        @Override
+        public long getCacheSpoolOffHeapBytesInUse() {
+            return spoolOffHeapBytesInUse.get();
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -501,6 +599,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            spoolOffHeapCounter = 0;
+            spoolOffHeapMissCounter = 0;
         }
 
         @Override
@@ -516,8 +616,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s, spoolOffHeapCounter=%s, spoolOffHeapMissCounter=%s, spoolOffHeapBytesInUse=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    spoolOffHeapCounter, spoolOffHeapMissCounter, spoolOffHeapBytesInUse.get());
         }
     }
 
@@ -0,0 +1,410 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Experimental;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which runs the scheduled tasks on a bounded pool of carrier threads, which share the work
+ * by stealing tasks from each other.
+ * <p/>
+ * Each carrier thread has its own deque of tasks. Tasks scheduled from a carrier thread are added to its own deque, and
+ * tasks scheduled from any other thread are added to a shared queue. An idle carrier thread first takes work from the
+ * shared queue, and then steals from the tail of the deques of the other carrier threads. This allows long asynchronous
+ * routes (such as multicast, recipient list and aggregate) to use all the cores, instead of running all their
+ * continuations on the thread that triggered them.
+ * <p/>
+ * Tasks scheduled with {@link #scheduleSync(Runnable)} and {@link #scheduleQueue(Runnable)} must run on the calling
+ * thread (such as for transacted routes), and are executed in the same way as the {@link DefaultReactiveExecutor} does.
+ * <p/>
+ * The carrier threads should not be blocked. A carrier thread which waits for an exchange to complete helps to run its
+ * own pending tasks, but if all the carrier threads are blocked then no continuations can run.
+ * <p/>
+ * NOTE: This is an experimental implementation (use with care)
+ */
+@Experimental
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements CamelContextAware, ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+    // an idle carrier thread wakes up periodically to look for work, in case it missed a signal
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final DefaultReactiveExecutor callerRuns = new DefaultReactiveExecutor();
+    private final Queue<Runnable> shared = new ConcurrentLinkedQueue<>();
+    private final NamedThreadLocal<Worker> current = new NamedThreadLocal<>("CamelWorkStealingReactiveWorker");
+    private final AtomicInteger parkedWorkers = new AtomicInteger();
+
+    private CamelContext camelContext;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private boolean statisticsEnabled;
+    private volatile Worker[] workers;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of carrier threads")
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Number of carrier threads. Is by default the number of available processors.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        Worker worker = current.get();
+        if (worker != null) {
+            worker.push(runnable, false);
+        } else {
+            submit(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        Worker worker = current.get();
+        if (worker != null) {
+            worker.push(runnable, true);
+        } else {
+            submit(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        callerRuns.scheduleSync(runnable);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        callerRuns.scheduleQueue(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        if (callerRuns.executeFromQueue()) {
+            return true;
+        }
+        // a carrier thread which is waiting for an exchange to complete should help with its own pending tasks
+        Worker worker = current.get();
+        if (worker != null) {
+            Runnable task = worker.deque.pollFirst();
+            if (task != null) {
+                worker.execute(task);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        callerRuns.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @ManagedAttribute(description = "Number of tasks pending in the shared queue")
+    public int getSharedQueueDepth() {
+        return shared.size();
+    }
+
+    @ManagedAttribute(description = "Number of tasks pending in the queue of each carrier thread")
+    public int[] getWorkerQueueDepths() {
+        Worker[] arr = workers;
+        if (arr == null) {
+            return new int[0];
+        }
+        int[] answer = new int[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            answer[i] = arr[i].deque.size();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from other carrier threads by each carrier thread")
+    public long[] getWorkerStealCounts() {
+        Worker[] arr = workers;
+        if (arr == null) {
+            return new long[0];
+        }
+        long[] answer = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            answer[i] = arr[i].steals;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks executed by each carrier thread")
+    public long[] getWorkerExecutedCounts() {
+        Worker[] arr = workers;
+        if (arr == null) {
+            return new long[0];
+        }
+        long[] answer = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            answer[i] = arr[i].executed;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of tasks stolen from other carrier threads")
+    public long getStealCount() {
+        long answer = 0;
+        for (long count : getWorkerStealCounts()) {
+            answer += count;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of idle carrier threads")
+    public int getIdleWorkers() {
+        return parkedWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        int answer = shared.size();
+        for (int depth : getWorkerQueueDepths()) {
+            answer += depth;
+        }
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("PoolSize must be a positive number, was: " + poolSize);
+        }
+
+        Worker[] arr = new Worker[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            arr[i] = new Worker(i);
+        }
+        workers = arr;
+        for (Worker worker : arr) {
+            worker.thread = camelContext.getExecutorServiceManager().newThread("ReactiveWorker #" + worker.number, worker);
+            worker.thread.start();
+        }
+        LOG.debug("Started {} carrier threads", poolSize);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        Worker[] arr = workers;
+        workers = null;
+        if (arr != null) {
+            for (Worker worker : arr) {
+                LockSupport.unpark(worker.thread);
+            }
+            for (Worker worker : arr) {
+                worker.thread.join(1000);
+                // run any tasks left behind in the calling thread, so no exchange is left hanging
+                Runnable task;
+                while ((task = worker.deque.pollFirst()) != null) {
+                    callerRuns.schedule(task);
+                }
+            }
+        }
+        Runnable task;
+        while ((task = shared.poll()) != null) {
+            callerRuns.schedule(task);
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        callerRuns.shutdown();
+    }
+
+    private void submit(Runnable runnable) {
+        if (workers == null) {
+            // not started (or stopping) so run in the calling thread
+            callerRuns.schedule(runnable);
+            return;
+        }
+        shared.offer(runnable);
+        signal();
+    }
+
+    /**
+     * Wakes up an idle carrier thread (if any) as there is work to be taken.
+     */
+    private void signal() {
+        if (parkedWorkers.get() == 0) {
+            return;
+        }
+        Worker[] arr = workers;
+        if (arr != null) {
+            for (Worker worker : arr) {
+                if (worker.parked.compareAndSet(true, false)) {
+                    parkedWorkers.decrementAndGet();
+                    LockSupport.unpark(worker.thread);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor";
+    }
+
+    private final class Worker implements Runnable {
+
+        private final int number;
+        private final ConcurrentLinkedDeque<Runnable> deque = new ConcurrentLinkedDeque<>();
+        private final AtomicBoolean parked = new AtomicBoolean();
+        private Thread thread;
+        // only updated by the carrier thread itself, and are volatile as they are read by other threads for statistics
+        private volatile long steals;
+        private volatile long executed;
+
+        Worker(int number) {
+            this.number = number;
+        }
+
+        void push(Runnable runnable, boolean first) {
+            if (workers == null) {
+                // stopping so run in the calling thread
+                callerRuns.schedule(runnable);
+                return;
+            }
+            if (first) {
+                deque.addFirst(runnable);
+            } else {
+                deque.addLast(runnable);
+            }
+            // wake up an idle carrier (if any) so it can steal the task, in case this carrier is busy or blocked
+            signal();
+        }
+
+        @Override
+        public void run() {
+            current.set(this);
+            try {
+                while (workers != null) {
+                    Runnable task = deque.pollFirst();
+                    if (task == null) {
+                        task = shared.poll();
+                    }
+                    if (task == null) {
+                        task = steal();
+                    }
+                    if (task == null) {
+                        task = idle();
+                    }
+                    if (task != null) {
+                        execute(task);
+                    }
+                }
+            } finally {
+                current.remove();
+            }
+        }
+
+        void execute(Runnable task) {
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, task);
+                }
+                task.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            // single writer so a plain read and write of the volatile field is safe
+            executed = executed + 1;
+        }
+
+        private Runnable steal() {
+            Worker[] arr = workers;
+            if (arr == null || arr.length == 1) {
+                return null;
+            }
+            int start = ThreadLocalRandom.current().nextInt(arr.length);
+            for (int i = 0; i < arr.length; i++) {
+                Worker victim = arr[(start + i) % arr.length];
+                if (victim != this) {
+                    Runnable task = victim.deque.pollLast();
+                    if (task != null) {
+                        steals = steals + 1;
+                        return task;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Runnable idle() {
+            if (parked.compareAndSet(false, true)) {
+                parkedWorkers.incrementAndGet();
+            }
+            // check again for work which may have been added before we were marked as parked
+            Runnable task = shared.poll();
+            if (task == null) {
+                task = steal();
+            }
+            if (task == null && workers != null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            if (parked.compareAndSet(true, false)) {
+                parkedWorkers.decrementAndGet();
+            }
+            return task;
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
@@ -34,6 +35,7 @@ import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterExists;
 import org.apache.camel.TypeConverterExistsException;
 import org.apache.camel.converter.ObjectConverter;
+import org.apache.camel.impl.converter.TypeConverterLookupTable.Kind;
 import org.apache.camel.spi.BulkTypeConverters;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.Injector;
@@ -75,6 +77,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Ignore;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.DEBUG;
+    protected boolean lookupTableEnabled;
+
+    // the converters which have been resolved for the types (only in use when the lookup table is enabled and started)
+    private final AtomicReference<TypeConverterLookupTable> lookupTable = new AtomicReference<>();
 
     // to keep track of number of converters in the bulked classes
     private int sumBulkTypeConverters;
@@ -93,6 +99,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
         this.typeConverterExistsLoggingLevel = registry.getTypeConverterExistsLoggingLevel();
         this.typeConverterExists = registry.getTypeConverterExists();
+        this.lookupTableEnabled = registry.isLookupTableEnabled();
     }
 
     @Override
@@ -451,6 +458,43 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             attemptCounter.increment();
         }
 
+        // use the converter which has previously been resolved for these types
+        final TypeConverterLookupTable table = lookupTable.get();
+        if (table != null) {
+            TypeConverterLookupTable.Entry entry = table.get(type, value.getClass());
+            if (entry != null) {
+                if (entry.kind == Kind.BULK) {
+                    Object rc = entry.getBulk().convertTo(value.getClass(), type, exchange, value);
+                    if (rc != null) {
+                        return rc;
+                    }
+                } else if (entry.kind == Kind.CONVERTER) {
+                    TypeConverter tc = entry.converter;
+                    Object rc;
+                    if (tryConvert) {
+                        rc = tc.tryConvertTo(type, exchange, value);
+                    } else {
+                        rc = tc.convertTo(type, exchange, value);
+                    }
+                    if (rc != null) {
+                        return rc;
+                    } else if (tc.allowNull()) {
+                        return null;
+                    }
+                } else {
+                    // only the bulk converters can convert these types (depending on the value)
+                    for (BulkTypeConverters bulk : bulkTypeConverters) {
+                        Object rc = bulk.convertTo(value.getClass(), type, exchange, value);
+                        if (rc != null) {
+                            return rc;
+                        }
+                    }
+                    return TypeConverter.MISS_VALUE;
+                }
+                // the converter could not convert this value, so resolve the converter again
+            }
+        }
+
         // attempt bulk first which is the fastest
         for (BulkTypeConverters bulk : bulkTypeConverters) {
             if (trace) {
@@ -462,6 +506,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             rc = bulk.convertTo(value.getClass(), type, exchange, value);
 
             if (rc != null) {
+                addToLookupTable(table, type, value.getClass(), Kind.BULK, bulk);
                 return rc;
             }
         }
@@ -479,8 +524,14 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 rc = converter.convertTo(type, exchange, value);
             }
             if (rc != null) {
+                if (converter == MISS_CONVERTER) {
+                    addToLookupTable(table, type, value.getClass(), Kind.MISS, null);
+                } else {
+                    addToLookupTable(table, type, value.getClass(), Kind.CONVERTER, converter);
+                }
                 return rc;
             } else if (converter.allowNull()) {
+                addToLookupTable(table, type, value.getClass(), Kind.CONVERTER, converter);
                 return null;
             }
         }
@@ -501,8 +552,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                         rc = tc.convertTo(primitiveType, exchange, value);
                     }
                     if (rc == null && tc.allowNull()) {
+                        addToLookupTable(table, type, fromType, Kind.CONVERTER, tc);
                         return null;
                     } else if (rc != null) {
+                        addToLookupTable(table, type, fromType, Kind.CONVERTER, tc);
                         return rc;
                     }
                 }
@@ -538,6 +591,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                                 fallback.getFallbackTypeConverter());
                     }
                     addTypeConverter(type, value.getClass(), fallback.getFallbackTypeConverter());
+                    addToLookupTable(table, type, value.getClass(), Kind.CONVERTER, fallback.getFallbackTypeConverter());
                 }
 
                 if (LOG.isTraceEnabled()) {
@@ -554,12 +608,41 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
             typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            addToLookupTable(table, type, value.getClass(), Kind.MISS, null);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
+    /**
+     * Adds the resolved converter to the lookup table (if enabled).
+     * <p/>
+     * The entry is only added if the table has not changed since it was read before resolving the converter, as the
+     * table may have been cleared due to new type converters being added in the meantime. This means no locking is
+     * needed, and if the entry is not added, then the converter is just resolved again on the next conversion.
+     */
+    private void addToLookupTable(
+            TypeConverterLookupTable table, Class<?> toType, Class<?> fromType, Kind kind, TypeConverter converter) {
+        if (table != null) {
+            lookupTable.compareAndSet(table, table.with(new TypeConverterLookupTable.Entry(toType, fromType, kind, converter)));
+        }
+    }
+
+    /**
+     * Removes the entry from the lookup table (if enabled), to make the conversion resolve the converter again
+     */
+    private void removeFromLookupTable(Class<?> toType, Class<?> fromType) {
+        lookupTable.updateAndGet(t -> t != null ? t.without(toType, fromType) : null);
+    }
+
+    /**
+     * Clears the lookup table (if enabled), to make all conversions resolve their converters again
+     */
+    private void clearLookupTable() {
+        lookupTable.updateAndGet(t -> t != null ? TypeConverterLookupTable.EMPTY : null);
+    }
+
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
         return typeMappings.get(toType, fromType);
     }
@@ -575,6 +658,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            clearLookupTable();
         }
     }
 
@@ -585,6 +669,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed so add this converter
             typeMappings.put(toType, fromType, typeConverter);
+            removeFromLookupTable(toType, fromType);
             return;
         }
 
@@ -612,12 +697,14 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                removeFromLookupTable(toType, fromType);
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
+        removeFromLookupTable(toType, fromType);
         return typeMappings.remove(toType, fromType);
     }
 
@@ -632,6 +719,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        clearLookupTable();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -738,6 +826,19 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         return typeMappings.size() + sumBulkTypeConverters;
     }
 
+    @Override
+    public boolean isLookupTableEnabled() {
+        return lookupTableEnabled;
+    }
+
+    @Override
+    public void setLookupTableEnabled(boolean lookupTableEnabled) {
+        this.lookupTableEnabled = lookupTableEnabled;
+        if (isStarted()) {
+            lookupTable.set(lookupTableEnabled ? TypeConverterLookupTable.EMPTY : null);
+        }
+    }
+
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
         return typeConverterExistsLoggingLevel;
     }
@@ -754,9 +855,19 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         this.typeConverterExists = typeConverterExists;
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // all the type converters have been loaded, so the converters resolved from now on can be kept in the lookup table
+        if (lookupTableEnabled) {
+            lookupTable.set(TypeConverterLookupTable.EMPTY);
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+        lookupTable.set(null);
         // log utilization statistics when stopping, including mappings
         if (statistics.isStatisticsEnabled()) {
             String info = statistics.toString();
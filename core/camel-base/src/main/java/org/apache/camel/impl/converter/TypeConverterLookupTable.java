@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.BulkTypeConverters;
+
+/**
+ * An immutable table of the type converters which have been resolved for a pair of to and from types.
+ * <p/>
+ * The table uses open addressing with linear probing, where the entries are keyed by the identity of the classes, so a
+ * lookup does not allocate any objects. The table is copied when a new entry is added, which means it can be read
+ * without any locks, and it is only intended for a small and stable number of entries.
+ */
+final class TypeConverterLookupTable {
+
+    /**
+     * The max number of entries, to avoid copying large tables if there are many dynamic classes being converted
+     */
+    static final int MAX_ENTRIES = 4096;
+
+    static final TypeConverterLookupTable EMPTY = new TypeConverterLookupTable(new Entry[16], 0);
+
+    /**
+     * The kind of the entry
+     */
+    enum Kind {
+        /**
+         * The bulk type converter which converted the types
+         */
+        BULK,
+        /**
+         * The type converter (either a regular or promoted fallback converter) which converted the types
+         */
+        CONVERTER,
+        /**
+         * None of the regular or fallback type converters could convert the types
+         */
+        MISS
+    }
+
+    static final class Entry {
+        final Class<?> toType;
+        final Class<?> fromType;
+        final Kind kind;
+        final TypeConverter converter;
+
+        Entry(Class<?> toType, Class<?> fromType, Kind kind, TypeConverter converter) {
+            this.toType = toType;
+            this.fromType = fromType;
+            this.kind = kind;
+            this.converter = converter;
+        }
+
+        BulkTypeConverters getBulk() {
+            return (BulkTypeConverters) converter;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int size;
+
+    private TypeConverterLookupTable(Entry[] entries, int size) {
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * Gets the entry for the given types
+     *
+     * @return the entry, or <tt>null</tt> if there is no entry
+     */
+    Entry get(Class<?> toType, Class<?> fromType) {
+        final Entry[] arr = entries;
+        final int mask = arr.length - 1;
+        int index = hash(toType, fromType) & mask;
+        for (;;) {
+            Entry entry = arr[index];
+            if (entry == null || entry.toType == toType && entry.fromType == fromType) {
+                return entry;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Creates a copy of this table with the given entry added (or replaced)
+     *
+     * @return the new table, or this table if it is full
+     */
+    TypeConverterLookupTable with(Entry entry) {
+        if (size >= MAX_ENTRIES) {
+            return this;
+        }
+        return copy(entry.toType, entry.fromType, entry);
+    }
+
+    /**
+     * Creates a copy of this table without the entry for the given types
+     *
+     * @return the new table, or this table if there is no entry for the types
+     */
+    TypeConverterLookupTable without(Class<?> toType, Class<?> fromType) {
+        if (get(toType, fromType) == null) {
+            return this;
+        }
+        return copy(toType, fromType, null);
+    }
+
+    private TypeConverterLookupTable copy(Class<?> toType, Class<?> fromType, Entry entry) {
+        int length = entries.length;
+        // keep the load factor at 50% or less so the probes are short
+        if (entry != null && (size + 1) * 2 > length) {
+            length <<= 1;
+        }
+        Entry[] arr = new Entry[length];
+        int count = 0;
+        for (Entry existing : entries) {
+            if (existing != null && (existing.toType != toType || existing.fromType != fromType)) {
+                put(arr, existing);
+                count++;
+            }
+        }
+        if (entry != null) {
+            put(arr, entry);
+            count++;
+        }
+        return new TypeConverterLookupTable(arr, count);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static void put(Entry[] arr, Entry entry) {
+        final int mask = arr.length - 1;
+        int index = hash(entry.toType, entry.fromType) & mask;
+        while (arr[index] != null) {
+            index = (index + 1) & mask;
+        }
+        arr[index] = entry;
+    }
+
+    private static int hash(Class<?> toType, Class<?> fromType) {
+        int h = System.identityHashCode(toType) * 31 + System.identityHashCode(fromType);
+        // spread the bits as the identity hash codes of classes are not uniform in the lower bits
+        return h ^ (h >>> 16);
+    }
+
+}
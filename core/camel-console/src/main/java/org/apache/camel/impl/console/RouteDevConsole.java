@@ -68,6 +68,16 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
             sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
             sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+            if (mrb.isProcessingTimeHistogramEnabled()) {
+                sb.append(String.format("\n    P50 Time: %s",
+                        TimeUtils.printDuration(mrb.getProcessingTimePercentile50(), true)));
+                sb.append(String.format("\n    P90 Time: %s",
+                        TimeUtils.printDuration(mrb.getProcessingTimePercentile90(), true)));
+                sb.append(String.format("\n    P99 Time: %s",
+                        TimeUtils.printDuration(mrb.getProcessingTimePercentile99(), true)));
+                sb.append(String.format("\n    P999 Time: %s",
+                        TimeUtils.printDuration(mrb.getProcessingTimePercentile999(), true)));
+            }
             sb.append("\n");
             return null;
         };
@@ -98,6 +108,12 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
             stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
             stats.put("minProcessingTime", mrb.getMinProcessingTime());
+            if (mrb.isProcessingTimeHistogramEnabled()) {
+                stats.put("processingTimePercentile50", mrb.getProcessingTimePercentile50());
+                stats.put("processingTimePercentile90", mrb.getProcessingTimePercentile90());
+                stats.put("processingTimePercentile99", mrb.getProcessingTimePercentile99());
+                stats.put("processingTimePercentile999", mrb.getProcessingTimePercentile999());
+            }
             jo.put("statistics", stats);
             return null;
         };
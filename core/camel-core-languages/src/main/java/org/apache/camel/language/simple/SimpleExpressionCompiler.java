@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.SimpleFunctionExpression;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.builder.ExpressionBuilder;
+
+/**
+ * Compiles the parsed simple AST into fused expressions, which is used when the simple language is in compiled mode.
+ * <p/>
+ * The common functions (body, headers, exchange properties and the exchange id) are compiled into direct lookups on the
+ * exchange, instead of being evaluated through nested expressions with type conversions of the header or property name
+ * on every call. The literal texts are folded into constants, and the parts of a template are concatenated by a single
+ * expression, which only uses the type converter for values that are not strings. Any other function is evaluated as in
+ * the regular mode.
+ */
+public final class SimpleExpressionCompiler {
+
+    private static final String[] HEADER_PREFIXES = { "in.headers", "in.header", "headers", "header" };
+    private static final String PROPERTY_PREFIX = "exchangeProperty";
+
+    private SimpleExpressionCompiler() {
+    }
+
+    /**
+     * Compiles the nodes of a parsed simple expression into a single expression.
+     *
+     * @param  camelContext the camel context
+     * @param  nodes        the parsed nodes
+     * @param  expression   the simple expression
+     * @return              the compiled expression
+     */
+    public static Expression compile(CamelContext camelContext, List<SimpleNode> nodes, String expression) {
+        List<Object> parts = new ArrayList<>(nodes.size());
+        StringBuilder constant = null;
+        for (SimpleNode node : nodes) {
+            if (node instanceof LiteralNode && !(node instanceof SimpleFunctionExpression)) {
+                // fold adjacent literals into one constant
+                if (constant == null) {
+                    constant = new StringBuilder();
+                }
+                constant.append(((LiteralNode) node).getText());
+                continue;
+            }
+            Expression exp = node.createExpression(camelContext, expression);
+            if (exp != null) {
+                if (constant != null) {
+                    parts.add(constant.toString());
+                    constant = null;
+                }
+                parts.add(exp);
+            }
+        }
+        if (constant != null) {
+            parts.add(constant.toString());
+        }
+
+        if (parts.isEmpty()) {
+            return ExpressionBuilder.constantExpression("");
+        } else if (parts.size() == 1) {
+            Object part = parts.get(0);
+            return part instanceof String ? ExpressionBuilder.constantExpression(part) : (Expression) part;
+        } else {
+            return new ConcatExpression(parts.toArray(), expression);
+        }
+    }
+
+    /**
+     * Compiles the function (the text between <tt>${ }</tt>) into a direct lookup, if its one of the common functions
+     * without OGNL or nested functions.
+     *
+     * @param  function the function
+     * @return          the compiled function, or <tt>null</tt> if the function should be evaluated as in the regular
+     *                  mode
+     */
+    public static Expression compileFunction(String function) {
+        if ("body".equals(function) || "in.body".equals(function)) {
+            return new LookupExpression(function, e -> e.getIn().getBody());
+        } else if ("exchangeId".equals(function)) {
+            return new LookupExpression(function, Exchange::getExchangeId);
+        }
+
+        for (String prefix : HEADER_PREFIXES) {
+            String name = nameAfter(prefix, function, true);
+            if (name != null) {
+                return new LookupExpression(function, e -> {
+                    Object header = e.getIn().getHeader(name);
+                    if (header == null) {
+                        // fall back on a property
+                        header = e.getProperty(name);
+                    }
+                    return header;
+                });
+            }
+        }
+        String name = nameAfter(PROPERTY_PREFIX, function, false);
+        if (name != null) {
+            return new LookupExpression(function, e -> e.getProperty(name));
+        }
+        return null;
+    }
+
+    private static String nameAfter(String prefix, String function, boolean allowColon) {
+        int len = prefix.length();
+        if (!function.startsWith(prefix) || function.length() <= len + 1) {
+            return null;
+        }
+        char separator = function.charAt(len);
+        if (separator != '.' && !(allowColon && separator == ':')) {
+            return null;
+        }
+        // only plain names, as names with dots, brackets or quotes may be OGNL
+        for (int i = len + 1; i < function.length(); i++) {
+            char ch = function.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-') {
+                return null;
+            }
+        }
+        return function.substring(len + 1);
+    }
+
+    /**
+     * A compiled function which looks up its value directly from the exchange.
+     */
+    private static final class LookupExpression extends ExpressionAdapter {
+        private final String function;
+        private final Function<Exchange, Object> lookup;
+
+        private LookupExpression(String function, Function<Exchange, Object> lookup) {
+            this.function = function;
+            this.lookup = lookup;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return lookup.apply(exchange);
+        }
+
+        @Override
+        public String toString() {
+            return "${" + function + "}";
+        }
+    }
+
+    /**
+     * Concatenates the constant texts and the values of the expressions.
+     */
+    private static final class ConcatExpression extends ExpressionAdapter {
+        private final Object[] parts;
+        private final String expression;
+        private final int sizeHint;
+
+        private ConcatExpression(Object[] parts, String expression) {
+            this.parts = parts;
+            this.expression = expression;
+            int size = 16;
+            for (Object part : parts) {
+                if (part instanceof String) {
+                    size += ((String) part).length();
+                }
+            }
+            this.sizeHint = size;
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            for (Object part : parts) {
+                if (part instanceof Expression) {
+                    ((Expression) part).init(context);
+                }
+            }
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            StringBuilder sb = new StringBuilder(sizeHint);
+            TypeConverter converter = null;
+            for (Object part : parts) {
+                if (part instanceof String) {
+                    sb.append((String) part);
+                } else if (part instanceof LookupExpression) {
+                    Object value = ((LookupExpression) part).evaluate(exchange);
+                    if (value instanceof String) {
+                        sb.append((String) value);
+                    } else if (value != null) {
+                        if (converter == null) {
+                            converter = exchange.getContext().getTypeConverter();
+                        }
+                        String text = converter.convertTo(String.class, exchange, value);
+                        if (text != null) {
+                            sb.append(text);
+                        }
+                    }
+                } else {
+                    String text = ((Expression) part).evaluate(exchange, String.class);
+                    if (text != null) {
+                        sb.append(text);
+                    }
+                }
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+    }
+}
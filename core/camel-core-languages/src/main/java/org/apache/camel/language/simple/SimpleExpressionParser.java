@@ -46,7 +46,12 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     public SimpleExpressionParser(CamelContext camelContext, String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
-        super(camelContext, expression, allowEscape);
+        this(camelContext, expression, allowEscape, cacheExpression, false);
+    }
+
+    public SimpleExpressionParser(CamelContext camelContext, String expression, boolean allowEscape,
+                                  Map<String, Expression> cacheExpression, boolean compiled) {
+        super(camelContext, expression, allowEscape, compiled);
         this.cacheExpression = cacheExpression;
     }
 
@@ -112,6 +117,10 @@ public class SimpleExpressionParser extends BaseSimpleParser {
      * Second step parsing into an expression
      */
     protected Expression doParseExpression() {
+        if (compiled) {
+            return SimpleExpressionCompiler.compile(camelContext, nodes, expression);
+        }
+
         // create and return as a Camel expression
         List<Expression> expressions = createExpressions();
         if (expressions.isEmpty()) {
@@ -171,7 +180,7 @@ public class SimpleExpressionParser extends BaseSimpleParser {
         if (token.getType().isFunctionStart()) {
             // starting a new function
             functions.incrementAndGet();
-            return new SimpleFunctionStart(token, cacheExpression);
+            return new SimpleFunctionStart(token, cacheExpression, compiled);
         } else if (functions.get() > 0 && token.getType().isFunctionEnd()) {
             // there must be a start function already, to let this be a end function
             functions.decrementAndGet();
@@ -45,10 +45,16 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     // singleton for expressions without a result type
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
+    /**
+     * Global option on the {@link org.apache.camel.CamelContext} to turn on compiled mode.
+     */
+    public static final String COMPILED = "CamelSimpleCompiled";
+
     // a special prefix to avoid cache clash
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
     boolean allowEscape = true;
+    private boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -60,8 +66,28 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    /**
+     * Whether the expressions and predicates are compiled into fused expressions, where the common functions (body,
+     * headers, exchange properties) are looked up directly and literal texts are folded into constants.
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Sets whether the expressions and predicates are compiled into fused expressions, where the common functions
+     * (body, headers, exchange properties) are looked up directly and literal texts are folded into constants. This can
+     * also be turned on using the global option {@link #COMPILED}.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
+        if (!compiled && getCamelContext() != null) {
+            compiled = "true".equalsIgnoreCase(getCamelContext().getGlobalOption(COMPILED));
+        }
         // setup cache which requires CamelContext to be set first
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
             int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
@@ -138,7 +164,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             // using the expression cache here with the predicate parser is okay
             SimplePredicateParser parser
-                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
+                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression, compiled);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -210,7 +236,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             // only parse if there are simple functions
             SimpleExpressionParser parser
-                    = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression);
+                    = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression, compiled);
             answer = parser.parseExpression();
 
             if (cacheExpression != null && answer != null) {
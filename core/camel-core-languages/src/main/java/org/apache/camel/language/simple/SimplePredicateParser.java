@@ -66,7 +66,12 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
                                  Map<String, Expression> cacheExpression) {
-        super(camelContext, expression, allowEscape);
+        this(camelContext, expression, allowEscape, cacheExpression, false);
+    }
+
+    public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
+                                 Map<String, Expression> cacheExpression, boolean compiled) {
+        super(camelContext, expression, allowEscape, compiled);
         this.cacheExpression = cacheExpression;
     }
 
@@ -324,7 +329,7 @@ public class SimplePredicateParser extends BaseSimpleParser {
             AtomicBoolean startFunction) {
         if (token.getType().isFunctionStart()) {
             startFunction.set(true);
-            return new SimpleFunctionStart(token, cacheExpression);
+            return new SimpleFunctionStart(token, cacheExpression, compiled);
         } else if (token.getType().isFunctionEnd()) {
             startFunction.set(false);
             return new SimpleFunctionEnd(token);
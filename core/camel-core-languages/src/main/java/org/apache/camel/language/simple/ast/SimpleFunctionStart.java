@@ -21,6 +21,7 @@ import java.util.Map;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.language.simple.SimpleExpressionCompiler;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
@@ -34,11 +35,17 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
     // use caches to avoid re-parsing the same expressions over and over again
     private final Map<String, Expression> cacheExpression;
     private final CompositeNodes block;
+    private final boolean compiled;
 
     public SimpleFunctionStart(SimpleToken token, Map<String, Expression> cacheExpression) {
+        this(token, cacheExpression, false);
+    }
+
+    public SimpleFunctionStart(SimpleToken token, Map<String, Expression> cacheExpression, boolean compiled) {
         super(token);
         this.block = new CompositeNodes(token);
         this.cacheExpression = cacheExpression;
+        this.compiled = compiled;
     }
 
     public CompositeNodes getBlock() {
@@ -68,8 +75,14 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
     }
 
     private Expression doCreateLiteralExpression(CamelContext camelContext, String expression) {
-        SimpleFunctionExpression function = new SimpleFunctionExpression(this.getToken(), cacheExpression);
         LiteralNode literal = (LiteralNode) block.getChildren().get(0);
+        if (compiled) {
+            Expression answer = SimpleExpressionCompiler.compileFunction(literal.getText());
+            if (answer != null) {
+                return answer;
+            }
+        }
+        SimpleFunctionExpression function = new SimpleFunctionExpression(this.getToken(), cacheExpression);
         function.addText(literal.getText());
         return function.createExpression(camelContext, expression);
     }
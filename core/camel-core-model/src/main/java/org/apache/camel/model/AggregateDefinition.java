@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -455,6 +458,22 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of locks to stripe the aggregation lock into by the hash of the correlation key, which allows exchanges
+     * with different correlation keys to be aggregated in parallel. By default a single lock is used, which means all
+     * the exchanges are aggregated one at a time. When using more than one lock the aggregation strategy is called
+     * concurrently for different correlation keys, and must therefore be thread-safe, as must the aggregation
+     * repository, which the default in-memory repository is. Cannot be used together with optimisticLocking,
+     * completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -954,6 +973,32 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Stripes the aggregation lock into the given number of locks by the hash of the correlation key, which allows
+     * exchanges with different correlation keys to be aggregated in parallel. The aggregation strategy is then called
+     * concurrently for different correlation keys, and must therefore be thread-safe.
+     *
+     * @param  lockStripes the number of locks
+     * @return             the builder
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Stripes the aggregation lock into the given number of locks by the hash of the correlation key, which allows
+     * exchanges with different correlation keys to be aggregated in parallel. The aggregation strategy is then called
+     * concurrently for different correlation keys, and must therefore be thread-safe.
+     *
+     * @param  lockStripes the number of locks
+     * @return             the builder
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
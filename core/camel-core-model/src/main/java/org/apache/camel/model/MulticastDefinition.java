@@ -68,6 +68,12 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     private String streaming;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String streamingOrdered;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInFlight;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
@@ -219,6 +225,42 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * When in streaming mode, then the replies are by default processed out-of-order, e.g. in the order they come back.
+     * If this option is enabled then Camel will process the replies in the same order as defined by the multicast.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition streamingOrdered() {
+        setStreamingOrdered(Boolean.toString(true));
+        return this;
+    }
+
+    /**
+     * The maximum number of messages which can be in flight at the same time, when using parallel processing. A message
+     * is in flight from the time it is sent until its reply has been aggregated. When the limit is reached, then the
+     * multicast waits for a reply to be aggregated before sending the next message. By default there is no limit.
+     *
+     * @param  maxInFlight the maximum number of messages in flight
+     * @return             the builder
+     */
+    public MulticastDefinition maxInFlight(int maxInFlight) {
+        return maxInFlight(Integer.toString(maxInFlight));
+    }
+
+    /**
+     * The maximum number of messages which can be in flight at the same time, when using parallel processing. A message
+     * is in flight from the time it is sent until its reply has been aggregated. When the limit is reached, then the
+     * multicast waits for a reply to be aggregated before sending the next message. By default there is no limit.
+     *
+     * @param  maxInFlight the maximum number of messages in flight
+     * @return             the builder
+     */
+    public MulticastDefinition maxInFlight(String maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -381,6 +423,22 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.streaming = streaming;
     }
 
+    public String getStreamingOrdered() {
+        return streamingOrdered;
+    }
+
+    public void setStreamingOrdered(String streamingOrdered) {
+        this.streamingOrdered = streamingOrdered;
+    }
+
+    public String getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(String maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     public String getStopOnException() {
         return stopOnException;
     }
@@ -188,6 +188,21 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * Uses an engine for the stream resequencer which keeps the exchanges in a ring buffer indexed by their sequence
+     * number, and which does not synchronize inserting exchanges with delivering exchanges. The expression must
+     * evaluate to a numeric sequence number.
+     *
+     * @return the builder
+     */
+    public ResequenceDefinition indexed() {
+        if (streamConfig == null) {
+            throw new IllegalStateException("indexed() only supported for stream resequencer");
+        }
+        streamConfig.setIndexed(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the in batch size for number of exchanges received
      * 
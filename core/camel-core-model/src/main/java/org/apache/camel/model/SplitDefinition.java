@@ -68,6 +68,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     private String streaming;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String streamingOrdered;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInFlight;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
@@ -318,6 +324,69 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * When in streaming mode, then the replies are by default aggregated out-of-order, e.g. in the order they come
+     * back. If this option is enabled then Camel will aggregate the replies in the same order as the messages was
+     * split, while still splitting the messages on-demand.
+     *
+     * @return the builder
+     */
+    public SplitDefinition streamingOrdered() {
+        return streamingOrdered(true);
+    }
+
+    /**
+     * When in streaming mode, then the replies are by default aggregated out-of-order, e.g. in the order they come
+     * back. If this option is enabled then Camel will aggregate the replies in the same order as the messages was
+     * split, while still splitting the messages on-demand.
+     *
+     * @return the builder
+     */
+    public SplitDefinition streamingOrdered(boolean streamingOrdered) {
+        return streamingOrdered(Boolean.toString(streamingOrdered));
+    }
+
+    /**
+     * When in streaming mode, then the replies are by default aggregated out-of-order, e.g. in the order they come
+     * back. If this option is enabled then Camel will aggregate the replies in the same order as the messages was
+     * split, while still splitting the messages on-demand.
+     *
+     * @return the builder
+     */
+    public SplitDefinition streamingOrdered(String streamingOrdered) {
+        setStreamingOrdered(streamingOrdered);
+        return this;
+    }
+
+    /**
+     * The maximum number of split messages which can be in flight at the same time, when using parallel processing. A
+     * message is in flight from the time it is sent until its reply has been aggregated. When the limit is reached,
+     * then the splitter waits for a reply to be aggregated before sending the next message, which keeps the memory
+     * usage bounded when splitting a big message in streaming mode. By default there is no limit, which means the
+     * messages are sent as fast as the thread pool accepts them.
+     *
+     * @param  maxInFlight the maximum number of messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInFlight(int maxInFlight) {
+        return maxInFlight(Integer.toString(maxInFlight));
+    }
+
+    /**
+     * The maximum number of split messages which can be in flight at the same time, when using parallel processing. A
+     * message is in flight from the time it is sent until its reply has been aggregated. When the limit is reached,
+     * then the splitter waits for a reply to be aggregated before sending the next message, which keeps the memory
+     * usage bounded when splitting a big message in streaming mode. By default there is no limit, which means the
+     * messages are sent as fast as the thread pool accepts them.
+     *
+     * @param  maxInFlight the maximum number of messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInFlight(String maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -530,6 +599,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getStreamingOrdered() {
+        return streamingOrdered;
+    }
+
+    public void setStreamingOrdered(String streamingOrdered) {
+        this.streamingOrdered = streamingOrdered;
+    }
+
+    public String getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(String maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     public String getParallelAggregate() {
         return parallelAggregate;
     }
@@ -60,6 +60,9 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
     @Metadata(label = "advanced", javaType = "org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy",
               enums = "Abort,CallerRuns,DiscardOldest,Discard")
     private String rejectedPolicy;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String virtualThreads;
 
     public ThreadPoolProfileDefinition() {
     }
@@ -138,6 +141,15 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         return this;
     }
 
+    public ThreadPoolProfileDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    public ThreadPoolProfileDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public String getDefaultProfile() {
         return defaultProfile;
     }
@@ -230,4 +242,19 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to run each task on its own virtual thread instead of using a pool of platform threads.
+     * <p/>
+     * The pool sizes are not used for virtual threads, instead the number of tasks that are either running or waiting
+     * to run is limited by the max queue size. Virtual threads requires Java 21 or newer, and on older JVMs platform
+     * threads are used instead.
+     */
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
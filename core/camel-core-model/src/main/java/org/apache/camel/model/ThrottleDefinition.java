@@ -60,6 +60,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "DelayQueue", enums = "DelayQueue,TokenBucket")
+    private String mode;
 
     public ThrottleDefinition() {
     }
@@ -251,6 +254,17 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Sets the throttling mode to one of the available modes enumerated in {@link #setMode(String)}.
+     *
+     * @param  mode the throttling mode
+     * @return      the builder
+     */
+    public ThrottleDefinition mode(String mode) {
+        setMode(mode);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -329,6 +343,22 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * The throttling mode to use.
+     *
+     * The DelayQueue mode (default) keeps a permit per request in a delay queue, which ensures that no more than the
+     * maximum requests are passed on within any rolling time period. The TokenBucket mode uses a lock-free token bucket
+     * which allows bursts of up to the maximum requests, and then passes on the requests evenly spaced at the maximum
+     * requests per time period. The TokenBucket mode has lower overhead at high rates and with many correlation keys.
+     */
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
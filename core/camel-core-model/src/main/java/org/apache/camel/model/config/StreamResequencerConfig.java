@@ -52,6 +52,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectOld;
     @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "false", javaType = "java.lang.Boolean")
+    private String indexed;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "org.apache.camel.processor.resequencer.ExpressionResultComparator")
     private String comparator;
 
@@ -204,4 +207,17 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    public String getIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Whether to use an engine which keeps the exchanges in a ring buffer indexed by their sequence number, and which
+     * does not synchronize inserting exchanges with delivering exchanges. The expression must evaluate to a numeric
+     * sequence number. This performs better when the sequence numbers are dense (such as 1, 2, 3 and so on).
+     */
+    public void setIndexed(String indexed) {
+        this.indexed = indexed;
+    }
+
 }
@@ -110,6 +110,14 @@ public class CsvDataFormat extends DataFormatDefinition {
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String lazyLoad;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String batchSize;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String reuseRows;
+    @XmlAttribute
+    private String selectColumns;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String useMaps;
     @XmlAttribute
@@ -390,6 +398,43 @@ public class CsvDataFormat extends DataFormatDefinition {
         this.lazyLoad = lazyLoad;
     }
 
+    public String getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of records to group together as a list, when lazyLoad is enabled. The iterator then produces a
+     * list of records, instead of a single record, which is useful for bulk inserts.
+     */
+    public void setBatchSize(String batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public String getReuseRows() {
+        return reuseRows;
+    }
+
+    /**
+     * Whether to reuse the list or map of the lines values (and the list of the batch), when lazyLoad is enabled. This
+     * allows to unmarshal large files in constant memory, however the values must be processed (or copied) before the
+     * next line is read.
+     */
+    public void setReuseRows(String reuseRows) {
+        this.reuseRows = reuseRows;
+    }
+
+    public String getSelectColumns() {
+        return selectColumns;
+    }
+
+    /**
+     * Comma separated list of the columns to unmarshal, either as header names or zero based indexes. This allows to
+     * only include the needed columns in the lines values. This option is not used by a custom record converter.
+     */
+    public void setSelectColumns(String selectColumns) {
+        this.selectColumns = selectColumns;
+    }
+
     public String getUseMaps() {
         return useMaps;
     }
@@ -168,6 +168,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private ExecutorService aggregateExecutorService;
     private boolean shutdownAggregateExecutorService;
     private final long timeout;
+    private int maxInFlight;
+    private boolean streamingOrdered;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
 
@@ -383,6 +385,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -411,10 +414,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            boolean ordered = !isStreaming() || isStreamingOrdered();
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -449,6 +453,33 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     lock.unlock();
                 }
             }
+            // an exchange has been aggregated so there may be room to send the next one
+            if (maxInFlight > 0 && nbExchangeSent.get() - nbAggregated.get() < maxInFlight) {
+                resume();
+            }
+        }
+
+        /**
+         * Schedules this task to send the next exchange, unless there are already maxInFlight exchanges which have been
+         * sent but not yet aggregated. In that case the task is suspended, and it is resumed from {@link #aggregate()}
+         * when an exchange has been aggregated.
+         */
+        protected void scheduleNext() {
+            if (maxInFlight <= 0) {
+                schedule(this);
+                return;
+            }
+            // mark as suspended before checking the window, so we do not miss a concurrent aggregation
+            suspended.set(true);
+            if (nbExchangeSent.get() - nbAggregated.get() < maxInFlight) {
+                resume();
+            }
+        }
+
+        protected void resume() {
+            if (suspended.compareAndSet(true, false) && !done.get()) {
+                schedule(this);
+            }
         }
 
         protected void timeout() {
@@ -577,7 +608,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    scheduleNext();
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1229,6 +1260,30 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return timeout;
     }
 
+    /**
+     * The maximum number of exchanges which are sent but not yet aggregated, when using parallel processing. The
+     * iteration over the exchanges to send is suspended until an exchange has been aggregated, which ensures the memory
+     * used stays bounded in streaming mode.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Whether the replies are aggregated in the same order as the exchanges were sent, also when in streaming mode.
+     */
+    public boolean isStreamingOrdered() {
+        return streamingOrdered;
+    }
+
+    public void setStreamingOrdered(boolean streamingOrdered) {
+        this.streamingOrdered = streamingOrdered;
+    }
+
     /**
      * Use {@link #getAggregationStrategy(org.apache.camel.Exchange)} instead.
      */
@@ -31,6 +31,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.resequencer.IndexedResequencerEngine;
 import org.apache.camel.processor.resequencer.ResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
@@ -70,7 +71,8 @@ public class StreamResequencer extends AsyncProcessorSupport
     private String routeId;
     private final CamelContext camelContext;
     private final ExceptionHandler exceptionHandler;
-    private final ResequencerEngine<Exchange> engine;
+    private final SequenceElementComparator<Exchange> comparator;
+    private ResequencerEngine<Exchange> engine;
     private final Processor processor;
     private final Expression expression;
     private Delivery delivery;
@@ -88,6 +90,7 @@ public class StreamResequencer extends AsyncProcessorSupport
                              Expression expression) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
+        this.comparator = comparator;
         this.engine = new ResequencerEngine<>(comparator);
         this.engine.setSequenceSender(this);
         this.processor = processor;
@@ -161,6 +164,28 @@ public class StreamResequencer extends AsyncProcessorSupport
         return engine.getRejectOld() != null && engine.getRejectOld();
     }
 
+    public boolean isIndexed() {
+        return engine instanceof IndexedResequencerEngine;
+    }
+
+    /**
+     * Sets whether to use the {@link IndexedResequencerEngine}, which keeps the exchanges in a ring buffer indexed by
+     * their sequence number, and does not synchronize inserting exchanges with delivering exchanges. The expression
+     * must evaluate to a numeric sequence number.
+     */
+    public void setIndexed(boolean indexed) {
+        if (indexed == isIndexed()) {
+            return;
+        }
+        ResequencerEngine<Exchange> answer = indexed
+                ? new IndexedResequencerEngine<>(comparator, e -> expression.evaluate(e, Long.class))
+                : new ResequencerEngine<>(comparator);
+        answer.setSequenceSender(this);
+        answer.setTimeout(engine.getTimeout());
+        answer.setRejectOld(engine.getRejectOld());
+        engine = answer;
+    }
+
     /**
      * Sets whether to ignore invalid exchanges which cannot be used by this stream resequencer.
      * <p/>
@@ -215,6 +240,9 @@ public class StreamResequencer extends AsyncProcessorSupport
     protected void doStart() throws Exception {
         ServiceHelper.startService(processor);
         delivery = new Delivery();
+        if (engine instanceof IndexedResequencerEngine) {
+            ((IndexedResequencerEngine<Exchange>) engine).setCapacity(capacity);
+        }
         engine.start();
         delivery.start();
     }
@@ -397,6 +397,18 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    protected CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    protected ScheduledExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    protected Expression getCorrelationExpression() {
+        return correlationExpression;
+    }
+
     public boolean isRejectExecution() {
         return rejectExecution;
     }
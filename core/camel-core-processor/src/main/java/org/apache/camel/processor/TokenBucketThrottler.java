@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a lock-free token bucket per correlation
+ * key, instead of the {@link java.util.concurrent.DelayQueue} of permits used by {@link Throttler}.
+ * <p/>
+ * The bucket is implemented using the generic cell rate algorithm (GCRA), where the state of the bucket is a single
+ * theoretical arrival time that is updated with compare-and-set. This means there are no locks and no garbage per
+ * exchange. The bucket holds up to maxRequestsPerPeriod tokens, which are refilled at the rate of maxRequestsPerPeriod
+ * per timePeriodMillis. This allows bursts of up to maxRequestsPerPeriod exchanges, after which the exchanges are
+ * evenly spaced at the configured rate.
+ * <p/>
+ * A throttled exchange reserves its slot in the bucket up front, so it knows exactly how long it has to wait. When
+ * asyncDelayed is enabled the exchange is continued by a task scheduled on the executor service when the slot is due,
+ * and no thread is blocked while waiting. Otherwise the caller thread is parked until the slot is due. When
+ * rejectExecution is enabled a {@link ThrottlerRejectedExecutionException} is thrown if no token is available.
+ */
+public class TokenBucketThrottler extends Throttler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    private final TokenBucket defaultBucket = new TokenBucket();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> cleanTask;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor,
+              rejectExecution, correlation);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        return doProcess(exchange, callback, true);
+    }
+
+    protected boolean doProcess(final Exchange exchange, final AsyncCallback callback, final boolean sync) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            TokenBucket bucket = defaultBucket;
+            Expression correlation = getCorrelationExpression();
+            if (correlation != null) {
+                String key = correlation.evaluate(exchange, String.class);
+                bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+            }
+
+            for (;;) {
+                int rate = bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+                long period = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+
+                if (isRejectExecution()) {
+                    if (!bucket.tryAcquire(rate, period)) {
+                        throw new ThrottlerRejectedExecutionException(
+                                "Exceeded the max throttle rate of " + rate + " within " + getTimePeriodMillis() + "ms");
+                    }
+                    break;
+                }
+
+                long delay = bucket.reserve(rate, period);
+                if (delay <= 0) {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                    }
+                    break;
+                }
+
+                // a rate of zero has no slots to reserve, so the rate is evaluated again after waiting
+                boolean retry = rate == 0;
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Throttle rate exceeded but AsyncDelayed enabled, so continuing in {}ns, exchangeId: {}",
+                                delay, exchange.getExchangeId());
+                    }
+                    if (processAsynchronously(exchange, callback, delay, retry)) {
+                        return false;
+                    }
+                }
+
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ns, exchangeId: {}", delay, exchange.getExchangeId());
+                }
+                await(delay);
+                if (!retry) {
+                    break;
+                }
+            }
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().isForceShutdown();
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+
+        callback.done(sync);
+        return sync;
+    }
+
+    /**
+     * Schedules the continuation of the exchange when its reserved slot is due.
+     *
+     * @return <tt>true</tt> if the continuation was scheduled, or <tt>false</tt> if the executor rejected the task and
+     *         the caller should wait instead
+     */
+    protected boolean processAsynchronously(
+            final Exchange exchange, final AsyncCallback callback, long delay, boolean retry) {
+        try {
+            if (retry) {
+                getAsyncExecutor().schedule(() -> doProcess(exchange, callback, false), delay, TimeUnit.NANOSECONDS);
+            } else {
+                getAsyncExecutor().schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static void await(long delay) throws InterruptedException {
+        final long deadline = System.nanoTime() + delay;
+        long remaining = delay;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ScheduledExecutorService executor = getAsyncExecutor();
+        if (getCorrelationExpression() != null && executor != null) {
+            // remove the buckets of correlation keys that have been idle for a while
+            long cleanPeriod = getTimePeriodMillis() * 10;
+            cleanTask = executor.scheduleWithFixedDelay(this::clean, cleanPeriod, cleanPeriod, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanTask != null) {
+            cleanTask.cancel(false);
+            cleanTask = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        buckets.clear();
+        super.doShutdown();
+    }
+
+    private void clean() {
+        long idle = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis() * 10);
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idle));
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        if (getCorrelationExpression() == null) {
+            return defaultBucket.throttleRate;
+        }
+        return buckets.values().stream().mapToInt(b -> b.throttleRate).max().orElse(0);
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " (token bucket)]";
+    }
+
+    private final class TokenBucket {
+        // the theoretical arrival time (nanos) of the next exchange if the bucket is drained at exactly the rate
+        private final AtomicLong tat = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression, and returns the rate to use.
+         */
+        int calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) {
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            int rate = throttleRate;
+            if (newThrottle == null && rate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsPerPeriodExpression(),
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != rate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", rate, newThrottle,
+                            exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+                rate = newThrottle;
+            }
+            return rate;
+        }
+
+        /**
+         * Takes a token if one is available.
+         */
+        boolean tryAcquire(int rate, long period) {
+            if (rate == 0) {
+                return false;
+            }
+            final long interval = period / rate;
+            for (;;) {
+                final long now = System.nanoTime();
+                final long current = tat.get();
+                final long next = (current - now > 0 ? current : now) + interval;
+                if (next - period - now > 0) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Reserves the next slot in the bucket.
+         *
+         * @return the time in nanos to wait until the reserved slot is due, or zero or negative if no waiting is needed
+         */
+        long reserve(int rate, long period) {
+            if (rate == 0) {
+                return period;
+            }
+            final long interval = period / rate;
+            for (;;) {
+                final long now = System.nanoTime();
+                final long current = tat.get();
+                final long next = (current - now > 0 ? current : now) + interval;
+                if (tat.compareAndSet(current, next)) {
+                    return next - period - now;
+                }
+            }
+        }
+
+        boolean isIdle(long now, long idle) {
+            return now - tat.get() > idle;
+        }
+    }
+
+}
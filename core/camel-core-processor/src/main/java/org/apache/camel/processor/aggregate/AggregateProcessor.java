@@ -17,6 +17,7 @@
 package org.apache.camel.processor.aggregate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -100,6 +101,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile StripedLock stripedLock;
+    private final AtomicBoolean completeAllGroupsPending = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -201,8 +204,30 @@ public class AggregateProcessor extends AsyncProcessorSupport
             return discarded.get();
         }
 
+        @Override
+        public int getLockStripes() {
+            StripedLock striped = stripedLock;
+            return striped != null ? striped.size() : 1;
+        }
+
+        @Override
+        public long[] getLockStripeAcquired() {
+            StripedLock striped = stripedLock;
+            return striped != null ? striped.getAcquired() : null;
+        }
+
+        @Override
+        public long[] getLockStripeContended() {
+            StripedLock striped = stripedLock;
+            return striped != null ? striped.getContended() : null;
+        }
+
         @Override
         public void reset() {
+            StripedLock striped = stripedLock;
+            if (striped != null) {
+                striped.reset();
+            }
             totalIn.set(0);
             totalCompleted.set(0);
             completedBySize.set(0);
@@ -230,6 +255,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -403,13 +429,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        lockGroup(key);
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            unlockGroup(key);
         }
 
         // we are completed so do that work outside the lock
@@ -422,12 +448,37 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
             forceCompletionOfAllGroups();
+        } else if (completeAllGroupsPending.compareAndSet(true, false)) {
+            // the aggregation requested to complete all groups while holding the lock of its stripe
+            forceCompletionOfAllGroups();
         }
 
         callback.done(sync);
         return sync;
     }
 
+    /**
+     * Locks the correlation group with the given key, which is either the shared lock, or the lock of the stripe of the
+     * key when using lock striping.
+     */
+    private void lockGroup(String key) {
+        StripedLock striped = stripedLock;
+        if (striped != null) {
+            striped.lock(key);
+        } else {
+            lock.lock();
+        }
+    }
+
+    private void unlockGroup(String key) {
+        StripedLock striped = stripedLock;
+        if (striped != null) {
+            striped.unlock(key);
+        } else {
+            lock.unlock();
+        }
+    }
+
     private Object removeFlagCompleteCurrentGroup(Exchange exchange) {
         return exchange.removeProperty(ExchangePropertyKey.AGGREGATION_COMPLETE_CURRENT_GROUP);
     }
@@ -575,7 +626,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripedLock != null) {
+                // cannot lock all the stripes while holding the lock of this stripe, so the groups are completed
+                // after this exchange has been aggregated
+                completeAllGroupsPending.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1097,6 +1154,19 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of locks to stripe the aggregation lock into by the hash of the correlation key, which allows exchanges
+     * with different correlation keys to be aggregated in parallel. By default a single lock is used. When using more
+     * than one lock the aggregation strategy is called concurrently, and must therefore be thread-safe.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1255,8 +1325,9 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead,
+            // unless the lock is striped as then the groups of the other stripes are tracked concurrently
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 1);
             addListener(this::onEviction);
         }
 
@@ -1524,6 +1595,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 LOG.info("Using ClosedCorrelationKeys with a LRUCache with a capacity of {}",
                         getCloseCorrelationKeyOnCompletion());
                 closedCorrelationKeys = LRUCacheFactory.newLRUCache(getCloseCorrelationKeyOnCompletion());
+                if (lockStripes > 1) {
+                    // the groups of the other stripes are closed concurrently
+                    closedCorrelationKeys = Collections.synchronizedMap(closedCorrelationKeys);
+                }
             } else {
                 LOG.info("Using ClosedCorrelationKeys with unbounded capacity");
                 closedCorrelationKeys = new ConcurrentHashMap<>();
@@ -1543,6 +1618,19 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 1) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Cannot use both lockStripes and optimisticLocking");
+            }
+            // these completions work on all the groups when completing the current group
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException("Cannot use both lockStripes and completionFromBatchConsumer");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException("Cannot use both lockStripes and completionOnNewCorrelationGroup");
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1626,6 +1714,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1) {
+            LOG.info("Using {} lock stripes to aggregate correlation groups in parallel.", lockStripes);
+            stripedLock = new StripedLock(lockStripes);
+            lock = stripedLock;
         } else {
             lock = new ReentrantLock();
         }
@@ -1738,7 +1830,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        lockGroup(key);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1752,7 +1844,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            unlockGroup(key);
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1811,7 +1903,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        lockGroup(key);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1821,7 +1913,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            unlockGroup(key);
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -71,6 +71,22 @@ public interface AggregateProcessorStatistics {
      */
     long getDiscarded();
 
+    /**
+     * Number of stripes the aggregation lock is striped into, which is 1 when not using lock striping
+     */
+    int getLockStripes();
+
+    /**
+     * Number of times the lock of each stripe has been acquired, or <tt>null</tt> when not using lock striping
+     */
+    long[] getLockStripeAcquired();
+
+    /**
+     * Number of times the lock of each stripe has been acquired, where the thread had to wait for another thread to
+     * release the lock, or <tt>null</tt> when not using lock striping
+     */
+    long[] getLockStripeContended();
+
     /**
      * Reset the counters
      */
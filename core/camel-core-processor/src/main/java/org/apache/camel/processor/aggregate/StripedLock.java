@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock which is striped into a number of locks by the hash of the correlation key, so exchanges with different
+ * correlation keys can be aggregated in parallel.
+ * <p/>
+ * The {@link Lock} methods lock all the stripes, which is used by the tasks which work on all the correlation groups.
+ * The stripes are always locked in the same order, so two threads locking all the stripes cannot deadlock. A thread
+ * which holds the lock of a stripe must <b>not</b> lock all the stripes, as that can deadlock with another thread doing
+ * the same.
+ * <p/>
+ * The number of times each stripe has been locked, and how many of those times the thread had to wait for the lock, is
+ * counted to be able to tell how much contention there is on the stripes.
+ */
+final class StripedLock implements Lock {
+
+    // the counters of each stripe are kept in their own cache line, so threads locking different stripes
+    // do not contend on updating the counters
+    private static final int PADDING = 8;
+
+    private final ReentrantLock[] stripes;
+    private final AtomicLongArray acquired;
+    private final AtomicLongArray contended;
+
+    StripedLock(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Number of stripes must be positive, was: " + size);
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.acquired = new AtomicLongArray(size * PADDING);
+        this.contended = new AtomicLongArray(size * PADDING);
+    }
+
+    /**
+     * Number of stripes
+     */
+    int size() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets the index of the stripe for the given correlation key
+     */
+    int indexOf(String key) {
+        int h = key.hashCode();
+        // spread the high bits as the hash codes of keys which only differ at the end are close to each other
+        h ^= h >>> 16;
+        return Math.floorMod(h, stripes.length);
+    }
+
+    /**
+     * Locks the stripe of the given correlation key
+     */
+    void lock(String key) {
+        lockStripe(indexOf(key));
+    }
+
+    /**
+     * Unlocks the stripe of the given correlation key
+     */
+    void unlock(String key) {
+        stripes[indexOf(key)].unlock();
+    }
+
+    /**
+     * Number of times each stripe has been locked
+     */
+    long[] getAcquired() {
+        return counters(acquired);
+    }
+
+    /**
+     * Number of times each stripe has been locked, where the thread had to wait for another thread to unlock it
+     */
+    long[] getContended() {
+        return counters(contended);
+    }
+
+    /**
+     * Resets the counters
+     */
+    void reset() {
+        for (int i = 0; i < stripes.length; i++) {
+            acquired.set(i * PADDING, 0);
+            contended.set(i * PADDING, 0);
+        }
+    }
+
+    @Override
+    public void lock() {
+        for (int i = 0; i < stripes.length; i++) {
+            lockStripe(i);
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                stripes[i].lockInterruptibly();
+            }
+        } catch (InterruptedException e) {
+            unlockFirst(i);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        for (int i = 0; i < stripes.length; i++) {
+            if (!stripes[i].tryLock()) {
+                unlockFirst(i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(time);
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                if (!stripes[i].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    unlockFirst(i);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            unlockFirst(i);
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        unlockFirst(stripes.length);
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void lockStripe(int index) {
+        ReentrantLock stripe = stripes[index];
+        if (!stripe.tryLock()) {
+            contended.incrementAndGet(index * PADDING);
+            stripe.lock();
+        }
+        acquired.incrementAndGet(index * PADDING);
+    }
+
+    /**
+     * Unlocks the first stripes in the reverse order of locking them
+     */
+    private void unlockFirst(int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    private long[] counters(AtomicLongArray array) {
+        long[] answer = new long[stripes.length];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = array.get(i * PADDING);
+        }
+        return answer;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.apache.camel.processor.loadbalancer;
 
 public class DistributionRatio {
     private final int distributionWeight;
+    @Deprecated
     private int runtimeWeight;
 
     public DistributionRatio(int distributionWeight) {
@@ -29,14 +30,29 @@ public class DistributionRatio {
         return distributionWeight;
     }
 
+    /**
+     * @deprecated not in use, as the weighted load balancers no longer keep the runtime state of the distribution round
+     *             in the ratios
+     */
+    @Deprecated
     public int getRuntimeWeight() {
         return runtimeWeight;
     }
 
+    /**
+     * @deprecated not in use, as the weighted load balancers no longer keep the runtime state of the distribution round
+     *             in the ratios
+     */
+    @Deprecated
     public void reset() {
         this.runtimeWeight = distributionWeight;
     }
 
+    /**
+     * @deprecated not in use, as the weighted load balancers no longer keep the runtime state of the distribution round
+     *             in the ratios
+     */
+    @Deprecated
     public boolean decrement() {
         if (runtimeWeight > 0) {
             runtimeWeight--;
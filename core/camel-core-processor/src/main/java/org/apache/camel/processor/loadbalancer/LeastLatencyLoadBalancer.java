@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements a load balancing policy which chooses the processor with the least expected latency, so the load shifts
+ * away from slow processors.
+ * <p/>
+ * The latency of each processor is tracked as an exponentially weighted moving average of the time it takes until the
+ * exchange is done (when the callback is called), and the processor with the lowest average latency multiplied by the
+ * number of exchanges currently in flight (plus one) is chosen. Processors which have not been used yet are chosen
+ * first, and ties are broken by starting the search at a random processor.
+ * <p/>
+ * An exchange which failed is recorded with at least the failure latency, so a processor which fails fast does not
+ * attract all the load. The average latency of a processor decays while the processor is not used, so a processor which
+ * has been slow is tried again eventually, and the load shifts back when it has recovered.
+ */
+public class LeastLatencyLoadBalancer extends LoadBalancerSupport {
+
+    private double smoothingFactor = 0.2;
+    private long failureLatency = 1000;
+    private long decayPeriod = 10000;
+    private volatile Targets targets = new Targets(new AsyncProcessor[0], new Target[0]);
+    private transient int lastIndex = -1;
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * The weight of a new latency sample in the moving average (between 0 and 1), where higher values makes the average
+     * react faster to changes in latency. The default is 0.2.
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("Smoothing factor must be between 0 and 1, was: " + smoothingFactor);
+        }
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public long getFailureLatency() {
+        return failureLatency;
+    }
+
+    /**
+     * The latency in millis which is recorded for an exchange which failed, when the exchange failed faster than that.
+     * The default is 1000 millis.
+     */
+    public void setFailureLatency(long failureLatency) {
+        if (failureLatency < 0) {
+            throw new IllegalArgumentException("Failure latency must not be negative, was: " + failureLatency);
+        }
+        this.failureLatency = failureLatency;
+    }
+
+    public long getDecayPeriod() {
+        return decayPeriod;
+    }
+
+    /**
+     * The period in millis over which the average latency of a processor decays (by a factor of e) while the processor
+     * is not used, so a slow processor is tried again after a while. Use 0 to not decay. The default is 10000 millis.
+     */
+    public void setDecayPeriod(long decayPeriod) {
+        if (decayPeriod < 0) {
+            throw new IllegalArgumentException("Decay period must not be negative, was: " + decayPeriod);
+        }
+        this.decayPeriod = decayPeriod;
+    }
+
+    public int getLastChosenProcessorIndex() {
+        return lastIndex;
+    }
+
+    /**
+     * The average latency in nanos of the processor at the given index, or 0 if the processor has not been used yet.
+     */
+    public long getAverageLatency(int index) {
+        return targetsOf(doGetProcessors()).targets[index].latency.get();
+    }
+
+    /**
+     * The number of exchanges currently in flight on the processor at the given index.
+     */
+    public int getInflight(int index) {
+        return targetsOf(doGetProcessors()).targets[index].inflight.get();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        AsyncProcessor[] processors = doGetProcessors();
+        if (processors.length == 0) {
+            // no processors but indicate we are done
+            callback.done(false);
+            return false;
+        }
+
+        Target[] stats = targetsOf(processors).targets;
+        long decay = TimeUnit.MILLISECONDS.toNanos(decayPeriod);
+        int index = chooseIndex(stats, decay);
+        lastIndex = index;
+        Target target = stats[index];
+        target.inflight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            return processors[index].process(exchange, doneSync -> {
+                long now = System.nanoTime();
+                long elapsed = now - start;
+                if (exchange.getException() != null) {
+                    elapsed = Math.max(elapsed, TimeUnit.MILLISECONDS.toNanos(failureLatency));
+                }
+                target.done(now, elapsed, smoothingFactor, decay);
+                callback.done(doneSync);
+            });
+        } catch (RuntimeException | Error e) {
+            // the callback is not called when the processor fails synchronously
+            target.inflight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static int chooseIndex(Target[] stats, long decay) {
+        int size = stats.length;
+        if (size == 1) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        int answer = start;
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int index = start + i < size ? start + i : start + i - size;
+            Target target = stats[index];
+            int inflight = target.inflight.get();
+            long latency = target.latency.get();
+            // a processor not used yet has no latency so its chosen by the least inflight
+            double score = latency == 0
+                    ? inflight - (double) Integer.MAX_VALUE : decayed(latency, now - target.updated, decay) * (inflight + 1);
+            if (score < best) {
+                best = score;
+                answer = index;
+            }
+        }
+        return answer;
+    }
+
+    private static double decayed(long latency, long idle, long decay) {
+        return decay > 0 && idle > 0 ? latency * Math.exp(-(double) idle / decay) : latency;
+    }
+
+    private Targets targetsOf(AsyncProcessor[] processors) {
+        Targets answer = targets;
+        if (answer.processors != processors) {
+            // the processors has been changed so keep the statistics of the existing processors
+            Target[] stats = new Target[processors.length];
+            for (int i = 0; i < processors.length; i++) {
+                for (int j = 0; j < answer.processors.length; j++) {
+                    if (answer.processors[j] == processors[i]) {
+                        stats[i] = answer.targets[j];
+                        break;
+                    }
+                }
+                if (stats[i] == null) {
+                    stats[i] = new Target();
+                }
+            }
+            answer = new Targets(processors, stats);
+            targets = answer;
+        }
+        return answer;
+    }
+
+    private static final class Targets {
+        private final AsyncProcessor[] processors;
+        private final Target[] targets;
+
+        private Targets(AsyncProcessor[] processors, Target[] targets) {
+            this.processors = processors;
+            this.targets = targets;
+        }
+    }
+
+    private static final class Target {
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final AtomicLong latency = new AtomicLong();
+        private volatile long updated;
+
+        void done(long now, long elapsed, double smoothingFactor, long decay) {
+            inflight.decrementAndGet();
+            // at least 1 nano so the processor is marked as used
+            long sample = Math.max(elapsed, 1);
+            long idle = now - updated;
+            long current;
+            long next;
+            do {
+                current = latency.get();
+                if (current == 0) {
+                    next = sample;
+                } else {
+                    // the average has decayed since the last sample, which is the time the processor was not used
+                    double average = decayed(current, idle, decay);
+                    next = Math.max(Math.round(average + (sample - average) * smoothingFactor), 1);
+                }
+            } while (!latency.compareAndSet(current, next));
+            updated = now;
+        }
+    }
+
+}
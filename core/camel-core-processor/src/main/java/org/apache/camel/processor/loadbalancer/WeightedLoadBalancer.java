@@ -23,6 +23,11 @@ import java.util.stream.Collectors;
 public abstract class WeightedLoadBalancer extends QueueLoadBalancer {
     protected final List<DistributionRatio> ratios;
     protected final int distributionRatioSum;
+    /**
+     * @deprecated not in use, as the weighted load balancers no longer keep the runtime state of the distribution round
+     *             in the ratios
+     */
+    @Deprecated
     protected int runtimeRatioSum;
 
     transient int lastIndex = -1;
@@ -51,6 +56,11 @@ public abstract class WeightedLoadBalancer extends QueueLoadBalancer {
         }
     }
 
+    /**
+     * @deprecated not in use, as the weighted load balancers no longer keep the runtime state of the distribution round
+     *             in the ratios
+     */
+    @Deprecated
     protected void decrementSum() {
         if (--runtimeRatioSum == 0) {
             // every processor is exhausted, reload for a new distribution round
@@ -58,6 +68,11 @@ public abstract class WeightedLoadBalancer extends QueueLoadBalancer {
         }
     }
 
+    /**
+     * @deprecated not in use, as the weighted load balancers no longer keep the runtime state of the distribution round
+     *             in the ratios
+     */
+    @Deprecated
     protected void reset() {
         for (DistributionRatio ratio : ratios) {
             ratio.reset();
@@ -18,31 +18,85 @@ package org.apache.camel.processor.loadbalancer;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 
+/**
+ * Implements the weighted random load balancing policy.
+ * <p/>
+ * Each distribution round is a random order of the processors, where each processor is repeated by its weight. The
+ * processor is chosen from a position in the round that is incremented atomically, and the order for the next round is
+ * shuffled once by the first caller reaching it, so choosing a processor does not lock.
+ */
 public class WeightedRandomLoadBalancer extends WeightedLoadBalancer {
 
+    private final int[] distribution;
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicReference<Round> round;
+
     public WeightedRandomLoadBalancer(List<Integer> distributionRatioList) {
         super(distributionRatioList);
+        this.distribution = createDistribution();
+        this.round = new AtomicReference<>(new Round(0, shuffle(distribution)));
     }
 
     @Override
-    protected synchronized AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
-        int randomWeight = ThreadLocalRandom.current().nextInt(runtimeRatioSum);
-        int choiceWeight = 0;
-        int index = 0;
-        while (true) {
-            DistributionRatio ratio = getRatios().get(index);
-            choiceWeight += ratio.getRuntimeWeight();
-            if (randomWeight < choiceWeight) {
-                ratio.decrement();
-                decrementSum();
-                lastIndex = index;
-                return processors[index];
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = distribution.length;
+        if (size == 0) {
+            return null;
+        }
+        long position = counter.getAndIncrement();
+        long number = position / size;
+        Round current = round.get();
+        while (current.number < number) {
+            Round next = new Round(number, shuffle(distribution));
+            if (round.compareAndSet(current, next)) {
+                current = next;
+            } else {
+                current = round.get();
+            }
+        }
+        // a caller lagging behind a whole round uses the order of the newer round
+        int index = current.order[(int) (position % size)];
+        lastIndex = index;
+        return processors[index];
+    }
+
+    private int[] createDistribution() {
+        // each processor is repeated by its weight
+        int[] answer = new int[distributionRatioSum];
+        int position = 0;
+        for (int index = 0; index < ratios.size(); index++) {
+            for (int i = 0; i < ratios.get(index).getDistributionWeight(); i++) {
+                answer[position++] = index;
             }
-            index++;
+        }
+        return answer;
+    }
+
+    private static int[] shuffle(int[] distribution) {
+        int[] answer = distribution.clone();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = answer.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = answer[i];
+            answer[i] = answer[j];
+            answer[j] = tmp;
+        }
+        return answer;
+    }
+
+    private static final class Round {
+        private final long number;
+        private final int[] order;
+
+        private Round(long number, int[] order) {
+            this.number = number;
+            this.order = order;
         }
     }
 
@@ -17,38 +17,56 @@
 package org.apache.camel.processor.loadbalancer;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 
+/**
+ * Implements the weighted round robin load balancing policy.
+ * <p/>
+ * The order of the processors in a distribution round is the same for every round, so its computed once, and the
+ * processor is chosen from a position in the round that is incremented atomically, so choosing a processor does not
+ * lock.
+ */
 public class WeightedRoundRobinLoadBalancer extends WeightedLoadBalancer {
 
-    int counter = -1;
+    private final int[] schedule;
+    private final AtomicLong counter = new AtomicLong();
 
     public WeightedRoundRobinLoadBalancer(List<Integer> distributionRatios) {
         super(distributionRatios);
+        this.schedule = createSchedule();
     }
 
     @Override
-    protected synchronized AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
-        int counter = this.counter;
-        List<DistributionRatio> ratios = getRatios();
-        while (true) {
-            if (++counter >= ratios.size()) {
-                counter = 0;
-            }
-            DistributionRatio ratio = ratios.get(counter);
-            if (ratio.decrement()) {
-                this.counter = lastIndex = counter;
-                decrementSum();
-                return processors[counter];
-            }
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = schedule.length;
+        if (size == 0) {
+            return null;
         }
+        int index = schedule[(int) (counter.getAndIncrement() % size)];
+        lastIndex = index;
+        return processors[index];
     }
 
-    @Override
-    protected void reset() {
-        super.reset();
-        counter = -1;
+    private int[] createSchedule() {
+        // round robin over the processors, skipping the processors which are exhausted in the current round
+        int[] weights = new int[ratios.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = ratios.get(i).getDistributionWeight();
+        }
+        int[] answer = new int[distributionRatioSum];
+        int index = -1;
+        for (int i = 0; i < answer.length; i++) {
+            do {
+                if (++index >= weights.length) {
+                    index = 0;
+                }
+            } while (weights[index] <= 0);
+            weights[index]--;
+            answer[i] = index;
+        }
+        return answer;
     }
 }
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A {@link ResequencerEngine} for elements with dense numeric sequence numbers, which does not synchronize inserting
+ * elements with delivering elements.
+ * <p/>
+ * The elements are kept in a ring buffer indexed by their sequence number, which covers a sliding window of sequence
+ * numbers starting at the sequence number following the last delivered element. Elements outside the window (such as
+ * sparse sequence numbers far ahead, or old elements arriving after newer elements have been delivered) are kept in a
+ * sorted map instead. Elements are inserted using atomic operations, and only the delivery is guarded by a lock, so the
+ * producers and the delivery thread do not share a monitor.
+ * <p/>
+ * The timeout, the rejection of old elements and the size (used for the capacity) work as in the
+ * {@link ResequencerEngine}. As the elements are ordered by their sequence number, the comparator is only used for
+ * validating the elements.
+ */
+public class IndexedResequencerEngine<E> extends ResequencerEngine<E> {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final SequenceElementComparator<E> comparator;
+    private final Function<E, Long> sequenceNumber;
+    private final ConcurrentSkipListMap<Long, IndexedElement<E>> sorted = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger ringSize = new AtomicInteger();
+    // the lowest sequence number in the ring, which is only moved by the delivery (or set by the first insert)
+    private final AtomicLong base = new AtomicLong(UNSET);
+    // a lower bound of the sequence numbers of the elements in the ring, which is raised by the delivery and lowered by
+    // the inserts, so the delivery does not scan the gap before an element which waits for its predecessor every time
+    private final AtomicLong lowest = new AtomicLong(Long.MIN_VALUE);
+    private final Lock deliveryLock = new ReentrantLock();
+    private AtomicReferenceArray<IndexedElement<E>> ring;
+    private int mask;
+    private volatile IndexedElement<E> lastDelivered;
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000 milliseconds.
+     *
+     * @param comparator     a sequence element comparator, for validating the elements.
+     * @param sequenceNumber a function to get the sequence number of an element, or <code>null</code> if the element
+     *                       has no sequence number.
+     */
+    public IndexedResequencerEngine(SequenceElementComparator<E> comparator, Function<E, Long> sequenceNumber) {
+        super(comparator);
+        this.comparator = comparator;
+        this.sequenceNumber = sequenceNumber;
+        setCapacity(1000);
+    }
+
+    /**
+     * Sets the expected number of elements maintained by this resequencer, which is used for sizing the ring buffer.
+     * The ring buffer is only resized while the resequencer holds no elements, so the elements are kept when the
+     * resequencer is restarted.
+     *
+     * @param capacity the capacity.
+     */
+    public void setCapacity(int capacity) {
+        // room for twice the capacity so gaps in the sequence numbers can be held in the ring
+        int length = Integer.highestOneBit(Math.max(capacity, 8) - 1) << 2;
+        if (ring != null && (ring.length() == length || size() > 0)) {
+            return;
+        }
+        this.ring = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+        ringSize.set(0);
+        lowest.set(Long.MIN_VALUE);
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    E getLastDelivered() {
+        IndexedElement<E> element = lastDelivered;
+        return element != null ? element.object : null;
+    }
+
+    @Override
+    void setLastDelivered(E o) {
+        IndexedElement<E> element = new IndexedElement<>(o, sequenceNumber.apply(o));
+        lastDelivered = element;
+        base.set(element.sequence + 1);
+    }
+
+    @Override
+    public void insert(E o) {
+        Long number = sequenceNumberOf(o);
+        if (number == null) {
+            throw new IllegalArgumentException("Element cannot be used in comparator: " + comparator);
+        }
+        long sequence = number;
+
+        // validate the element shouldn't be 'rejected' (if applicable)
+        IndexedElement<E> last = lastDelivered;
+        if (getRejectOld() != null && getRejectOld() && last != null && sequence < last.sequence) {
+            throw new MessageRejectedException(
+                    "rejecting message [" + o + "], it should have been sent before the last delivered message ["
+                                               + last.object + "]");
+        }
+
+        // the element is not ready for delivery until we know whether it has to wait for its predecessor
+        IndexedElement<E> element = new IndexedElement<>(o, sequence);
+        if (!add(element)) {
+            // the sequence holds a single element per sequence number
+            return;
+        }
+        size.incrementAndGet();
+
+        // an immediate successor no longer needs to wait for timeout
+        IndexedElement<E> successor = find(sequence + 1);
+        if (successor != null) {
+            successor.cancel();
+        }
+
+        // as the element has been added before looking for the predecessor, then either this or the predecessor will
+        // see the other, and the last delivered element is updated before the delivered element is removed
+        last = lastDelivered;
+        if (last != null && last.sequence == sequence - 1 || find(sequence - 1) != null) {
+            element.cancel();
+        } else {
+            element.schedule(defineTimeout());
+        }
+    }
+
+    @Override
+    public void deliver() throws Exception {
+        deliveryLock.lock();
+        try {
+            while (doDeliverNext()) {
+                // do nothing here
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean deliverNext() throws Exception {
+        deliveryLock.lock();
+        try {
+            return doDeliverNext();
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private boolean doDeliverNext() throws Exception {
+        long start;
+        IndexedElement<E> element;
+        do {
+            // inspect element with the lowest sequence value
+            start = base.get();
+            element = first(start);
+
+            // if element is scheduled do not deliver and return
+            if (element == null || !element.isReady()) {
+                return false;
+            }
+            // the predecessor which made the element ready may have been inserted after its slot was inspected, and
+            // must be delivered first, so look again
+        } while (find(element.sequence - 1) != null);
+
+        // set the delivered element to last delivered element before removing it, so an inserted successor sees
+        // either of them
+        lastDelivered = element;
+        if (ring.compareAndSet(index(element.sequence), element, null)) {
+            ringSize.decrementAndGet();
+        } else {
+            sorted.remove(element.sequence, element);
+        }
+        size.decrementAndGet();
+        if (start == UNSET || element.sequence >= start) {
+            advance(start, element.sequence + 1);
+        }
+
+        // deliver the sequence element
+        getSequenceSender().sendElement(element.object);
+        return true;
+    }
+
+    private IndexedElement<E> first(long start) {
+        IndexedElement<E> element = null;
+        if (ringSize.get() > 0 && start != UNSET) {
+            long low = lowest.get();
+            long from = Math.max(start, low);
+            for (long sequence = from; sequence < start + ring.length(); sequence++) {
+                IndexedElement<E> candidate = ring.get(index(sequence));
+                if (candidate != null && candidate.sequence == sequence) {
+                    element = candidate;
+                    break;
+                }
+            }
+            if (element != null && element.sequence > from) {
+                raiseLowest(low, from, element.sequence);
+            }
+        }
+        Map.Entry<Long, IndexedElement<E>> first = sorted.firstEntry();
+        if (first != null && (element == null || first.getKey() < element.sequence)) {
+            element = first.getValue();
+        }
+        return element;
+    }
+
+    private void advance(long start, long next) {
+        base.set(next);
+        if (start == UNSET) {
+            return;
+        }
+        // move the elements which were added to the ring while the base was moved past them
+        long end = Math.min(next, start + ring.length());
+        for (long sequence = start; sequence < end; sequence++) {
+            int index = index(sequence);
+            IndexedElement<E> element = ring.get(index);
+            if (element != null && element.sequence == sequence && ring.compareAndSet(index, element, null)) {
+                ringSize.decrementAndGet();
+                if (sorted.putIfAbsent(sequence, element) != null) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void raiseLowest(long expected, long from, long to) {
+        if (lowest.compareAndSet(expected, to)) {
+            // an element may have been added below the new bound, after its slot was scanned, but before the bound was
+            // raised, so the inserting thread did not lower the bound
+            for (long sequence = from; sequence < to; sequence++) {
+                IndexedElement<E> element = ring.get(index(sequence));
+                if (element != null && element.sequence == sequence) {
+                    lowerLowest(sequence);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void lowerLowest(long sequence) {
+        long current = lowest.get();
+        while (sequence < current && !lowest.compareAndSet(current, sequence)) {
+            current = lowest.get();
+        }
+    }
+
+    private boolean add(IndexedElement<E> element) {
+        long sequence = element.sequence;
+        long start = base.get();
+        if (start == UNSET && base.compareAndSet(UNSET, sequence)) {
+            start = sequence;
+        } else if (start == UNSET) {
+            start = base.get();
+        }
+
+        if (sequence >= start && sequence - start < ring.length()) {
+            int index = index(sequence);
+            if (ring.compareAndSet(index, null, element)) {
+                ringSize.incrementAndGet();
+                if (sequence < base.get() && ring.compareAndSet(index, element, null)) {
+                    // the delivery has moved past the element while adding it, so its kept in the sorted map
+                    ringSize.decrementAndGet();
+                    return sorted.putIfAbsent(sequence, element) == null;
+                }
+                lowerLowest(sequence);
+                return true;
+            }
+            IndexedElement<E> existing = ring.get(index);
+            if (existing != null && existing.sequence == sequence) {
+                return false;
+            }
+        }
+        return sorted.putIfAbsent(sequence, element) == null;
+    }
+
+    private IndexedElement<E> find(long sequence) {
+        IndexedElement<E> element = ring.get(index(sequence));
+        if (element != null && element.sequence == sequence) {
+            return element;
+        }
+        return sorted.get(sequence);
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    private Long sequenceNumberOf(E o) {
+        if (!comparator.isValid(o)) {
+            return null;
+        }
+        try {
+            return sequenceNumber.apply(o);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * An element which is not ready for delivery until its timeout is cancelled (or times out). Unlike {@link Element}
+     * it cannot be scheduled after it has been cancelled, as the predecessor can be inserted concurrently.
+     */
+    private static final class IndexedElement<E> implements TimeoutHandler {
+
+        private final E object;
+        private final long sequence;
+        private Timeout timeout;
+        private volatile boolean ready;
+
+        IndexedElement(E object, long sequence) {
+            this.object = object;
+            this.sequence = sequence;
+        }
+
+        boolean isReady() {
+            return ready;
+        }
+
+        synchronized void schedule(Timeout t) {
+            if (!ready) {
+                timeout = t;
+                timeout.setTimeoutHandler(this);
+                timeout.schedule();
+            }
+        }
+
+        synchronized void cancel() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+            ready = true;
+        }
+
+        @Override
+        public synchronized void timeout(Timeout t) {
+            timeout = null;
+            ready = true;
+        }
+    }
+
+}
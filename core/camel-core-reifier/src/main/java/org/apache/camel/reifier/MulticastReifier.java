@@ -78,6 +78,8 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         MulticastProcessor answer = new MulticastProcessor(
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, prepare, isShareUnitOfWork, isParallelAggregate);
+        answer.setStreamingOrdered(parseBoolean(definition.getStreamingOrdered(), false));
+        answer.setMaxInFlight(parseInt(definition.getMaxInFlight(), 0));
         return answer;
     }
 
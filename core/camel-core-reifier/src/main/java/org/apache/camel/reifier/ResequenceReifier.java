@@ -129,6 +129,12 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         comparator.setExpression(expression);
 
         StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression);
+        if (parseBoolean(config.getIndexed(), false)) {
+            if (!(comparator instanceof DefaultExchangeComparator)) {
+                throw new IllegalArgumentException("Indexed stream resequencer cannot use a custom comparator: " + comparator);
+            }
+            resequencer.setIndexed(true);
+        }
         Long dur = parseDuration(config.getTimeout());
         if (dur != null) {
             resequencer.setTimeout(dur);
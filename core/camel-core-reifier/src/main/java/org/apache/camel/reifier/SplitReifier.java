@@ -75,6 +75,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, prepare,
                     isShareUnitOfWork, isParallelAggregate);
         }
+        answer.setStreamingOrdered(parseBoolean(definition.getStreamingOrdered(), false));
+        answer.setMaxInFlight(parseInt(definition.getMaxInFlight(), 0));
 
         return answer;
     }
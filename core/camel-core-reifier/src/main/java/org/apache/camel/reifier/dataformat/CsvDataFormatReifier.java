@@ -65,6 +65,9 @@ public class CsvDataFormatReifier extends DataFormatReifier<CsvDataFormat> {
         properties.put("ignoreHeaderCase", definition.getIgnoreHeaderCase());
         properties.put("trailingDelimiter", definition.getTrailingDelimiter());
         properties.put("lazyLoad", definition.getLazyLoad());
+        properties.put("batchSize", definition.getBatchSize());
+        properties.put("reuseRows", definition.getReuseRows());
+        properties.put("selectColumns", definition.getSelectColumns());
         properties.put("useMaps", definition.getUseMaps());
         properties.put("useOrderedMaps", definition.getUseOrderedMaps());
         properties.put("captureHeaderRecord", definition.getCaptureHeaderRecord());
@@ -716,6 +716,10 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
                 properties.put("loadStatisticsEnabled",
                         CamelContextHelper.parseBoolean(getContext(), camelJMXAgent.getLoadStatisticsEnabled()));
             }
+            if (camelJMXAgent.getProcessingTimeHistogramEnabled() != null) {
+                properties.put("processingTimeHistogramEnabled",
+                        CamelContextHelper.parseBoolean(getContext(), camelJMXAgent.getProcessingTimeHistogramEnabled()));
+            }
             if (camelJMXAgent.getEndpointRuntimeStatisticsEnabled() != null) {
                 properties.put("endpointRuntimeStatisticsEnabled",
                         CamelContextHelper.parseBoolean(getContext(), camelJMXAgent.getEndpointRuntimeStatisticsEnabled()));
@@ -763,6 +767,10 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (spoolThreshold != null) {
             getContext().getStreamCachingStrategy().setSpoolThreshold(spoolThreshold);
         }
+        Long spoolOffHeapLimit = CamelContextHelper.parseLong(getContext(), streamCaching.getSpoolOffHeapLimit());
+        if (spoolOffHeapLimit != null) {
+            getContext().getStreamCachingStrategy().setSpoolOffHeapLimit(spoolOffHeapLimit);
+        }
         Integer spoolUsedHeap = CamelContextHelper.parseInteger(getContext(), streamCaching.getSpoolUsedHeapMemoryThreshold());
         if (spoolUsedHeap != null) {
             getContext().getStreamCachingStrategy().setSpoolUsedHeapMemoryThreshold(spoolUsedHeap);
@@ -1350,6 +1358,7 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         answer.setRejectedPolicy(
                 CamelContextHelper.parse(context, ThreadPoolRejectedPolicy.class, definition.getRejectedPolicy()));
         answer.setTimeUnit(CamelContextHelper.parse(context, TimeUnit.class, definition.getTimeUnit()));
+        answer.setVirtualThreads(CamelContextHelper.parseBoolean(context, definition.getVirtualThreads()));
         return answer;
     }
 
@@ -65,6 +65,9 @@ public class CamelJMXAgentDefinition extends IdentifiedType {
     @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
     private String loadStatisticsEnabled;
     @XmlAttribute
+    @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
+    private String processingTimeHistogramEnabled;
+    @XmlAttribute
     @Metadata(defaultValue = "true", javaType = "java.lang.Boolean")
     private String endpointRuntimeStatisticsEnabled;
     @XmlAttribute
@@ -189,6 +192,17 @@ public class CamelJMXAgentDefinition extends IdentifiedType {
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    public String getProcessingTimeHistogramEnabled() {
+        return processingTimeHistogramEnabled;
+    }
+
+    /**
+     * A flag that indicates whether processing times are recorded in histograms to calculate percentiles
+     */
+    public void setProcessingTimeHistogramEnabled(String processingTimeHistogramEnabled) {
+        this.processingTimeHistogramEnabled = processingTimeHistogramEnabled;
+    }
+
     public String getEndpointRuntimeStatisticsEnabled() {
         return endpointRuntimeStatisticsEnabled;
     }
@@ -255,6 +269,9 @@ public class CamelJMXAgentDefinition extends IdentifiedType {
         if (loadStatisticsEnabled != null) {
             buffer.add("loadStatisticsEnabled=" + loadStatisticsEnabled);
         }
+        if (processingTimeHistogramEnabled != null) {
+            buffer.add("processingTimeHistogramEnabled=" + processingTimeHistogramEnabled);
+        }
         if (endpointRuntimeStatisticsEnabled != null) {
             buffer.add("endpointRuntimeStatisticsEnabled=" + endpointRuntimeStatisticsEnabled);
         }
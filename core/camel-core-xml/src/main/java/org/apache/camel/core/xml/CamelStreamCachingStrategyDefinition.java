@@ -48,6 +48,8 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     @Metadata(defaultValue = "" + StreamCache.DEFAULT_SPOOL_THRESHOLD)
     private String spoolThreshold;
     @XmlAttribute
+    private String spoolOffHeapLimit;
+    @XmlAttribute
     private String spoolUsedHeapMemoryThreshold;
     @XmlAttribute
     private String spoolUsedHeapMemoryLimit;
@@ -145,6 +147,20 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolThreshold = spoolThreshold;
     }
 
+    public String getSpoolOffHeapLimit() {
+        return spoolOffHeapLimit;
+    }
+
+    /**
+     * Sets the max number of bytes of off-heap (direct) memory to use for spooling, before spooling to disk.
+     * <p/>
+     * When in use, then streams which should be spooled are kept in pooled segments of off-heap memory, and are only
+     * spooled to disk when the off-heap memory is exhausted. By default streams are spooled to disk.
+     */
+    public void setSpoolOffHeapLimit(String spoolOffHeapLimit) {
+        this.spoolOffHeapLimit = spoolOffHeapLimit;
+    }
+
     public String getSpoolUsedHeapMemoryThreshold() {
         return spoolUsedHeapMemoryThreshold;
     }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.Arrays;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests invoking the bean methods many times, so the methods are invoked using method handles instead of reflection.
+ */
+public class BeanMethodHandleInvokeTest extends ContextTestSupport {
+
+    private static final int COUNT = 20;
+
+    private final MyBean bean = new MyBean();
+
+    @Test
+    public void testInvoke() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:hello");
+        mock.expectedMessageCount(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            mock.message(i).body().isEqualTo("Hello " + i + " (" + (i + 10) + ")");
+        }
+
+        for (int i = 0; i < COUNT; i++) {
+            template.sendBodyAndHeader("direct:hello", "" + i, "num", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        // the last invocations must have bound the arguments one by one
+        assertTrue(bean.invokedByMethodHandle);
+        assertTrue(bean.invokedByArityInvoker);
+    }
+
+    @Test
+    public void testInvokeManyParameters() throws Exception {
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals("a-b-c-" + i, template.requestBodyAndHeader("direct:many", "a", "num", i));
+        }
+        // the method has too many parameters to bind the arguments one by one
+        assertTrue(bean.invokedByMethodHandle);
+        assertFalse(bean.invokedByArityInvoker);
+    }
+
+    @Test
+    public void testAdapt() throws Exception {
+        MethodHandleInvoker invoker
+                = MethodHandleInvoker.create(MyBean.class.getMethod("hello", String.class, long.class));
+        assertTrue(invoker.hasArityInvoker());
+        assertEquals("Camel", invoker.adapt(0, "Camel"));
+        assertSame(MethodHandleInvoker.NO_MATCH, invoker.adapt(0, 123));
+        assertNull(invoker.adapt(0, null));
+
+        // the same widening primitive conversions as reflection
+        assertEquals(123L, invoker.adapt(1, 123L));
+        assertEquals(123L, invoker.adapt(1, 123));
+        assertEquals(123L, invoker.adapt(1, (short) 123));
+        assertEquals(123L, invoker.adapt(1, (byte) 123));
+        assertEquals(65L, invoker.adapt(1, 'A'));
+        assertSame(MethodHandleInvoker.NO_MATCH, invoker.adapt(1, 1.5d));
+        assertSame(MethodHandleInvoker.NO_MATCH, invoker.adapt(1, "123"));
+        assertSame(MethodHandleInvoker.NO_MATCH, invoker.adapt(1, null));
+
+        assertEquals("Hello Camel (133)", invoker.invoke2(bean, "Camel", invoker.adapt(1, 123)));
+    }
+
+    @Test
+    public void testInvokeVoidAndStatic() throws Exception {
+        getMockEndpoint("mock:void").expectedBodiesReceived(
+                "Bye World", "Bye World", "Bye World", "Bye World", "Bye World", "Bye World", "Bye World", "Bye World",
+                "Bye World", "Bye World", "Bye World", "Bye World");
+        getMockEndpoint("mock:void").allMessages().header("touched").isEqualTo(true);
+
+        for (int i = 0; i < 12; i++) {
+            template.sendBody("direct:void", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testInvokeException() throws Exception {
+        Exchange out = null;
+        for (int i = 0; i < COUNT; i++) {
+            out = template.send("direct:fail", e -> e.getMessage().setBody("Kaboom"));
+            // the exception from the method should not be wrapped
+            assertSame(IllegalArgumentException.class, out.getException().getClass());
+            assertEquals("Kaboom", out.getException().getMessage());
+        }
+        // the last invocation must have used the method handle
+        assertTrue(isMethodHandleInvoker(out.getException().getStackTrace()));
+    }
+
+    @Test
+    public void testInvokePrivateClass() throws Exception {
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals("Hi Camel", template.requestBody("direct:private", "Camel"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:hello").bean(bean, "hello").to("mock:hello");
+                from("direct:void").bean(bean, "touch").bean(MyStaticClass.class, "changeSomething").to("mock:void");
+                from("direct:fail").bean(bean, "fail");
+                from("direct:private").bean(new MyPrivateBean(), "hi");
+                from("direct:many").bean(bean, "many(${body}, 'b', 'c', ${header.num})");
+            }
+        };
+    }
+
+    private static boolean isMethodHandleInvoker(StackTraceElement[] stackTrace) {
+        return Arrays.stream(stackTrace).anyMatch(e -> e.getClassName().equals(MethodHandleInvoker.class.getName()));
+    }
+
+    private static boolean isArityInvoker(StackTraceElement[] stackTrace) {
+        return Arrays.stream(stackTrace).anyMatch(e -> e.getClassName().equals(MethodHandleInvoker.class.getName())
+                && e.getMethodName().matches("invoke\\d"));
+    }
+
+    public static class MyBean {
+
+        private volatile boolean invokedByMethodHandle;
+        private volatile boolean invokedByArityInvoker;
+
+        public String hello(String name, @Header("num") long num) {
+            StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+            invokedByMethodHandle = isMethodHandleInvoker(stackTrace);
+            invokedByArityInvoker = isArityInvoker(stackTrace);
+            return "Hello " + name + " (" + (num + 10) + ")";
+        }
+
+        public String many(String a, String b, String c, long num) {
+            StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+            invokedByMethodHandle = isMethodHandleInvoker(stackTrace);
+            invokedByArityInvoker = isArityInvoker(stackTrace);
+            return a + "-" + b + "-" + c + "-" + num;
+        }
+
+        public void touch(Exchange exchange) {
+            exchange.getMessage().setHeader("touched", true);
+        }
+
+        public String fail(String message) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static class MyPrivateBean {
+
+        public String hi(String name) {
+            return "Hi " + name;
+        }
+    }
+
+}
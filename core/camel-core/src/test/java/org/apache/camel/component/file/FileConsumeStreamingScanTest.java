@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for scanning the directories lazily with streamingScan
+ */
+public class FileConsumeStreamingScanTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testStreamingScanMaxMessagesPerPoll() throws Exception {
+        context.start();
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&noop=true&streamingScan=true&maxMessagesPerPoll=3"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        });
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectedBodiesReceivedInAnyOrder("Hello 0", "Hello 1", "Hello 2", "Hello 3", "Hello 4", "Hello 5", "Hello 6",
+                "Hello 7", "Hello 8", "Hello 9");
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            int size = exchange.getProperty(Exchange.BATCH_SIZE, Integer.class);
+            assertTrue(size <= 3, "Should poll at most 3 files but was " + size);
+        }
+    }
+
+    @Test
+    public void testStreamingScanRecursive() throws Exception {
+        context.start();
+
+        template.sendBodyAndHeader(fileUri(), "A", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri(), "B", Exchange.FILE_NAME, "foo/b.txt");
+        template.sendBodyAndHeader(fileUri(), "C", Exchange.FILE_NAME, "foo/bar/c.txt");
+        template.sendBodyAndHeader(fileUri(), "D", Exchange.FILE_NAME, "foo/bar/d.dat");
+        template.sendBodyAndHeader(fileUri(), "E", Exchange.FILE_NAME, "foo/bar/baz/e.txt");
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&streamingScan=true&maxMessagesPerPoll=1"
+                             + "&recursive=true&maxDepth=3&includeExt=txt"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        });
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamingScanDoneFile() throws Exception {
+        context.start();
+
+        template.sendBodyAndHeader(fileUri(), "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), "Bye", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri(), "", Exchange.FILE_NAME, "hello.txt.done");
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&streamingScan=true&doneFileName=${file:name}.done"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        });
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello");
+
+        assertMockEndpointsSatisfied();
+
+        // bye is consumed when its done file is written
+        mock.reset();
+        mock.expectedBodiesReceived("Bye");
+
+        template.sendBodyAndHeader(fileUri(), "", Exchange.FILE_NAME, "bye.txt.done");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamingScanPreSortNotAllowed() throws Exception {
+        context.start();
+
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?streamingScan=true&preSort=true")).to("mock:result");
+            }
+        }));
+        assertTrue(e.getCause().getMessage().contains("You cannot set both streamingScan=true and preSort=true"),
+                e.getCause().getMessage());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testBounded() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertEquals(3, queue.remainingCapacity());
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        // the capacity is not rounded up to the size of the ring buffer
+        assertFalse(queue.offer("D"));
+        assertFalse(queue.offer("D", 10, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("D"));
+        assertEquals("[B, C, D]", queue.toString());
+
+        assertEquals("B", queue.take());
+        assertEquals("C", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testDrainTo() throws Exception {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(10);
+        for (int i = 0; i < 10; i++) {
+            queue.put(i);
+        }
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(4, queue.drainTo(batch, 4));
+        assertEquals(List.of(0, 1, 2, 3), batch);
+
+        batch.clear();
+        assertEquals(6, queue.drainTo(batch));
+        assertEquals(List.of(4, 5, 6, 7, 8, 9), batch);
+        assertEquals(0, queue.drainTo(batch));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(5);
+        queue.put("A");
+        queue.put("B");
+        queue.put("C");
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertFalse(queue.contains("B"));
+
+        List<String> batch = new ArrayList<>();
+        assertEquals(2, queue.drainTo(batch));
+        assertEquals(List.of("A", "C"), batch);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        // spin is not tested as it needs a CPU core for each thread
+        for (RingBufferBlockingQueue.WaitStrategy waitStrategy : List.of(RingBufferBlockingQueue.WaitStrategy.Yield,
+                RingBufferBlockingQueue.WaitStrategy.Park)) {
+            RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(16, waitStrategy);
+            Set<Integer> received = ConcurrentHashMap.newKeySet();
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int p = 0; p < 4; p++) {
+                    final int offset = p * 2000;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 2000; i++) {
+                            queue.put(offset + i);
+                        }
+                        return null;
+                    }));
+                }
+                for (int c = 0; c < 4; c++) {
+                    final boolean batch = c % 2 == 0;
+                    futures.add(executor.submit(() -> {
+                        List<Integer> list = new ArrayList<>();
+                        while (received.size() < 8000) {
+                            Integer i = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (i != null) {
+                                received.add(i);
+                                if (batch) {
+                                    list.clear();
+                                    queue.drainTo(list, 8);
+                                    received.addAll(list);
+                                }
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(8000, received.size(), "Should receive all the elements using " + waitStrategy);
+            assertTrue(queue.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    private final List<Boolean> interrupted = new CopyOnWriteArrayList<>();
+    private volatile Thread consumerThread;
+
+    @Test
+    public void testBatch() throws Exception {
+        // send the messages while the route is stopped so they are all on the queue
+        context.getRouteController().stopRoute("batch");
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:batch?batchSize=4", "Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMessageCount(3);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(4);
+        mock.message(1).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(4);
+        mock.message(2).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+
+        context.getRouteController().startRoute("batch");
+        assertMockEndpointsSatisfied();
+
+        List<String> bodies = new ArrayList<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            List<?> batch = exchange.getMessage().getBody(List.class);
+            for (Object e : batch) {
+                bodies.add(((Exchange) e).getMessage().getBody(String.class));
+            }
+        }
+        assertEquals(10, bodies.size());
+        assertEquals("Message 0", bodies.get(0));
+        assertEquals("Message 9", bodies.get(9));
+
+        SedaEndpoint endpoint = context.getEndpoint("seda:batch?batchSize=4", SedaEndpoint.class);
+        assertEquals(3, endpoint.getBatchCount());
+        // 1 batch with a size of 2-3, and 2 batches with a size of 4-7
+        assertArrayEquals(new long[] { 0, 1, 2 }, endpoint.getBatchSizeHistogram());
+
+        endpoint.resetBatchSizeHistogram();
+        assertEquals(0, endpoint.getBatchCount());
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedMessageCount(1);
+        mock.expectedPropertyReceived(Exchange.BATCH_SIZE, 3);
+
+        // the consumer waits for the batch to be full
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("seda:timeout?batchSize=3&batchTimeout=5000", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchWaitForTaskToComplete() throws Exception {
+        getMockEndpoint("mock:batch").expectedMessageCount(1);
+
+        // the producer waits for the batch to be done
+        template.sendBody("seda:batch?batchSize=4&waitForTaskToComplete=Always", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchFailed() throws Exception {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("seda:fail?batchSize=4&waitForTaskToComplete=Always", "Hello World"));
+        assertEquals("Forced", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testBatchInOutFailed() throws Exception {
+        getMockEndpoint("mock:batch").expectedMessageCount(0);
+
+        // there is no reply for an exchange in a batch, so it is failed instead
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("seda:batch?batchSize=4", "Hello World"));
+        assertIsInstanceOf(CamelExchangeException.class, e.getCause());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchNotRoutedOnInterruptedThread() throws Exception {
+        // a full batch is routed at once, so we know the consumer thread
+        template.sendBody("seda:interrupt?batchSize=2&batchTimeout=60000", "Message 0");
+        template.sendBody("seda:interrupt?batchSize=2&batchTimeout=60000", "Message 1");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> interrupted.size() == 1);
+
+        // interrupt the consumer while it waits for the batch to be full
+        template.sendBody("seda:interrupt?batchSize=2&batchTimeout=60000", "Message 2");
+        SedaEndpoint endpoint = context.getEndpoint("seda:interrupt?batchSize=2&batchTimeout=60000", SedaEndpoint.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getQueue().isEmpty());
+        consumerThread.interrupt();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> interrupted.size() == 2);
+        assertEquals(Arrays.asList(false, false), interrupted);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:batch?batchSize=4").routeId("batch").to("mock:batch");
+
+                from("seda:timeout?batchSize=3&batchTimeout=5000").to("mock:timeout");
+
+                from("seda:fail?batchSize=4").throwException(new IllegalArgumentException("Forced"));
+
+                from("seda:interrupt?batchSize=2&batchTimeout=60000").process(e -> {
+                    consumerThread = Thread.currentThread();
+                    interrupted.add(consumerThread.isInterrupted());
+                });
+            }
+        };
+    }
+}
@@ -32,11 +32,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class SedaQueueFactoryTest extends ContextTestSupport {
     private final ArrayBlockingQueueFactory<Exchange> arrayQueueFactory = new ArrayBlockingQueueFactory<>();
+    private final RingBufferBlockingQueueFactory<Exchange> ringBufferQueueFactory = new RingBufferBlockingQueueFactory<>();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("ringBufferQueueFactory", ringBufferQueueFactory);
         return context;
     }
 
@@ -60,6 +62,18 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
     }
 
+    @Test
+    public void testRingBufferBlockingQueueFactoryAndSize() throws Exception {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:ringBufferQueue100?queueFactory=#ringBufferQueueFactory&size=100",
+                        SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        RingBufferBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(RingBufferBlockingQueue.class, queue);
+        assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
+        assertEquals(100, endpoint.getSize());
+    }
+
     @Test
     public void testDefaultBlockingQueueFactory() throws Exception {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaVirtualThreadsTest extends ContextTestSupport {
+
+    private final List<ThreadPoolProfile> profiles = new CopyOnWriteArrayList<>();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+        context.getExecutorServiceManager().setThreadPoolFactory(new DefaultThreadPoolFactory() {
+            @Override
+            public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+                profiles.add(profile);
+                return super.newThreadPool(profile, factory);
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testConsumersUseVirtualThreadPool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:foo", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the consumer does not use a fixed thread pool, as it never uses virtual threads
+        ThreadPoolProfile profile = profiles.stream()
+                .filter(p -> p.getId().startsWith("seda://foo")).findFirst().orElseThrow();
+        assertEquals(Boolean.TRUE, profile.getVirtualThreads());
+        assertEquals(-1, profile.getMaxQueueSize());
+    }
+
+    @Test
+    // JRE.OTHER is any version newer than Java 20 on this JUnit version
+    @EnabledForJreRange(min = JRE.OTHER)
+    public void testConsumersRunOnVirtualThreads() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:foo", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        for (Thread thread : threads) {
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread), "Should be a virtual thread: " + thread);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?concurrentConsumers=3")
+                        .process(e -> threads.add(Thread.currentThread()))
+                        .to("mock:result");
+            }
+        };
+    }
+}
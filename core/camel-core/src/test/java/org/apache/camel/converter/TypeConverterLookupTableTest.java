@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterLookupTableTest extends ContextTestSupport {
+
+    @Override
+    protected boolean isLoadTypeConverters() {
+        return true;
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getTypeConverterRegistry().setLookupTableEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testConvert() throws Exception {
+        assertTrue(context.getTypeConverterRegistry().isLookupTableEnabled());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.valueOf(123 + i), context.getTypeConverter().convertTo(Integer.class, "" + (123 + i)));
+            assertEquals("456", context.getTypeConverter().convertTo(String.class, 456));
+            assertEquals(Boolean.TRUE, context.getTypeConverter().convertTo(boolean.class, "true"));
+            assertEquals(789L, context.getTypeConverter().convertTo(long.class, "789"));
+        }
+    }
+
+    @Test
+    public void testConvertMiss() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertNull(context.getTypeConverter().convertTo(MyCoolBean.class, 123));
+            assertThrows(NoTypeConversionAvailableException.class,
+                    () -> context.getTypeConverter().mandatoryConvertTo(MyCoolBean.class, 123));
+        }
+
+        // adding a type converter should not use the miss from the lookup table
+        context.getTypeConverterRegistry().addTypeConverter(MyCoolBean.class, Integer.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                MyCoolBean answer = new MyCoolBean();
+                answer.setCool("Number " + value);
+                return type.cast(answer);
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            MyCoolBean cool = context.getTypeConverter().convertTo(MyCoolBean.class, i);
+            assertNotNull(cool);
+            assertEquals("Number " + i, cool.getCool());
+        }
+    }
+
+    @Test
+    public void testFallbackPromote() throws Exception {
+        MyCoolBean cool = new MyCoolBean();
+        cool.setCool("Camel rocks");
+
+        String s = context.getTypeConverter().convertTo(String.class, cool);
+        assertEquals("This is cool: Camel rocks", s);
+
+        cool.setCool("It works");
+        s = context.getTypeConverter().convertTo(String.class, cool);
+        assertEquals("This is cool: It works", s);
+
+        TypeConverter tc = context.getTypeConverterRegistry().lookup(String.class, MyCoolBean.class);
+        assertNotNull(tc, "Should have been promoted");
+    }
+
+    @Test
+    public void testDisable() throws Exception {
+        assertEquals("456", context.getTypeConverter().convertTo(String.class, 456));
+
+        context.getTypeConverterRegistry().setLookupTableEnabled(false);
+        assertEquals("789", context.getTypeConverter().convertTo(String.class, 789));
+        assertEquals(Integer.valueOf(123), context.getTypeConverter().convertTo(Integer.class, "123"));
+    }
+
+}
@@ -31,6 +31,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.IOConverter;
+import org.apache.camel.impl.engine.DefaultStreamCachingStrategy;
 import org.apache.camel.impl.engine.DefaultUnitOfWork;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.DefaultExchange;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -221,6 +223,129 @@ public class CachedOutputStreamTest extends ContextTestSupport {
         IOHelper.close(cos);
     }
 
+    @Test
+    public void testCacheStreamToOffHeap() throws Exception {
+        context.getStreamCachingStrategy().setSpoolOffHeapLimit(1024 * 1024);
+
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(0, files.length, "we should have no temp file");
+        assertEquals(64 * 1024, context.getStreamCachingStrategy().getStatistics().getCacheSpoolOffHeapBytesInUse());
+
+        StreamCache cache = cos.newStreamCache();
+        boolean b = cache instanceof OffHeapInputStreamCache;
+        assertTrue(b, "Should get the OffHeapInputStreamCache");
+        assertEquals(TEST_STRING.length(), cache.length());
+        String temp = toString((InputStream) cache);
+        assertEquals(TEST_STRING, temp, "Cached a wrong stream");
+        cache.reset();
+        temp = toString((InputStream) cache);
+        assertEquals(TEST_STRING, temp, "Cached a wrong stream");
+
+        // a copy reads the same segments
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8), "Cached a wrong stream");
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getCacheSpoolOffHeapBytesInUse());
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamToOffHeapReadAfterRelease() throws Exception {
+        // only room for one segment so the segment is reused by the next stream cache
+        context.getStreamCachingStrategy().setSpoolOffHeapLimit(64 * 1024);
+
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        InputStream cache = (InputStream) cos.newStreamCache();
+        InputStream copy = (InputStream) ((StreamCache) cache).copy(exchange);
+        assertEquals(TEST_STRING.charAt(0), cache.read());
+
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getCacheSpoolOffHeapBytesInUse());
+
+        // another exchange spools to the same segment
+        Exchange other = new DefaultExchange(context);
+        other.adapt(ExtendedExchange.class).setUnitOfWork(new DefaultUnitOfWork(other));
+        CachedOutputStream otherCos = new CachedOutputStream(other);
+        otherCos.write("Another exchange payload".getBytes(StandardCharsets.UTF_8));
+        StreamCache otherCache = otherCos.newStreamCache();
+        assertTrue(otherCache instanceof OffHeapInputStreamCache, "Should get the OffHeapInputStreamCache");
+
+        // the released stream caches must not read the payload of the other exchange
+        assertThrows(IOException.class, () -> cache.read());
+        ((StreamCache) cache).reset();
+        assertThrows(IOException.class, () -> cache.read(new byte[16]));
+        assertThrows(IOException.class, () -> ((StreamCache) copy).writeTo(new ByteArrayOutputStream()));
+
+        assertEquals("Another exchange payload", IOConverter.toString((InputStream) otherCache, null));
+
+        other.getUnitOfWork().done(other);
+        IOHelper.close(otherCos);
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getCacheSpoolOffHeapBytesInUse());
+    }
+
+    @Test
+    public void testCacheStreamToOffHeapWithCipher() throws Exception {
+        DefaultStreamCachingStrategy strategy = new DefaultStreamCachingStrategy();
+        strategy.setCamelContext(context);
+        strategy.setEnabled(true);
+        strategy.setSpoolOffHeapLimit(1024 * 1024);
+        strategy.setSpoolCipher("RC4");
+
+        // the off-heap memory is not encrypted so it cannot be used with a cipher
+        assertThrows(IllegalArgumentException.class, strategy::start);
+    }
+
+    @Test
+    public void testCacheStreamToOffHeapExhausted() throws Exception {
+        // only room for one segment
+        context.getStreamCachingStrategy().setSpoolOffHeapLimit(64 * 1024);
+
+        context.start();
+
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 100 * 1024) {
+            sb.append(TEST_STRING);
+        }
+        String data = sb.toString();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+
+        // the off-heap memory was exhausted so the data is spooled to disk
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(1, files.length, "we should have a temp file");
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getCacheSpoolOffHeapBytesInUse());
+
+        StreamCache cache = cos.newStreamCache();
+        boolean b = cache instanceof FileInputStreamCache;
+        assertTrue(b, "Should get the FileInputStreamCache");
+        assertEquals(data.length(), cache.length());
+        String temp = IOConverter.toString((InputStream) cache, null);
+        assertEquals(data, temp, "Cached a wrong file");
+        ((InputStream) cache).close();
+
+        exchange.getUnitOfWork().done(exchange);
+        files = file.list();
+        assertEquals(0, files.length, "we should have no temp file");
+
+        IOHelper.close(cos);
+    }
+
     @Test
     public void testCacheStreamToMemory() throws Exception {
         context.getStreamCachingStrategy().setSpoolThreshold(1024);
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryExchangeHolderCodecTest extends ContextTestSupport {
+
+    private final BinaryExchangeHolderCodec codec = new BinaryExchangeHolderCodec();
+
+    @Test
+    public void testEncodeDecode() throws Exception {
+        Date now = new Date();
+        List<String> list = new ArrayList<>();
+        list.add("A");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("int", -123);
+        exchange.getIn().setHeader("long", Long.MAX_VALUE);
+        exchange.getIn().setHeader("bool", true);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("char", 'c');
+        exchange.getIn().setHeader("date", now);
+        exchange.getIn().setHeader("decimal", new BigDecimal("-123.456"));
+        exchange.getIn().setHeader("bigint", new BigInteger("123456789012345678901234567890"));
+        exchange.setProperty("bar", 444);
+        exchange.setProperty("list", list);
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        byte[] data = codec.encode(holder);
+        assertTrue(BinaryExchangeHolderCodec.isBinaryFormat(data));
+
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(context, data));
+
+        assertEquals(exchange.getExchangeId(), copy.getExchangeId());
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals(-123, copy.getIn().getHeader("int"));
+        assertEquals(Long.MAX_VALUE, copy.getIn().getHeader("long"));
+        assertEquals(true, copy.getIn().getHeader("bool"));
+        assertEquals(1.5d, copy.getIn().getHeader("double"));
+        assertEquals('c', copy.getIn().getHeader("char"));
+        assertEquals(now, copy.getIn().getHeader("date"));
+        assertEquals(new BigDecimal("-123.456"), copy.getIn().getHeader("decimal"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), copy.getIn().getHeader("bigint"));
+        assertEquals(444, copy.getProperty("bar"));
+        assertEquals(list, copy.getProperty("list"));
+        assertEquals("Forced", copy.getException().getMessage());
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Hello World ");
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(sb.toString());
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+
+        byte[] plain = codec.encode(holder);
+
+        BinaryExchangeHolderCodec compressing = new BinaryExchangeHolderCodec();
+        compressing.setCompression(true);
+        byte[] compressed = compressing.encode(holder);
+        assertTrue(compressed.length < plain.length / 10, "Should be compressed");
+
+        // the reader does not need to be configured for compression
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(context, compressed));
+        assertEquals(sb.toString(), copy.getIn().getBody());
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.getIn().setHeader("bar", "Hi Camel");
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+        }
+        byte[] serialized = bos.toByteArray();
+        assertFalse(BinaryExchangeHolderCodec.isBinaryFormat(serialized));
+
+        byte[] data = codec.encode(holder);
+        assertTrue(data.length < serialized.length / 2,
+                "Should be smaller than java serialization: " + data.length + " vs " + serialized.length);
+    }
+}
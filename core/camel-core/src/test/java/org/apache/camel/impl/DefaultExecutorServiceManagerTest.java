@@ -20,13 +20,18 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -196,6 +201,86 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertEquals(true, myPool.isShutdown());
     }
 
+    @Test
+    public void testDefaultVirtualThreadPool() throws Exception {
+        ThreadPoolProfile custom = new ThreadPoolProfile("custom");
+        custom.setPoolSize(10);
+        custom.setMaxPoolSize(30);
+        custom.setKeepAliveTime(50L);
+        custom.setMaxQueueSize(500);
+        custom.setVirtualThreads(true);
+
+        context.getExecutorServiceManager().setDefaultThreadPoolProfile(custom);
+
+        ExecutorService myPool = context.getExecutorServiceManager().newDefaultThreadPool(this, "myPool");
+        assertEquals(false, myPool.isShutdown());
+
+        if (ThreadHelper.isVirtualThreadsSupported()) {
+            VirtualThreadPoolExecutor executor = assertIsInstanceOf(VirtualThreadPoolExecutor.class, myPool);
+            assertEquals(500, executor.getMaxTasks());
+        } else {
+            // fallback to platform threads
+            ThreadPoolExecutor executor = (ThreadPoolExecutor) myPool;
+            assertFalse(executor instanceof VirtualThreadPoolExecutor);
+            assertEquals(10, executor.getCorePoolSize());
+            assertEquals(30, executor.getMaximumPoolSize());
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        myPool.execute(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        context.stop();
+        assertEquals(true, myPool.isShutdown());
+    }
+
+    @Test
+    public void testFixedThreadPoolNotVirtual() throws Exception {
+        ThreadPoolProfile custom = new ThreadPoolProfile("custom");
+        custom.setVirtualThreads(true);
+        context.getExecutorServiceManager().setDefaultThreadPoolProfile(custom);
+
+        // fixed and single thread pools must stay bounded even if the default profile uses virtual threads
+        ExecutorService fixed = context.getExecutorServiceManager().newFixedThreadPool(this, "myFixed", 5);
+        ThreadPoolExecutor executor = assertIsInstanceOf(ThreadPoolExecutor.class, fixed);
+        assertFalse(executor instanceof VirtualThreadPoolExecutor);
+        assertEquals(5, executor.getCorePoolSize());
+        assertEquals(5, executor.getMaximumPoolSize());
+
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "mySingle");
+        executor = assertIsInstanceOf(ThreadPoolExecutor.class, single);
+        assertFalse(executor instanceof VirtualThreadPoolExecutor);
+        assertEquals(1, executor.getMaximumPoolSize());
+
+        ExecutorService sized = context.getExecutorServiceManager().newThreadPool(this, "mySized", 2, 4);
+        executor = assertIsInstanceOf(ThreadPoolExecutor.class, sized);
+        assertFalse(executor instanceof VirtualThreadPoolExecutor);
+        assertEquals(4, executor.getMaximumPoolSize());
+    }
+
+    @Test
+    // JRE.OTHER is any version newer than Java 20 on this JUnit version
+    @EnabledForJreRange(min = JRE.OTHER)
+    public void testVirtualThreadPoolRunsOnVirtualThreads() throws Exception {
+        ThreadPoolProfile custom = new ThreadPoolProfile("custom");
+        custom.setMaxQueueSize(100);
+        custom.setVirtualThreads(true);
+        context.getExecutorServiceManager().setDefaultThreadPoolProfile(custom);
+
+        ExecutorService myPool = context.getExecutorServiceManager().newDefaultThreadPool(this, "myPool");
+        assertIsInstanceOf(VirtualThreadPoolExecutor.class, myPool);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        myPool.execute(() -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread.get()));
+        assertTrue(thread.get().getName().endsWith("myPool"), "Should use the Camel thread name: " + thread.get().getName());
+    }
+
     @Test
     public void testCustomDefaultThreadPool() throws Exception {
         ThreadPoolProfile custom = new ThreadPoolProfile("custom");
@@ -16,6 +16,12 @@
  */
 package org.apache.camel.impl;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
@@ -24,6 +30,7 @@ import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +54,79 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testStripedInflightRepository() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository(true);
+        repo.addRoute("foo");
+
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.size("foo"));
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        assertEquals(1, repo.size());
+        assertEquals(1, repo.size("foo"));
+
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+        assertEquals(1, repo.size("foo"));
+
+        repo.remove(e2);
+        assertEquals(1, repo.size());
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.size("foo"));
+    }
+
+    @Test
+    public void testStripedSizeNeverZeroWhileInflight() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository(true);
+        repo.addRoute("foo");
+
+        // an exchange which stays inflight while other exchanges are concurrently added and removed
+        Exchange inflight = new DefaultExchange(context);
+        repo.add(inflight);
+        repo.add(inflight, "foo");
+
+        int threads = 4;
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    Exchange exchange = new DefaultExchange(context);
+                    while (!done.get()) {
+                        repo.add(exchange);
+                        repo.add(exchange, "foo");
+                        repo.remove(exchange, "foo");
+                        repo.remove(exchange);
+                    }
+                    latch.countDown();
+                });
+            }
+
+            // the shutdown strategy regards the route as drained when its size is 0
+            for (int i = 0; i < 1000000; i++) {
+                assertTrue(repo.size("foo") > 0, "The route must not be drained while an exchange is inflight");
+                assertTrue(repo.size() > 0, "There must be inflight exchanges while an exchange is inflight");
+            }
+        } finally {
+            done.set(true);
+            executor.shutdown();
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        assertEquals(1, repo.size("foo"));
+        assertEquals(1, repo.size());
+        repo.remove(inflight, "foo");
+        repo.remove(inflight);
+        assertEquals(0, repo.size("foo"));
+        assertEquals(0, repo.size());
+    }
 }
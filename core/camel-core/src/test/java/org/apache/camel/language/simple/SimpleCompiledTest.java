@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Expression;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the simple language tests with the simple language in compiled mode.
+ */
+public class SimpleCompiledTest extends SimpleTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(SimpleLanguage.COMPILED, "true");
+        return context;
+    }
+
+    @Test
+    public void testCompiledMode() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        assertTrue(simple.isCompiled());
+    }
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        exchange.getIn().setHeader("foo", 123);
+        exchange.setProperty("beer", "cheese");
+
+        assertExpression("Hello ${body} with ${header.foo} and ${exchangeProperty.beer}",
+                "Hello <hello id='m123'>world!</hello> with 123 and cheese");
+        assertExpression("${header:foo}${in.headers.foo}", "123123");
+        // fallback to property if no header
+        assertExpression("${header.beer}", "cheese");
+        assertExpression("${header.unknown}", null);
+        assertExpression("${exchangeId}", exchange.getExchangeId());
+
+        Expression exp = context.resolveLanguage("simple").createExpression("Hello ${header.foo} World");
+        exp.init(context);
+        assertEquals("Hello ${header.foo} World", exp.toString());
+    }
+
+    @Test
+    public void testCompiledPredicate() throws Exception {
+        exchange.getIn().setHeader("foo", 123);
+        exchange.setProperty("beer", "cheese");
+
+        assertPredicate("${header.foo} == 123", true);
+        assertPredicate("${header.foo} > 100 && ${exchangeProperty.beer} == 'cheese'", true);
+        assertPredicate("${body} contains 'world'", true);
+        assertPredicate("${header.unknown} == null", true);
+    }
+}
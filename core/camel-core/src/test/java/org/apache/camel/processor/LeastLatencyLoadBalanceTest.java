@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.loadbalancer.LeastLatencyLoadBalancer;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LeastLatencyLoadBalanceTest extends ContextTestSupport {
+
+    private final LeastLatencyLoadBalancer loadBalancer = new LeastLatencyLoadBalancer();
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").loadBalance(loadBalancer).to("mock:fast", "mock:slow");
+            }
+        };
+    }
+
+    @Test
+    public void testLeastLatency() throws Exception {
+        MockEndpoint fast = getMockEndpoint("mock:fast");
+        MockEndpoint slow = getMockEndpoint("mock:slow");
+        slow.whenAnyExchangeReceived(e -> Thread.sleep(100));
+
+        // each processor is used once, and then the fast processor is chosen
+        fast.expectedMessageCount(19);
+        slow.expectedMessageCount(1);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, loadBalancer.getLastChosenProcessorIndex());
+        assertEquals(0, loadBalancer.getInflight(0));
+        assertEquals(0, loadBalancer.getInflight(1));
+        assertTrue(loadBalancer.getAverageLatency(1) > loadBalancer.getAverageLatency(0));
+    }
+
+    @Test
+    public void testProcessorFailsSynchronously() throws Exception {
+        LeastLatencyLoadBalancer lb = new LeastLatencyLoadBalancer();
+        lb.addProcessor(new AsyncProcessorSupport() {
+            @Override
+            public boolean process(Exchange exchange, AsyncCallback callback) {
+                throw new IllegalStateException("Kaboom");
+            }
+        });
+        lb.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> lb.process(exchange, doneSync -> {
+        }));
+        assertEquals("Kaboom", e.getMessage());
+        // the processor is no longer in flight
+        assertEquals(0, lb.getInflight(0));
+
+        lb.stop();
+    }
+
+    @Test
+    public void testFailedExchangeRecordedWithFailureLatency() throws Exception {
+        LeastLatencyLoadBalancer lb = new LeastLatencyLoadBalancer();
+        CountingProcessor failing = new CountingProcessor(0, true);
+        CountingProcessor slow = new CountingProcessor(10, false);
+        lb.addProcessor(failing);
+        lb.addProcessor(slow);
+        lb.start();
+
+        for (int i = 0; i < 10; i++) {
+            lb.process(new DefaultExchange(context), doneSync -> {
+            });
+        }
+
+        // the failing processor fails fast but is recorded with the failure latency of 1 second
+        assertEquals(1, failing.count);
+        assertEquals(9, slow.count);
+        assertTrue(lb.getAverageLatency(0) >= TimeUnit.SECONDS.toNanos(1));
+
+        lb.stop();
+    }
+
+    @Test
+    public void testSlowProcessorTriedAgainAfterDecay() throws Exception {
+        LeastLatencyLoadBalancer lb = new LeastLatencyLoadBalancer();
+        lb.setDecayPeriod(20);
+        CountingProcessor fast = new CountingProcessor(0, false);
+        CountingProcessor slow = new CountingProcessor(100, false);
+        lb.addProcessor(fast);
+        lb.addProcessor(slow);
+        lb.start();
+
+        // each processor is used once
+        for (int i = 0; i < 2; i++) {
+            lb.process(new DefaultExchange(context), doneSync -> {
+            });
+        }
+        assertEquals(1, slow.count);
+
+        // the slow processor has recovered, and is tried again when its average latency has decayed
+        slow.delay = 0;
+        long deadline = System.currentTimeMillis() + 5000;
+        while (slow.count == 1 && System.currentTimeMillis() < deadline) {
+            lb.process(new DefaultExchange(context), doneSync -> {
+            });
+            Thread.sleep(5);
+        }
+        assertEquals(2, slow.count);
+
+        lb.stop();
+    }
+
+    @Test
+    public void testInvalidSmoothingFactor() {
+        IllegalArgumentException e
+                = assertThrows(IllegalArgumentException.class, () -> loadBalancer.setSmoothingFactor(0));
+        assertEquals("Smoothing factor must be between 0 and 1, was: 0.0", e.getMessage());
+    }
+
+    private static final class CountingProcessor extends AsyncProcessorSupport {
+        private final boolean fail;
+        private volatile long delay;
+        private volatile int count;
+
+        CountingProcessor(long delay, boolean fail) {
+            this.delay = delay;
+            this.fail = fail;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            count++;
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (fail) {
+                exchange.setException(new IllegalStateException("Connection refused"));
+            }
+            callback.done(true);
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelStreamingMaxInFlightTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int MAX_IN_FLIGHT = 5;
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    public void testMaxInFlight() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(SIZE, read.get());
+        assertEquals(SIZE, aggregated.get());
+        assertTrue(maxInFlight.get() <= MAX_IN_FLIGHT, "In flight should be at most 5 but was " + maxInFlight.get());
+    }
+
+    @Test
+    public void testMaxInFlightOrdered() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            expected.append(i).append(',');
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:ordered", "Hello");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(maxInFlight.get() <= MAX_IN_FLIGHT, "In flight should be at most 5 but was " + maxInFlight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(method(new CountingSplitter(), "split"), new CountingAggregationStrategy())
+                        .streaming().parallelProcessing().maxInFlight(MAX_IN_FLIGHT)
+                        .process(e -> Thread.sleep(1))
+                        .end()
+                        .to("mock:result");
+
+                from("direct:ordered")
+                        .split(method(new CountingSplitter(), "split"), new CountingAggregationStrategy())
+                        .streaming().parallelProcessing().maxInFlight(MAX_IN_FLIGHT).streamingOrdered()
+                        .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(5)))
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    public class CountingSplitter {
+
+        public Iterator<String> split() {
+            return new Iterator<String>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < SIZE;
+                }
+
+                @Override
+                public String next() {
+                    int inFlight = read.incrementAndGet() - aggregated.get();
+                    maxInFlight.accumulateAndGet(inFlight, Math::max);
+                    return String.valueOf(index++);
+                }
+            };
+        }
+    }
+
+    private class CountingAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            String body = newExchange.getIn().getBody(String.class) + ",";
+            if (oldExchange != null) {
+                body = oldExchange.getIn().getBody(String.class) + body;
+            }
+            newExchange.getIn().setBody(body);
+            return newExchange;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamCachingOffHeapTest extends ContextTestSupport {
+
+    @Test
+    public void testSpoolOffHeap() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 100 * 1024) {
+            sb.append("<hello>Hello World</hello>");
+        }
+        String big = sb.toString();
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("<hello>Hello World</hello>", big);
+
+        template.sendBody("direct:start", new MyInputStream("<hello>Hello World</hello>"));
+        // too big for the off-heap memory so it is spooled to disk
+        template.sendBody("direct:start", new MyInputStream(big));
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage()
+                .getBody() instanceof OffHeapInputStreamCache);
+
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(2, stats.getCacheSpoolCounter());
+        assertEquals(1, stats.getCacheSpoolOffHeapCounter());
+        assertEquals(1, stats.getCacheSpoolOffHeapMissCounter());
+        // the exchanges are done so the off-heap memory has been released
+        assertEquals(0, stats.getCacheSpoolOffHeapBytesInUse());
+    }
+
+    private static final class MyInputStream extends FilterInputStream {
+
+        private MyInputStream(String data) {
+            super(new ByteArrayInputStream(data.getBytes()));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+                context.getStreamCachingStrategy().setSpoolEnabled(true);
+                context.getStreamCachingStrategy().setSpoolThreshold(16);
+                // only room for one segment of 64kb
+                context.getStreamCachingStrategy().setSpoolOffHeapLimit(64 * 1024);
+                context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+                context.setStreamCaching(true);
+
+                from("direct:start")
+                        .to("mock:result");
+            }
+        };
+    }
+}
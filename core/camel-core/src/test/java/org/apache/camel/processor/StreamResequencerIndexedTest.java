@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.Channel;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultRoute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamResequencerIndexedTest extends StreamResequencerTest {
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").resequence(header("seqnum")).stream().indexed().timeout(1000).deliveryAttemptInterval(10)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testIndexedEngine() throws Exception {
+        DefaultRoute route = assertIsInstanceOf(DefaultRoute.class, context.getRoutes().get(0));
+        Channel channel = unwrapChannel(route.getProcessor());
+        StreamResequencer resequencer = assertIsInstanceOf(StreamResequencer.class, channel.getNextProcessor());
+        assertTrue(resequencer.isIndexed());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+    private static final int MAX = 5;
+
+    @Test
+    public void testThrottle() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MAX * 2);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < MAX * 2; i++) {
+            template.sendBody("direct:a", "<message>" + i + "</message>");
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        resultEndpoint.assertIsSatisfied();
+        // the first burst passes immediately, then the rest are evenly spaced
+        long minimum = (INTERVAL / MAX) * MAX - 50;
+        assertTrue(elapsed >= minimum, "Should take at least " + minimum + "ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testThrottleAsyncDelayed() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MAX * 2);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < MAX * 2; i++) {
+            template.sendBody("seda:b", "<message>" + i + "</message>");
+        }
+        resultEndpoint.assertIsSatisfied();
+        long elapsed = System.currentTimeMillis() - start;
+
+        long minimum = (INTERVAL / MAX) * MAX - 50;
+        assertTrue(elapsed >= minimum, "Should take at least " + minimum + "ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testThrottleRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(MAX);
+
+        for (int i = 0; i < MAX; i++) {
+            template.sendBody("direct:c", "<message>" + i + "</message>");
+        }
+        try {
+            template.sendBody("direct:c", "<message>rejected</message>");
+            fail("Should throw exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testThrottlePerGroup() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(MAX * 2);
+
+        // each group has its own bucket, so neither group is throttled
+        for (int i = 0; i < MAX; i++) {
+            template.sendBodyAndHeader("direct:d", "<message>" + i + "</message>", "key", "1");
+            template.sendBodyAndHeader("direct:d", "<message>" + i + "</message>", "key", "2");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        Throttler throttler = context.getProcessor("group", Throttler.class);
+        assertIsInstanceOf(TokenBucketThrottler.class, throttler);
+        assertEquals(MAX, throttler.getCurrentMaximumRequestsPerPeriod());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:a").throttle(MAX).timePeriodMillis(INTERVAL).mode("TokenBucket")
+                        .to("log:result", "mock:result");
+
+                from("seda:b").throttle(MAX).timePeriodMillis(INTERVAL).mode("TokenBucket").asyncDelayed()
+                        .to("log:result", "mock:result");
+
+                from("direct:c").throttle(MAX).timePeriodMillis(60000).mode("TokenBucket").rejectExecution(true)
+                        .to("log:result", "mock:result");
+
+                from("direct:d").throttle(MAX).timePeriodMillis(60000).mode("TokenBucket")
+                        .correlationExpression(header("key")).id("group")
+                        .to("log:result", "mock:result");
+            }
+        };
+    }
+}
@@ -16,6 +16,10 @@
  */
 package org.apache.camel.processor;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
@@ -23,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class WeightedRoundRobinLoadBalanceTest extends ContextTestSupport {
@@ -113,6 +118,31 @@ public class WeightedRoundRobinLoadBalanceTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testRoundRobinConcurrent() throws Exception {
+        x.expectedMessageCount(40);
+        y.expectedMessageCount(20);
+        z.expectedMessageCount(10);
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").loadBalance().weighted(true, "4,2,1").to("mock:x", "mock:y", "mock:z");
+            }
+        });
+        context.start();
+
+        // the distribution should be exact for every full round, also when sending concurrently
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        for (int i = 0; i < 70; i++) {
+            final int counter = i;
+            executor.submit(() -> template.sendBodyAndHeader("direct:start", createTestMessage(counter), "counter", counter));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+
+        assertMockEndpointsSatisfied();
+    }
+
     @Test
     public void testUnmatchedRatiosToProcessors() throws Exception {
         try {
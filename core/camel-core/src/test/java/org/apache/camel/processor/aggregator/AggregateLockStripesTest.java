@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.Arrays;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.AggregateProcessorStatistics;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testLockStripes() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=10")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).id("aggregate")
+                        .lockStripes(4).completionSize(10).parallelProcessing()
+                        .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        for (int i = 0; i < 10; i++) {
+            for (int key = 0; key < 20; key++) {
+                template.sendBodyAndHeader("seda:start", "key-" + key, "id", key);
+            }
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // each group is complete with all the exchanges of the same key
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String[] bodies = exchange.getMessage().getBody(String.class).split("\\+");
+            assertEquals(10, bodies.length);
+            assertEquals(1, Arrays.stream(bodies).distinct().count());
+        }
+
+        AggregateProcessorStatistics statistics
+                = context.getProcessor("aggregate", AggregateProcessor.class).getStatistics();
+        assertEquals(20, statistics.getCompletedBySize());
+        assertEquals(4, statistics.getLockStripes());
+        assertEquals(4, statistics.getLockStripeAcquired().length);
+        assertEquals(200, Arrays.stream(statistics.getLockStripeAcquired()).sum());
+        assertTrue(Arrays.stream(statistics.getLockStripeContended()).sum() <= 200);
+
+        statistics.reset();
+        assertEquals(0, Arrays.stream(statistics.getLockStripeAcquired()).sum());
+    }
+
+    @Test
+    public void testLockStripesCompletionTimeout() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripes(4)
+                        .completionTimeout(100).completionTimeoutCheckerInterval(10)
+                        .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C", "D+E+F");
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_COMPLETED_BY).isEqualTo("timeout");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "C", "id", 2);
+        template.sendBodyAndHeader("direct:start", "D", "id", 3);
+        template.sendBodyAndHeader("direct:start", "E", "id", 3);
+        template.sendBodyAndHeader("direct:start", "F", "id", 3);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLockStripesCompleteAllGroups() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripes(4)
+                        .completionSize(10)
+                        .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_COMPLETED_BY).isEqualTo("force");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "C", "id", 2);
+        template.sendBodyAndHeader("direct:start", "Ignored", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLockStripesNotAllowedWithCompletionOnNewCorrelationGroup() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripes(4)
+                        .completionSize(10).completionOnNewCorrelationGroup()
+                        .to("mock:result");
+            }
+        });
+
+        Exception e = assertThrows(Exception.class, () -> context.start());
+        assertTrue(e.getCause().getMessage().contains("Cannot use both lockStripes and completionOnNewCorrelationGroup"),
+                e.getCause().getMessage());
+    }
+
+}
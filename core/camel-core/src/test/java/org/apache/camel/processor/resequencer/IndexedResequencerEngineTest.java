@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the resequencer engine tests with the {@link IndexedResequencerEngine}.
+ */
+public class IndexedResequencerEngineTest extends ResequencerEngineTest {
+
+    @Override
+    protected ResequencerEngine<Integer> createResequencerEngine() {
+        return new IndexedResequencerEngine<>(new IntegerComparator(), Integer::longValue);
+    }
+
+    @Test
+    public void testSparse() throws Exception {
+        initResequencer(200, 10);
+        resequencer.setLastDelivered(-1);
+        // outside the ring buffer
+        resequencer.insert(100000);
+        resequencer.insert(50000);
+        resequencer.insert(0);
+        assertEquals((Object) (Integer) 0, (Object) buffer.poll(150));
+        assertNull(buffer.poll(100));
+        assertEquals((Object) (Integer) 50000, (Object) buffer.take());
+        assertEquals((Object) (Integer) 100000, (Object) buffer.take());
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    public void testFillGap() throws Exception {
+        initResequencer(5000, 10);
+        resequencer.setLastDelivered(-1);
+        // the elements wait for the gap before them to be filled
+        resequencer.insert(10);
+        resequencer.insert(5);
+        assertNull(buffer.poll(100));
+        for (int i = 9; i >= 0; i--) {
+            if (i != 5) {
+                resequencer.insert(i);
+            }
+        }
+        for (int i = 0; i <= 10; i++) {
+            assertEquals((Object) (Integer) i, (Object) buffer.poll(1000));
+        }
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    public void testSetCapacityKeepsElements() throws Exception {
+        SequenceBuffer<Integer> sequenceBuffer = new SequenceBuffer<>();
+        IndexedResequencerEngine<Integer> engine
+                = new IndexedResequencerEngine<>(new IntegerComparator(), Integer::longValue);
+        engine.setCapacity(100);
+        engine.setSequenceSender(sequenceBuffer);
+        engine.setTimeout(60000);
+        engine.setLastDelivered(-1);
+        engine.start();
+        try {
+            engine.insert(2);
+            engine.insert(1);
+            engine.deliver();
+            assertEquals(2, engine.size());
+
+            // such as when the resequencer is restarted, the buffered elements must not be dropped
+            engine.setCapacity(100);
+            engine.setCapacity(1000);
+            assertEquals(2, engine.size());
+
+            engine.insert(0);
+            engine.deliver();
+            assertEquals((Object) (Integer) 0, (Object) sequenceBuffer.poll(1000));
+            assertEquals((Object) (Integer) 1, (Object) sequenceBuffer.poll(1000));
+            assertEquals((Object) (Integer) 2, (Object) sequenceBuffer.poll(1000));
+            assertEquals(0, engine.size());
+
+            // the ring can be resized when empty
+            engine.setCapacity(1000);
+            engine.insert(3);
+            engine.deliver();
+            assertEquals((Object) (Integer) 3, (Object) sequenceBuffer.poll(1000));
+            assertEquals(0, engine.size());
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testRejectOld() throws Exception {
+        initResequencer(200, 10);
+        resequencer.setLastDelivered(5);
+        resequencer.insert(6);
+        assertEquals((Object) (Integer) 6, (Object) buffer.poll(250));
+
+        // old elements are accepted unless rejectOld is enabled
+        resequencer.insert(4);
+        assertEquals((Object) (Integer) 4, (Object) buffer.poll(1000));
+
+        ResequencerEngine<Integer> engine = createResequencerEngine();
+        engine.setRejectOld(true);
+        engine.setLastDelivered(5);
+        assertThrows(MessageRejectedException.class, () -> engine.insert(4));
+    }
+
+    @Test
+    public void testConcurrentInsert() throws Exception {
+        int count = 10000;
+        SequenceBuffer<Integer> sequenceBuffer = new SequenceBuffer<>();
+        IndexedResequencerEngine<Integer> engine
+                = new IndexedResequencerEngine<>(new IntegerComparator(), Integer::longValue);
+        engine.setCapacity(100);
+        engine.setSequenceSender(sequenceBuffer);
+        // a long timeout so every element must be delivered in sequence
+        engine.setTimeout(60000);
+        engine.setLastDelivered(-1);
+        engine.start();
+
+        List<Integer> numbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            numbers.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            // the producers insert slightly out of order, while the delivery runs concurrently
+            for (int t = 0; t < 4; t++) {
+                int first = t;
+                executor.submit(() -> {
+                    for (int i = first * 10; i < count; i += 40) {
+                        List<Integer> chunk = new ArrayList<>(numbers.subList(i, i + 10));
+                        Collections.shuffle(chunk);
+                        chunk.forEach(engine::insert);
+                    }
+                    return null;
+                });
+            }
+            executor.submit(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    engine.deliver();
+                }
+                return null;
+            });
+
+            for (int i = 0; i < count; i++) {
+                assertEquals((Object) (Integer) i, (Object) sequenceBuffer.poll(5000));
+            }
+            assertEquals(0, engine.size());
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            engine.stop();
+        }
+    }
+
+}
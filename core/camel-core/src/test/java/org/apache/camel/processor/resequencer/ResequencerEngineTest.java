@@ -34,9 +34,9 @@ public class ResequencerEngineTest extends TestSupport {
 
     private static final boolean IGNORE_LOAD_TESTS = Boolean.parseBoolean(System.getProperty("ignore.load.tests", "true"));
 
-    private ResequencerEngineSync<Integer> resequencer;
-    private ResequencerRunner<Integer> runner;
-    private SequenceBuffer<Integer> buffer;
+    protected ResequencerEngineSync<Integer> resequencer;
+    protected ResequencerRunner<Integer> runner;
+    protected SequenceBuffer<Integer> buffer;
 
     @Override
     @BeforeEach
@@ -157,10 +157,14 @@ public class ResequencerEngineTest extends TestSupport {
         log.info(sb.toString());
     }
 
-    private void initResequencer(long timeout, int capacity) {
+    protected ResequencerEngine<Integer> createResequencerEngine() {
+        return new ResequencerEngine<>(new IntegerComparator());
+    }
+
+    protected void initResequencer(long timeout, int capacity) {
         ResequencerEngine<Integer> engine;
         buffer = new SequenceBuffer<>();
-        engine = new ResequencerEngine<>(new IntegerComparator());
+        engine = createResequencerEngine();
         engine.setSequenceSender(buffer);
         engine.setTimeout(timeout);
         engine.start();
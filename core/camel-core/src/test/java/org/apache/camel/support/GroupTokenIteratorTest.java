@@ -19,6 +19,7 @@ package org.apache.camel.support;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -89,6 +90,35 @@ public class GroupTokenIteratorTest extends TestSupport {
         IOHelper.close(gi);
     }
 
+    @Test
+    public void testGroupIteratorRegexDelimiter() throws Exception {
+        String s = "ABC DEF\tGHI  JKL MNO";
+        Scanner scanner = new Scanner(s, "\\s+");
+
+        GroupTokenIterator gi = new GroupTokenIterator(exchange, scanner, ",", 2, false);
+
+        assertTrue(gi.hasNext());
+        assertEquals("ABC,DEF", gi.next());
+        assertEquals("GHI,JKL", gi.next());
+        assertEquals("MNO", gi.next());
+        assertFalse(gi.hasNext());
+
+        IOHelper.close(gi);
+    }
+
+    @Test
+    public void testGroupIteratorNotScanner() throws Exception {
+        GroupTokenIterator gi = new GroupTokenIterator(
+                exchange, Arrays.asList("ABC", "DEF", "GHI").iterator(), "\n", 2, false);
+
+        assertTrue(gi.hasNext());
+        assertEquals("ABC\nDEF", gi.next());
+        assertEquals("GHI", gi.next());
+        assertFalse(gi.hasNext());
+
+        IOHelper.close(gi);
+    }
+
     @Test
     public void testGroupIteratorWithDifferentEncodingFromDefault() throws Exception {
         if (Charset.defaultCharset() == StandardCharsets.UTF_8) {
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.apache.camel.TestSupport;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedIdempotentRepositoryTest extends TestSupport {
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        File fileStore = testDirectory(true).resolve("data.dat").toFile();
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.start();
+
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.add("A"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertTrue(repository.add("B"));
+        assertEquals(2, repository.getSize());
+
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+        assertEquals(1, repository.getSize());
+        assertEquals(1, repository.getRemovedSize());
+
+        // the slot of the removed key is reused
+        assertTrue(repository.add("C"));
+        assertTrue(repository.add("A"));
+        assertEquals(3, repository.getSize());
+
+        repository.clear();
+        assertEquals(0, repository.getSize());
+        assertFalse(repository.contains("B"));
+
+        repository.stop();
+    }
+
+    @Test
+    public void testReopen() throws Exception {
+        File fileStore = testDirectory(true).resolve("data.dat").toFile();
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-50");
+        repository.stop();
+
+        repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(99, repository.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i != 50, repository.contains("key-" + i));
+        }
+        repository.stop();
+    }
+
+    @Test
+    public void testRebuild() throws Exception {
+        File fileStore = testDirectory(true).resolve("data.dat").toFile();
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.setInitialCapacity(16);
+        repository.start();
+
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        assertEquals(10000, repository.getSize());
+        // the hash table is at most half full
+        assertTrue(repository.getCapacity() >= 20000);
+        assertEquals(16 * repository.getCapacity() + 64, fileStore.length());
+
+        for (int i = 0; i < 10000; i += 2) {
+            assertTrue(repository.remove("key-" + i));
+        }
+        int capacity = repository.getCapacity();
+        repository.compact();
+        assertEquals(capacity, repository.getCapacity());
+        assertEquals(0, repository.getRemovedSize());
+        assertEquals(5000, repository.getSize());
+
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i % 2 == 1, repository.contains("key-" + i));
+        }
+        repository.stop();
+    }
+
+    @Test
+    public void testRebuildInBackground() throws Exception {
+        File fileStore = testDirectory(true).resolve("data.dat").toFile();
+        DefaultCamelContext context = new DefaultCamelContext();
+        context.start();
+
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.setCamelContext(context);
+        repository.setInitialCapacity(16);
+        repository.start();
+
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(repository.contains("key-" + i));
+        }
+        // remove keys while the hash table may be rebuilt in the background
+        for (int i = 0; i < 10000; i += 2) {
+            assertTrue(repository.remove("key-" + i));
+        }
+        for (int i = 10000; i < 20000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        assertEquals(15000, repository.getSize());
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(i >= 10000 || i % 2 == 1, repository.contains("key-" + i));
+        }
+
+        repository.stop();
+        context.stop();
+
+        // the keys added and removed while rebuilding in the background are in the file store
+        repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(15000, repository.getSize());
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(i >= 10000 || i % 2 == 1, repository.contains("key-" + i));
+        }
+        repository.stop();
+    }
+
+    @Test
+    public void testRecoverNotStopped() throws Exception {
+        File fileStore = testDirectory(true).resolve("data.dat").toFile();
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.start();
+        for (int i = 0; i < 10; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-5");
+        repository.stop();
+
+        // simulate the JVM crashed while a key was added, so the number of keys was not updated
+        try (RandomAccessFile file = new RandomAccessFile(fileStore, "rw")) {
+            file.seek(16);
+            file.writeLong(8);
+            file.seek(32);
+            file.writeInt(1);
+        }
+
+        repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(9, repository.getSize());
+        assertEquals(1, repository.getRemovedSize());
+        repository.stop();
+    }
+}
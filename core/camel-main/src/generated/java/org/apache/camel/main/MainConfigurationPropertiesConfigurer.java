@@ -97,6 +97,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "GlobalOptions": target.setGlobalOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
+        case "inflightrepositorystriped":
+        case "InflightRepositoryStriped": target.setInflightRepositoryStriped(property(camelContext, boolean.class, value)); return true;
         case "javaroutesexcludepattern":
         case "JavaRoutesExcludePattern": target.setJavaRoutesExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "javaroutesincludepattern":
@@ -225,6 +227,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "StreamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheaplimit":
+        case "StreamCachingSpoolOffHeapLimit": target.setStreamCachingSpoolOffHeapLimit(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -243,6 +247,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "TracingPattern": target.setTracingPattern(property(camelContext, java.lang.String.class, value)); return true;
         case "tracingstandby":
         case "TracingStandby": target.setTracingStandby(property(camelContext, boolean.class, value)); return true;
+        case "typeconverterlookuptableenabled":
+        case "TypeConverterLookupTableEnabled": target.setTypeConverterLookupTableEnabled(property(camelContext, boolean.class, value)); return true;
         case "usebreadcrumb":
         case "UseBreadcrumb": target.setUseBreadcrumb(property(camelContext, boolean.class, value)); return true;
         case "usedatatype":
@@ -334,6 +340,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "GlobalOptions": return java.util.Map.class;
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": return boolean.class;
+        case "inflightrepositorystriped":
+        case "InflightRepositoryStriped": return boolean.class;
         case "javaroutesexcludepattern":
         case "JavaRoutesExcludePattern": return java.lang.String.class;
         case "javaroutesincludepattern":
@@ -462,6 +470,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "StreamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspooloffheaplimit":
+        case "StreamCachingSpoolOffHeapLimit": return long.class;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -480,6 +490,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "TracingPattern": return java.lang.String.class;
         case "tracingstandby":
         case "TracingStandby": return boolean.class;
+        case "typeconverterlookuptableenabled":
+        case "TypeConverterLookupTableEnabled": return boolean.class;
         case "usebreadcrumb":
         case "UseBreadcrumb": return boolean.class;
         case "usedatatype":
@@ -572,6 +584,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "GlobalOptions": return target.getGlobalOptions();
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
+        case "inflightrepositorystriped":
+        case "InflightRepositoryStriped": return target.isInflightRepositoryStriped();
         case "javaroutesexcludepattern":
         case "JavaRoutesExcludePattern": return target.getJavaRoutesExcludePattern();
         case "javaroutesincludepattern":
@@ -700,6 +714,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "StreamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspooloffheaplimit":
+        case "StreamCachingSpoolOffHeapLimit": return target.getStreamCachingSpoolOffHeapLimit();
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -718,6 +734,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "TracingPattern": return target.getTracingPattern();
         case "tracingstandby":
         case "TracingStandby": return target.isTracingStandby();
+        case "typeconverterlookuptableenabled":
+        case "TypeConverterLookupTableEnabled": return target.isTypeConverterLookupTableEnabled();
         case "usebreadcrumb":
         case "UseBreadcrumb": return target.isUseBreadcrumb();
         case "usedatatype":
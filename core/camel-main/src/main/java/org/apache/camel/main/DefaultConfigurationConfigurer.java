@@ -34,6 +34,7 @@ import org.apache.camel.console.DevConsoleRegistry;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.impl.engine.DefaultInflightRepository;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
@@ -170,6 +171,10 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getShutdownStrategy().setShutdownRoutesInReverseOrder(config.isShutdownRoutesInReverseOrder());
         camelContext.getShutdownStrategy().setLogInflightExchangesOnTimeout(config.isShutdownLogInflightExchangesOnTimeout());
 
+        if (config.isInflightRepositoryStriped() && camelContext.getInflightRepository() instanceof DefaultInflightRepository
+                && !((DefaultInflightRepository) camelContext.getInflightRepository()).isStriped()) {
+            camelContext.setInflightRepository(new DefaultInflightRepository(true));
+        }
         camelContext.getInflightRepository().setInflightBrowseEnabled(config.isInflightRepositoryBrowseEnabled());
 
         if (config.getLogDebugMaxChars() != 0) {
@@ -190,6 +195,9 @@ public final class DefaultConfigurationConfigurer {
         if (config.getStreamCachingSpoolThreshold() != 0) {
             camelContext.getStreamCachingStrategy().setSpoolThreshold(config.getStreamCachingSpoolThreshold());
         }
+        if (config.getStreamCachingSpoolOffHeapLimit() != 0) {
+            camelContext.getStreamCachingStrategy().setSpoolOffHeapLimit(config.getStreamCachingSpoolOffHeapLimit());
+        }
         if (config.getStreamCachingSpoolUsedHeapMemoryLimit() != null) {
             StreamCachingStrategy.SpoolUsedHeapMemoryLimit limit;
             if ("Committed".equalsIgnoreCase(config.getStreamCachingSpoolUsedHeapMemoryLimit())) {
@@ -233,6 +241,9 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setUseMDCLogging(config.isUseMdcLogging());
         camelContext.setMDCLoggingKeysPattern(config.getMdcLoggingKeysPattern());
         camelContext.setLoadTypeConverters(config.isLoadTypeConverters());
+        if (config.isTypeConverterLookupTableEnabled()) {
+            camelContext.getTypeConverterRegistry().setLookupTableEnabled(true);
+        }
         camelContext.setLoadHealthChecks(config.isLoadHealthChecks());
         camelContext.setDevConsole(config.isDevConsoleEnabled());
         camelContext.setModeline(config.isModeline());
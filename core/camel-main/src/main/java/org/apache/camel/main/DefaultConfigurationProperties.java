@@ -46,6 +46,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean shutdownRoutesInReverseOrder = true;
     private boolean shutdownLogInflightExchangesOnTimeout = true;
     private boolean inflightRepositoryBrowseEnabled;
+    private boolean inflightRepositoryStriped;
     private String fileConfigurations;
     private boolean jmxEnabled = true;
     @Metadata(enums = "classic,default,short,simple,off", defaultValue = "default")
@@ -53,6 +54,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private int producerTemplateCacheSize = 1000;
     private int consumerTemplateCacheSize = 1000;
     private boolean loadTypeConverters;
+    private boolean typeConverterLookupTableEnabled;
     private boolean loadHealthChecks;
     private boolean devConsoleEnabled;
     private boolean modeline;
@@ -62,6 +64,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
     private long streamCachingSpoolThreshold;
+    private long streamCachingSpoolOffHeapLimit;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
@@ -299,6 +302,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.inflightRepositoryBrowseEnabled = inflightRepositoryBrowseEnabled;
     }
 
+    public boolean isInflightRepositoryStriped() {
+        return inflightRepositoryStriped;
+    }
+
+    /**
+     * Sets whether the inflight repository should use striped counters for the total number and the number per route of
+     * inflight exchanges, which avoids contention on the counters when many exchanges are concurrently processed. The
+     * numbers can then briefly be higher than the actual number of inflight exchanges while exchanges are concurrently
+     * added and removed, but never lower, so graceful shutdown still waits for all the inflight exchanges.
+     */
+    public void setInflightRepositoryStriped(boolean inflightRepositoryStriped) {
+        this.inflightRepositoryStriped = inflightRepositoryStriped;
+    }
+
     public String getFileConfigurations() {
         return fileConfigurations;
     }
@@ -375,6 +392,19 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadTypeConverters = loadTypeConverters;
     }
 
+    public boolean isTypeConverterLookupTableEnabled() {
+        return typeConverterLookupTableEnabled;
+    }
+
+    /**
+     * Whether the type converters which have been resolved for a pair of types are kept in a lookup table once Camel
+     * has been started. The lookup table is keyed by the identity of the types, and is read without any locks, which
+     * makes repeated conversions between the same types faster.
+     */
+    public void setTypeConverterLookupTableEnabled(boolean typeConverterLookupTableEnabled) {
+        this.typeConverterLookupTableEnabled = typeConverterLookupTableEnabled;
+    }
+
     public boolean isLoadHealthChecks() {
         return loadHealthChecks;
     }
@@ -500,6 +530,19 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolThreshold = streamCachingSpoolThreshold;
     }
 
+    public long getStreamCachingSpoolOffHeapLimit() {
+        return streamCachingSpoolOffHeapLimit;
+    }
+
+    /**
+     * Sets the max number of bytes of off-heap (direct) memory to use for stream caching spooling. When in use, then
+     * streams are spooled to pooled segments of off-heap memory, and are only spooled to disk when the off-heap memory
+     * is exhausted. The default value is 0 which means that streams are spooled to disk.
+     */
+    public void setStreamCachingSpoolOffHeapLimit(long streamCachingSpoolOffHeapLimit) {
+        this.streamCachingSpoolOffHeapLimit = streamCachingSpoolOffHeapLimit;
+    }
+
     public int getStreamCachingSpoolUsedHeapMemoryThreshold() {
         return streamCachingSpoolUsedHeapMemoryThreshold;
     }
@@ -1656,6 +1699,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether the inflight repository should use striped counters for the total number and the number per route of
+     * inflight exchanges, which avoids contention on the counters when many exchanges are concurrently processed. The
+     * numbers can then briefly be higher than the actual number of inflight exchanges while exchanges are concurrently
+     * added and removed, but never lower, so graceful shutdown still waits for all the inflight exchanges.
+     */
+    public T withInflightRepositoryStriped(boolean inflightRepositoryStriped) {
+        this.inflightRepositoryStriped = inflightRepositoryStriped;
+        return (T) this;
+    }
+
     /**
      * Directory to load additional configuration files that contains configuration values that takes precedence over
      * any other configuration. This can be used to refer to files that may have secret configuration that has been
@@ -1703,6 +1757,16 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether the type converters which have been resolved for a pair of types are kept in a lookup table once Camel
+     * has been started. The lookup table is keyed by the identity of the types, and is read without any locks, which
+     * makes repeated conversions between the same types faster.
+     */
+    public T withTypeConverterLookupTableEnabled(boolean typeConverterLookupTableEnabled) {
+        this.typeConverterLookupTableEnabled = typeConverterLookupTableEnabled;
+        return (T) this;
+    }
+
     /**
      * Whether to load custom health checks by scanning classpath.
      */
@@ -1801,6 +1865,16 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the max number of bytes of off-heap (direct) memory to use for stream caching spooling. When in use, then
+     * streams are spooled to pooled segments of off-heap memory, and are only spooled to disk when the off-heap memory
+     * is exhausted. The default value is 0 which means that streams are spooled to disk.
+     */
+    public T withStreamCachingSpoolOffHeapLimit(long streamCachingSpoolOffHeapLimit) {
+        this.streamCachingSpoolOffHeapLimit = streamCachingSpoolOffHeapLimit;
+        return (T) this;
+    }
+
     /**
      * Sets a percentage (1-99) of used heap memory threshold to activate stream caching spooling to disk.
      */
@@ -40,6 +40,7 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     // profile specific values
     private Map<String, ThreadPoolProfileConfigurationProperties> config = new HashMap<>();
@@ -138,6 +139,18 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets default whether to run each task on its own virtual thread instead of using a pool of platform threads. The
+     * number of running and waiting tasks is then limited by the max queue size. Requires Java 21 or newer.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
@@ -32,6 +32,7 @@ public class ThreadPoolProfileConfigurationProperties {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     public String getId() {
         return id;
@@ -123,4 +124,16 @@ public class ThreadPoolProfileConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to run each task on its own virtual thread instead of using a pool of platform threads. The number
+     * of running and waiting tasks is then limited by the max queue size. Requires Java 21 or newer.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainTypeConverterLookupTableTest {
+
+    @Test
+    public void testMain() throws Exception {
+        Main main = new Main();
+        main.addInitialProperty("camel.main.type-converter-lookup-table-enabled", "true");
+        main.start();
+
+        CamelContext context = main.getCamelContext();
+        assertNotNull(context);
+        assertTrue(context.getTypeConverterRegistry().isLookupTableEnabled());
+        assertEquals(Integer.valueOf(123), context.getTypeConverter().convertTo(Integer.class, "123"));
+
+        main.stop();
+    }
+
+    @Test
+    public void testMainDefault() throws Exception {
+        Main main = new Main();
+        main.start();
+
+        CamelContext context = main.getCamelContext();
+        assertNotNull(context);
+        assertFalse(context.getTypeConverterRegistry().isLookupTableEnabled());
+
+        main.stop();
+    }
+
+}
@@ -40,6 +40,9 @@ public final class JmxSystemPropertyKeys {
     // whether to enable gathering load statistics in the background
     public static final String LOAD_STATISTICS_ENABLED = "org.apache.camel.jmx.loadStatisticsEnabled";
 
+    // whether to enable recording processing times in histograms
+    public static final String PROCESSING_TIME_HISTOGRAM_ENABLED = "org.apache.camel.jmx.processingTimeHistogramEnabled";
+
     // whether to enable gathering endpoint runtime statistics
     public static final String ENDPOINT_RUNTIME_STATISTICS_ENABLED = "org.apache.camel.jmx.endpointRuntimeStatisticsEnabled";
 
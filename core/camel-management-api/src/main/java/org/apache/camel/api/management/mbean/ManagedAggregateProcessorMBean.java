@@ -69,6 +69,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Optimistic locking")
     boolean isOptimisticLocking();
 
+    @ManagedAttribute(description = "Number of stripes the aggregation lock is striped into by the hash of the correlation key")
+    int getLockStripes();
+
     @ManagedAttribute(description = "Whether or not to eager check for completion when a new incoming Exchange has been received")
     boolean isEagerCheckCompletion();
 
@@ -141,6 +144,12 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Total number of exchanged discarded")
     long getDiscarded();
 
+    @ManagedAttribute(description = "Number of times the lock of each stripe has been acquired, when using lock striping")
+    long[] getLockStripeAcquired();
+
+    @ManagedAttribute(description = "Number of times the lock of each stripe has been acquired where the thread had to wait for the lock, when using lock striping")
+    long[] getLockStripeContended();
+
     @ManagedOperation(description = " Reset the statistics counters")
     void resetStatistics();
 
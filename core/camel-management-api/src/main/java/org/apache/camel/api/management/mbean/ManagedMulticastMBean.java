@@ -29,6 +29,12 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If enabled then Camel will process replies out-of-order, eg in the order they come back.")
     Boolean isStreaming();
 
+    @ManagedAttribute(description = "If enabled then Camel will process replies in order, also when in streaming mode.")
+    Boolean isStreamingOrdered();
+
+    @ManagedAttribute(description = "The maximum number of messages in flight at the same time, when using parallel processing.")
+    Integer getMaxInFlight();
+
     @ManagedAttribute(description = "Will now stop further processing if an exception or failure occurred during processing.")
     Boolean isStopOnException();
 
@@ -83,6 +83,30 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "First Exchange Failed ExchangeId")
     String getFirstExchangeFailureExchangeId();
 
+    @ManagedAttribute(description = "Whether the processing times are recorded in a histogram to calculate percentiles")
+    boolean isProcessingTimeHistogramEnabled();
+
+    @ManagedAttribute(description = "Whether the processing times are recorded in a histogram to calculate percentiles")
+    void setProcessingTimeHistogramEnabled(boolean enabled);
+
+    @ManagedAttribute(description = "50th Percentile (median) Processing Time [milliseconds]")
+    long getProcessingTimePercentile50();
+
+    @ManagedAttribute(description = "90th Percentile Processing Time [milliseconds]")
+    long getProcessingTimePercentile90();
+
+    @ManagedAttribute(description = "99th Percentile Processing Time [milliseconds]")
+    long getProcessingTimePercentile99();
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time [milliseconds]")
+    long getProcessingTimePercentile999();
+
+    @ManagedOperation(description = "Processing Time [milliseconds] at the given percentile (such as 99.9)")
+    long processingTimePercentile(double percentile);
+
+    @ManagedOperation(description = "Dumps the processing time percentiles since the previous call as XML")
+    String dumpProcessingTimeIntervalAsXml();
+
     @ManagedAttribute(description = "Statistics enabled")
     boolean isStatisticsEnabled();
 
@@ -59,6 +59,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether used heap memory limit is committed or maximum")
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    @ManagedAttribute(description = "Max number of bytes of off-heap memory to use for spooling before spooling to disk")
+    void setSpoolOffHeapLimit(long limit);
+
+    @ManagedAttribute(description = "Max number of bytes of off-heap memory to use for spooling before spooling to disk")
+    long getSpoolOffHeapLimit();
+
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     void setBufferSize(int bufferSize);
 
@@ -95,6 +101,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of spooled StreamCache created which are kept in off-heap memory")
+    long getCacheSpoolOffHeapCounter();
+
+    @ManagedAttribute(description = "Number of spooled StreamCache created which are spooled to disk as there were no more off-heap memory available")
+    long getCacheSpoolOffHeapMissCounter();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory currently in use by spooled StreamCache")
+    long getCacheSpoolOffHeapBytesInUse();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -153,6 +153,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.isOptimisticLocking();
     }
 
+    @Override
+    public int getLockStripes() {
+        return processor.getStatistics().getLockStripes();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return processor.isEagerCheckCompletion();
@@ -302,6 +307,16 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getStatistics().getDiscarded();
     }
 
+    @Override
+    public long[] getLockStripeAcquired() {
+        return processor.getStatistics().getLockStripeAcquired();
+    }
+
+    @Override
+    public long[] getLockStripeContended() {
+        return processor.getStatistics().getLockStripeContended();
+    }
+
     @Override
     public void resetStatistics() {
         processor.getStatistics().reset();
@@ -46,6 +46,16 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
         return processor.isStreaming();
     }
 
+    @Override
+    public Boolean isStreamingOrdered() {
+        return processor.isStreamingOrdered();
+    }
+
+    @Override
+    public Integer getMaxInFlight() {
+        return processor.getMaxInFlight();
+    }
+
     @Override
     public Boolean isStopOnException() {
         return processor.isStopOnException();
@@ -23,6 +23,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.management.PerformanceCounter;
+import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
 
@@ -52,6 +53,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private String lastExchangeCompletedExchangeId;
     private Statistic lastExchangeFailureTimestamp;
     private String lastExchangeFailureExchangeId;
+    private volatile StatisticHistogram processingTimeHistogram;
     private boolean statisticsEnabled = true;
 
     @Override
@@ -76,6 +78,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.firstExchangeFailureTimestamp = new StatisticValue();
         this.lastExchangeCompletedTimestamp = new StatisticValue();
         this.lastExchangeFailureTimestamp = new StatisticValue();
+
+        ManagementAgent agent = strategy != null ? strategy.getManagementAgent() : null;
+        if (agent != null && Boolean.TRUE.equals(agent.getProcessingTimeHistogramEnabled())) {
+            this.processingTimeHistogram = new StatisticHistogram();
+        }
     }
 
     @Override
@@ -101,6 +108,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastExchangeCompletedExchangeId = null;
         lastExchangeFailureTimestamp.reset();
         lastExchangeFailureExchangeId = null;
+        StatisticHistogram histogram = processingTimeHistogram;
+        if (histogram != null) {
+            histogram.reset();
+        }
     }
 
     @Override
@@ -207,6 +218,55 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return firstExchangeFailureExchangeId;
     }
 
+    @Override
+    public boolean isProcessingTimeHistogramEnabled() {
+        return processingTimeHistogram != null;
+    }
+
+    @Override
+    public void setProcessingTimeHistogramEnabled(boolean enabled) {
+        if (enabled && processingTimeHistogram == null) {
+            processingTimeHistogram = new StatisticHistogram();
+        } else if (!enabled) {
+            processingTimeHistogram = null;
+        }
+    }
+
+    @Override
+    public long getProcessingTimePercentile50() {
+        return processingTimePercentile(50);
+    }
+
+    @Override
+    public long getProcessingTimePercentile90() {
+        return processingTimePercentile(90);
+    }
+
+    @Override
+    public long getProcessingTimePercentile99() {
+        return processingTimePercentile(99);
+    }
+
+    @Override
+    public long getProcessingTimePercentile999() {
+        return processingTimePercentile(99.9);
+    }
+
+    @Override
+    public long processingTimePercentile(double percentile) {
+        StatisticHistogram histogram = processingTimeHistogram;
+        return histogram != null ? histogram.snapshot().getValueAtPercentile(percentile) : 0;
+    }
+
+    @Override
+    public String dumpProcessingTimeIntervalAsXml() {
+        StatisticHistogram histogram = processingTimeHistogram;
+        if (histogram == null) {
+            return null;
+        }
+        return percentilesAsXml("processingTime", histogram.intervalSnapshot());
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return statisticsEnabled;
@@ -240,6 +300,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        StatisticHistogram histogram = processingTimeHistogram;
+        if (histogram != null) {
+            histogram.updateValue(time);
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -301,6 +365,14 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        StatisticHistogram histogram = processingTimeHistogram;
+        if (histogram != null) {
+            StatisticHistogram.Snapshot snapshot = histogram.snapshot();
+            sb.append(String.format(" processingTimePercentile50=\"%s\"", snapshot.getValueAtPercentile(50)));
+            sb.append(String.format(" processingTimePercentile90=\"%s\"", snapshot.getValueAtPercentile(90)));
+            sb.append(String.format(" processingTimePercentile99=\"%s\"", snapshot.getValueAtPercentile(99)));
+            sb.append(String.format(" processingTimePercentile999=\"%s\"", snapshot.getValueAtPercentile(99.9)));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -322,6 +394,19 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return sb.toString();
     }
 
+    private static String percentilesAsXml(String name, StatisticHistogram.Snapshot snapshot) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<").append(name);
+        sb.append(String.format(" count=\"%s\"", snapshot.getCount()));
+        sb.append(String.format(" percentile50=\"%s\"", snapshot.getValueAtPercentile(50)));
+        sb.append(String.format(" percentile90=\"%s\"", snapshot.getValueAtPercentile(90)));
+        sb.append(String.format(" percentile99=\"%s\"", snapshot.getValueAtPercentile(99)));
+        sb.append(String.format(" percentile999=\"%s\"", snapshot.getValueAtPercentile(99.9)));
+        sb.append(String.format(" percentile100=\"%s\"", snapshot.getValueAtPercentile(100)));
+        sb.append("/>");
+        return sb.toString();
+    }
+
     private static String dateAsString(long value) {
         if (value <= 0) {
             return "";
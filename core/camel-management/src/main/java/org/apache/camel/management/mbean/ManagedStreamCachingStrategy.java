@@ -122,6 +122,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         }
     }
 
+    @Override
+    public void setSpoolOffHeapLimit(long limit) {
+        streamCachingStrategy.setSpoolOffHeapLimit(limit);
+    }
+
+    @Override
+    public long getSpoolOffHeapLimit() {
+        return streamCachingStrategy.getSpoolOffHeapLimit();
+    }
+
     @Override
     public void setBufferSize(int bufferSize) {
         streamCachingStrategy.setBufferSize(bufferSize);
@@ -182,6 +192,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheSpoolOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheSpoolOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheSpoolOffHeapMissCounter() {
+        return streamCachingStrategy.getStatistics().getCacheSpoolOffHeapMissCounter();
+    }
+
+    @Override
+    public long getCacheSpoolOffHeapBytesInUse() {
+        return streamCachingStrategy.getStatistics().getCacheSpoolOffHeapBytesInUse();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
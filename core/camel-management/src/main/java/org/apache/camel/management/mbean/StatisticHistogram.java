@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link Statistic} which records the values in a log-linear histogram (such as HDR histograms), to calculate
+ * percentiles of the values.
+ * <p/>
+ * The values below 32 are recorded exact, and larger values are recorded in buckets per power of two, where each bucket
+ * is divided into 32 linear sub buckets, which gives a precision of about 3%. Values larger than {@link #MAX_VALUE} are
+ * recorded as the max value, which means the histogram has a fixed size of 864 counters.
+ * <p/>
+ * Recording a value is lock-free and does not allocate any objects. The percentiles are calculated from a
+ * {@link Snapshot} of the histogram, which can either be since the last reset, or since the previous interval snapshot.
+ * <p/>
+ * The {@link #getValue()} is the number of recorded values.
+ */
+public class StatisticHistogram extends Statistic {
+
+    /**
+     * The max value that can be recorded with the precision of the histogram.
+     */
+    public static final long MAX_VALUE = Integer.MAX_VALUE;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 63 - Long.numberOfLeadingZeros(MAX_VALUE);
+    private static final int LENGTH = (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + 2 * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LENGTH);
+    private long[] interval = new long[LENGTH];
+
+    @Override
+    public void updateValue(long newValue) {
+        counts.incrementAndGet(indexOf(newValue));
+    }
+
+    @Override
+    public long getValue() {
+        long total = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (int i = 0; i < LENGTH; i++) {
+            counts.set(i, 0);
+        }
+        interval = new long[LENGTH];
+    }
+
+    /**
+     * A snapshot of all the values recorded since the last reset.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    /**
+     * A snapshot of the values recorded since the previous interval snapshot (or the last reset).
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        long[] copy = new long[LENGTH];
+        long[] delta = new long[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            copy[i] = counts.get(i);
+            delta[i] = copy[i] - interval[i];
+        }
+        interval = copy;
+        return new Snapshot(delta);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        if (value > MAX_VALUE) {
+            value = MAX_VALUE;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // the first bucket for this exponent, and the sub bucket (value >> shift) which is between 32 and 63
+        return shift * SUB_BUCKET_COUNT + (int) (value >> shift);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long sub = index - shift * SUB_BUCKET_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    /**
+     * A snapshot of the histogram.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+        }
+
+        /**
+         * The number of values in the snapshot.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the value at the given percentile, such as 99.9 for the 99.9th percentile, or 0 if no values was
+         * recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double p = Math.min(Math.max(percentile, 0), 100);
+            long rank = Math.max(1, (long) Math.ceil(p / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValueOf(i);
+                }
+            }
+            return highestValueOf(counts.length - 1);
+        }
+    }
+
+}
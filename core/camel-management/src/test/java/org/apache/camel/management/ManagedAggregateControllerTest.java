@@ -33,6 +33,7 @@ import org.junit.jupiter.api.condition.OS;
 import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisabledOnOs(OS.AIX)
@@ -93,6 +94,10 @@ public class ManagedAggregateControllerTest extends ManagementTestSupport {
         Integer inflight = (Integer) mbeanServer.getAttribute(on, "InProgressCompleteExchanges");
         assertEquals(0, inflight.intValue());
 
+        Integer stripes = (Integer) mbeanServer.getAttribute(on, "LockStripes");
+        assertEquals(1, stripes.intValue());
+        assertNull(mbeanServer.getAttribute(on, "LockStripeContended"));
+
         pending = (Integer) mbeanServer.invoke(on, "aggregationRepositoryGroups", null, null);
         assertEquals(0, pending.intValue());
     }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedProcessingTimeHistogramTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setProcessingTimeHistogramEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "ProcessingTimeHistogramEnabled"));
+
+        for (int i = 0; i < 98; i++) {
+            template.sendBody("direct:start", 0);
+        }
+        template.sendBody("direct:start", 200);
+        template.sendBody("direct:start", 200);
+
+        Long p50 = (Long) mbeanServer.getAttribute(on, "ProcessingTimePercentile50");
+        Long p99 = (Long) mbeanServer.getAttribute(on, "ProcessingTimePercentile99");
+        assertTrue(p50 < 100, "Should be fast: " + p50);
+        assertTrue(p99 >= 200, "Should be slow: " + p99);
+
+        Long p = (Long) mbeanServer.invoke(on, "processingTimePercentile", new Object[] { 99.0 },
+                new String[] { "double" });
+        assertEquals(p99, p);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpProcessingTimeIntervalAsXml", null, null);
+        assertTrue(xml.startsWith("<processingTime count=\"100\""), xml);
+
+        // no exchanges since the previous interval
+        xml = (String) mbeanServer.invoke(on, "dumpProcessingTimeIntervalAsXml", null, null);
+        assertTrue(xml.startsWith("<processingTime count=\"0\""), xml);
+
+        xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false }, new String[] { "boolean" });
+        assertTrue(xml.contains("processingTimePercentile99=\"" + p99 + "\""), xml);
+
+        // can be turned off at runtime
+        mbeanServer.setAttribute(on, new Attribute("ProcessingTimeHistogramEnabled", false));
+        assertEquals(0L, mbeanServer.getAttribute(on, "ProcessingTimePercentile99"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .process(e -> Thread.sleep(e.getMessage().getBody(Integer.class)))
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -57,6 +57,12 @@ public class ManagedSedaEndpointTest extends ManagementTestSupport {
         Boolean singleton = (Boolean) mbeanServer.getAttribute(name, "Singleton");
         assertEquals(true, singleton.booleanValue());
 
+        // batch consuming is not enabled
+        Long batches = (Long) mbeanServer.getAttribute(name, "BatchCount");
+        assertEquals(0, batches.longValue());
+        long[] histogram = (long[]) mbeanServer.getAttribute(name, "BatchSizeHistogram");
+        assertEquals(1, histogram.length);
+
         // stop route
         context.getRouteController().stopRoute("foo");
 
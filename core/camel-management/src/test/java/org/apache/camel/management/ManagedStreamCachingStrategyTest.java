@@ -83,6 +83,18 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
         cacheSize = (Long) mbeanServer.getAttribute(name, "CacheSpoolSize");
         assertEquals(0, cacheSize.longValue());
 
+        Long limit = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapLimit");
+        assertEquals(0, limit.longValue());
+
+        counter = (Long) mbeanServer.getAttribute(name, "CacheSpoolOffHeapCounter");
+        assertEquals(0, counter.longValue());
+
+        counter = (Long) mbeanServer.getAttribute(name, "CacheSpoolOffHeapMissCounter");
+        assertEquals(0, counter.longValue());
+
+        Long inUse = (Long) mbeanServer.getAttribute(name, "CacheSpoolOffHeapBytesInUse");
+        assertEquals(0, inUse.longValue());
+
         String cipher = (String) mbeanServer.getAttribute(name, "SpoolCipher");
         assertNull(cipher);
 
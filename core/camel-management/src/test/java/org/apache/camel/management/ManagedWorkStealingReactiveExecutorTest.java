@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedWorkStealingReactiveExecutorTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setPoolSize(4);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testReactiveExecutor() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        getMockEndpoint("mock:split").expectedMessageCount(30);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "A,B,C");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_SERVICE, "WorkStealingReactiveExecutor");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "PoolSize");
+        assertEquals(4, size.intValue());
+
+        int[] depths = (int[]) mbeanServer.getAttribute(on, "WorkerQueueDepths");
+        assertEquals(4, depths.length);
+
+        long[] executed = (long[]) mbeanServer.getAttribute(on, "WorkerExecutedCounts");
+        long total = 0;
+        for (long count : executed) {
+            total += count;
+        }
+        assertTrue(total > 0, "Should have executed tasks on the carrier threads");
+
+        Integer pending = (Integer) mbeanServer.getAttribute(on, "PendingTasks");
+        assertEquals(0, pending.intValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(body().tokenize(","))
+                            .to("log:split")
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testIndexes() {
+        int previous = -1;
+        for (long value = 0; value < 100000; value++) {
+            int index = StatisticHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1, "Index should be contiguous at value " + value);
+            assertTrue(StatisticHistogram.highestValueOf(index) >= value);
+            // within 3% of the value
+            assertTrue(StatisticHistogram.highestValueOf(index) - value <= value / 32);
+            previous = index;
+        }
+        assertEquals(StatisticHistogram.MAX_VALUE,
+                StatisticHistogram.highestValueOf(StatisticHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.updateValue(i);
+        }
+        assertEquals(1000, histogram.getValue());
+
+        StatisticHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1, snapshot.getValueAtPercentile(0));
+        assertEquals(503, snapshot.getValueAtPercentile(50));
+        assertEquals(991, snapshot.getValueAtPercentile(99));
+        assertEquals(1007, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testIntervalSnapshot() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        histogram.updateValue(5);
+        histogram.updateValue(10);
+
+        StatisticHistogram.Snapshot interval = histogram.intervalSnapshot();
+        assertEquals(2, interval.getCount());
+        assertEquals(10, interval.getValueAtPercentile(100));
+
+        histogram.updateValue(3);
+        interval = histogram.intervalSnapshot();
+        assertEquals(1, interval.getCount());
+        assertEquals(3, interval.getValueAtPercentile(100));
+        assertEquals(3, histogram.getValue());
+
+        histogram.reset();
+        assertEquals(0, histogram.getValue());
+        assertEquals(0, histogram.intervalSnapshot().getCount());
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
@@ -36,6 +37,10 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If spooling to off-heap memory is in use (see {@link StreamCachingStrategy#setSpoolOffHeapLimit(long)}) then the
+ * content is stored in segments of off-heap memory instead of a temp file, until there is no more off-heap memory
+ * available. The segments are released in the same way as the temp file is deleted.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -70,6 +75,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.cleanUpOffHeapSegments();
         }
     }
 
@@ -151,8 +157,16 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
         try {
-            // creates a tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            // spool to off-heap memory if possible, otherwise creates a tmp file and a file output stream
+            OutputStream out = null;
+            // the off-heap segments are not encrypted, so only spool to disk when a cipher is in use
+            if (strategy.getSpoolOffHeapLimit() > 0 && ObjectHelper.isEmpty(strategy.getSpoolCipher())) {
+                out = tempFileManager.createOffHeapOutputStream(strategy);
+            }
+            if (out == null) {
+                out = tempFileManager.createOutputStream(strategy);
+            }
+            currentStream = out;
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
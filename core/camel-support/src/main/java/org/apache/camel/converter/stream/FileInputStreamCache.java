@@ -23,6 +23,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -193,7 +194,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
      * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
      * 
+     * When spooling to off-heap memory, then the segments of off-heap memory are managed in the same way, and are
+     * released when all exchanges are done.
+     * 
      * @see CachedOutputStream
+     * @see OffHeapInputStreamCache
      */
     static class TempFileManager {
 
@@ -206,6 +211,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private StreamCachingStrategy strategy;
+        private OffHeapSegments offHeapSegments;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -252,6 +259,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             }
                             try {
                                 cleanUpTempFile();
+                                cleanUpOffHeapSegments();
                             } catch (Exception e) {
                                 LOG.warn("Error deleting temporary cache file: {}. This exception will be ignored.",
                                         tempFile, e);
@@ -283,6 +291,38 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        /**
+         * Creates an output stream which spools to segments of off-heap memory, and which spools to a temporary file if
+         * there is no more off-heap memory available.
+         *
+         * @return the output stream, or <tt>null</tt> if no off-heap memory is available
+         */
+        OutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (offHeapSegments != null || tempFile != null) {
+                throw new IllegalStateException("The method 'createOffHeapOutputStream' can only be called once!");
+            }
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped -> in this case the segments would never be released
+                // (see createOutputStream for when this can happen)
+                String error
+                        = "Cannot spool to off-heap memory for Stream Caching, because the memory would never be released."
+                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
+                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
+                LOG.error(error);
+                throw new IOException(error);
+            }
+            ByteBuffer segment = strategy.allocateSpoolOffHeapSegment();
+            if (segment == null) {
+                return null;
+            }
+            this.strategy = strategy;
+            this.offHeapSegments = new OffHeapSegments(strategy, segment);
+            LOG.trace("Spooling stream cache to off-heap memory");
+            outputStream = new OffHeapOutputStream();
+            return outputStream;
+        }
+
         OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
             // should only be called once
             if (tempFile != null) {
@@ -329,7 +369,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
-        FileInputStreamCache newStreamCache() throws IOException {
+        StreamCache newStreamCache() throws IOException {
+            if (tempFile == null && offHeapSegments != null) {
+                return new OffHeapInputStreamCache(this);
+            }
             try {
                 return new FileInputStreamCache(this);
             } catch (FileNotFoundException e) {
@@ -358,10 +401,105 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        void cleanUpOffHeapSegments() {
+            // release the segments so they can be used by other stream caches (when they are no longer being read)
+            if (offHeapSegments != null) {
+                offHeapSegments.release();
+                offHeapSegments = null;
+            }
+        }
+
         File getTempFile() {
             return tempFile;
         }
 
+        OffHeapSegments getOffHeapSegments() {
+            OffHeapSegments segments = offHeapSegments;
+            if (segments == null) {
+                throw new IllegalStateException("The off-heap segments have been released");
+            }
+            return segments;
+        }
+
+        /**
+         * Writes to the segments of off-heap memory, and switches to write to a temporary file if there is no more
+         * off-heap memory available.
+         */
+        private final class OffHeapOutputStream extends OutputStream {
+
+            private ByteBuffer current = offHeapSegments.getSegments().get(0);
+            private OutputStream file;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (file == null && ensureRemaining()) {
+                    current.put((byte) b);
+                } else {
+                    file.write(b);
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                while (len > 0) {
+                    if (file != null || !ensureRemaining()) {
+                        file.write(b, off, len);
+                        return;
+                    }
+                    int n = Math.min(len, current.remaining());
+                    current.put(b, off, n);
+                    off += n;
+                    len -= n;
+                }
+            }
+
+            /**
+             * Ensures there is room in the current segment, by allocating a new segment if needed.
+             *
+             * @return <tt>true</tt> if there is room, or <tt>false</tt> if there was no more off-heap memory available
+             *         and the content has been spooled to a temporary file instead
+             */
+            private boolean ensureRemaining() throws IOException {
+                if (current.hasRemaining()) {
+                    return true;
+                }
+                ByteBuffer segment = strategy.allocateSpoolOffHeapSegment();
+                if (segment != null) {
+                    offHeapSegments.add(segment);
+                    current = segment;
+                    return true;
+                }
+                LOG.trace("No more off-heap memory available for stream caching, spooling to temporary file instead");
+                OutputStream out = createOutputStream(strategy);
+                byte[] buf = new byte[strategy.getBufferSize()];
+                for (ByteBuffer written : offHeapSegments.getSegments()) {
+                    written.flip();
+                    while (written.hasRemaining()) {
+                        int n = Math.min(buf.length, written.remaining());
+                        written.get(buf, 0, n);
+                        out.write(buf, 0, n);
+                    }
+                }
+                cleanUpOffHeapSegments();
+                file = out;
+                return false;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (file != null) {
+                    file.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (file != null) {
+                    file.close();
+                }
+            }
+        }
+
         CipherPair getCiphers() {
             return ciphers;
         }
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link StreamCache} for streams which are spooled to segments of off-heap memory.
+ * <p/>
+ * The segments are shared by all the copies of the stream cache, and are released when all the exchanges using the
+ * stream cache are done. Reading the stream cache after it has been released fails with an {@link IOException}, in the
+ * same way as reading a stream cache whose temporary file has been deleted.
+ *
+ * @see org.apache.camel.spi.StreamCachingStrategy#setSpoolOffHeapLimit(long)
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final TempFileManager tempFileManager;
+    private final OffHeapSegments offHeapSegments;
+    private final ByteBuffer[] segments;
+    private final long length;
+    private int index;
+    private ByteBuffer current;
+    private long position;
+
+    OffHeapInputStreamCache(TempFileManager tempFileManager) throws IOException {
+        this.tempFileManager = tempFileManager;
+        this.offHeapSegments = tempFileManager.getOffHeapSegments();
+        acquire();
+        try {
+            this.segments = offHeapSegments.getSegments().toArray(new ByteBuffer[0]);
+            long total = 0;
+            for (ByteBuffer segment : segments) {
+                total += segment.position();
+            }
+            this.length = total;
+        } finally {
+            offHeapSegments.release();
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        index = 0;
+        current = null;
+        position = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        // write the remainder of the stream without changing the position
+        byte[] buf = new byte[(int) Math.min(length - position, IOHelper.DEFAULT_BUFFER_SIZE)];
+        acquire();
+        try {
+            if (current != null) {
+                writeTo(current.duplicate(), os, buf);
+            }
+            for (int i = index; i < segments.length; i++) {
+                writeTo(readable(segments[i]), os, buf);
+            }
+        } finally {
+            offHeapSegments.release();
+        }
+    }
+
+    private static void writeTo(ByteBuffer segment, OutputStream os, byte[] buf) throws IOException {
+        while (segment.hasRemaining()) {
+            int n = Math.min(buf.length, segment.remaining());
+            segment.get(buf, 0, n);
+            os.write(buf, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new OffHeapInputStreamCache(tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return false;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    @Override
+    public int read() throws IOException {
+        acquire();
+        try {
+            ByteBuffer segment = nextSegment();
+            if (segment == null) {
+                return -1;
+            }
+            position++;
+            return segment.get() & 0xff;
+        } finally {
+            offHeapSegments.release();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        acquire();
+        try {
+            ByteBuffer segment = nextSegment();
+            if (segment == null) {
+                return -1;
+            }
+            int n = Math.min(len, segment.remaining());
+            segment.get(b, off, n);
+            position += n;
+            return n;
+        } finally {
+            offHeapSegments.release();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        acquire();
+        try {
+            while (skipped < n) {
+                ByteBuffer segment = nextSegment();
+                if (segment == null) {
+                    break;
+                }
+                int step = (int) Math.min(n - skipped, segment.remaining());
+                segment.position(segment.position() + step);
+                skipped += step;
+            }
+        } finally {
+            offHeapSegments.release();
+        }
+        position += skipped;
+        return skipped;
+    }
+
+    /**
+     * Acquires a reference to the segments while reading, so they are not reused by another stream cache in the
+     * meantime.
+     */
+    private void acquire() throws IOException {
+        if (!offHeapSegments.retain()) {
+            throw new IOException("Cannot read stream cache as its off-heap memory has been released");
+        }
+    }
+
+    /**
+     * Gets the segment to read from, moving to the next segment when the current segment has been read.
+     *
+     * @return the segment, or <tt>null</tt> if the end of the stream has been reached
+     */
+    private ByteBuffer nextSegment() {
+        while (current == null || !current.hasRemaining()) {
+            if (index >= segments.length) {
+                return null;
+            }
+            current = readable(segments[index++]);
+        }
+        return current;
+    }
+
+    private static ByteBuffer readable(ByteBuffer segment) {
+        // the segments are shared, so read using a view with its own position
+        ByteBuffer answer = segment.duplicate();
+        answer.flip();
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[size: " + length + "]";
+    }
+
+}
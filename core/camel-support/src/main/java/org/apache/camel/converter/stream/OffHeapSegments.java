@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * The segments of off-heap memory of a spooled stream cache, which are reference counted.
+ * <p/>
+ * The stream cache owns a reference which is released when all the exchanges using the stream cache are done, and each
+ * read of the segments holds a reference while reading. The segments are only returned to the pool of the
+ * {@link StreamCachingStrategy} when the last reference is released, so a segment is never reused while it is being
+ * read, and a stream cache which is read after it has been released fails instead of reading the content of another
+ * stream cache.
+ */
+final class OffHeapSegments {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    OffHeapSegments(StreamCachingStrategy strategy, ByteBuffer segment) {
+        this.strategy = strategy;
+        this.segments.add(segment);
+    }
+
+    /**
+     * Adds a segment, which is only allowed while the content is being written.
+     */
+    void add(ByteBuffer segment) {
+        segments.add(segment);
+    }
+
+    List<ByteBuffer> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Acquires a reference to the segments.
+     *
+     * @return <tt>true</tt> if acquired, or <tt>false</tt> if the segments have already been released
+     */
+    boolean retain() {
+        int count;
+        do {
+            count = references.get();
+            if (count <= 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Releases a reference to the segments, and returns the segments to the pool when it was the last reference.
+     */
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            for (ByteBuffer segment : segments) {
+                strategy.releaseSpoolOffHeapSegment(segment);
+            }
+            segments.clear();
+        }
+    }
+
+}
@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+
+/**
+ * A compact binary codec for {@link DefaultExchangeHolder}, to be used instead of Java serialization when storing
+ * exchanges, such as in the persistent aggregation repositories.
+ * <p/>
+ * The message bodies, headers and exchange properties are written with a type tag per value, and numbers and lengths
+ * are written as variable length integers. Values of other types (and the exception) are written using Java
+ * serialization.
+ * <p/>
+ * The encoded data starts with a version byte, which is never the first byte of a Java serialization stream, so
+ * {@link #isBinaryFormat(int)} can be used to tell data written by this codec apart from existing (legacy) data written
+ * with Java serialization.
+ * <p/>
+ * The data can optionally be compressed using Deflate, when the encoded size is at least the compression threshold.
+ */
+public class BinaryExchangeHolderCodec {
+
+    /**
+     * The version of the binary format, which is written as the first byte.
+     */
+    public static final int VERSION = 1;
+
+    private static final int FLAG_DEFLATE = 1;
+
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_INTEGER = 2;
+    private static final int TYPE_LONG = 3;
+    private static final int TYPE_TRUE = 4;
+    private static final int TYPE_FALSE = 5;
+    private static final int TYPE_DOUBLE = 6;
+    private static final int TYPE_FLOAT = 7;
+    private static final int TYPE_SHORT = 8;
+    private static final int TYPE_BYTE = 9;
+    private static final int TYPE_CHARACTER = 10;
+    private static final int TYPE_BYTES = 11;
+    private static final int TYPE_DATE = 12;
+    private static final int TYPE_BIG_DECIMAL = 13;
+    private static final int TYPE_BIG_INTEGER = 14;
+    private static final int TYPE_SERIALIZED = 15;
+
+    private boolean compression;
+    private int compressionThreshold = 1024;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Whether to compress the encoded data using Deflate.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * The minimum size in bytes of the encoded data before it is compressed. Small exchanges often do not compress
+     * well, so only compress when the data is at least this size. The default is 1024 bytes.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * The Deflate compression level (0-9), or -1 to use the default level.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Whether the data which starts with the given byte is written by this codec.
+     *
+     * @param  firstByte the first byte of the data
+     * @return           <tt>true</tt> if written by this codec, <tt>false</tt> if written by another format, such as
+     *                   Java serialization.
+     */
+    public static boolean isBinaryFormat(int firstByte) {
+        return firstByte == VERSION;
+    }
+
+    /**
+     * Whether the data is written by this codec.
+     */
+    public static boolean isBinaryFormat(byte[] data) {
+        return data != null && data.length > 0 && isBinaryFormat(data[0]);
+    }
+
+    /**
+     * Encodes the holder.
+     *
+     * @param  holder the holder
+     * @return        the encoded data
+     */
+    public byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        encode(holder, bos);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Encodes the holder to the output stream. The stream is not closed.
+     *
+     * @param holder the holder
+     * @param out    the output stream
+     */
+    public void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+        DataOutputStream data = new DataOutputStream(payload);
+        writeValue(data, holder.getExchangeId());
+        writeValue(data, holder.getInBody());
+        writeValue(data, holder.getOutBody());
+        writeMap(data, holder.getInHeaders());
+        writeMap(data, holder.getOutHeaders());
+        writeMap(data, holder.getProperties());
+        writeValue(data, holder.getException());
+        data.flush();
+
+        boolean deflate = compression && payload.size() >= compressionThreshold;
+        out.write(VERSION);
+        out.write(deflate ? FLAG_DEFLATE : 0);
+        if (deflate) {
+            Deflater deflater = new Deflater(compressionLevel);
+            try {
+                DeflaterOutputStream zip = new DeflaterOutputStream(out, deflater);
+                payload.writeTo(zip);
+                zip.finish();
+            } finally {
+                deflater.end();
+            }
+        } else {
+            payload.writeTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Decodes the holder.
+     *
+     * @param  camelContext the camel context used for loading the classes of Java serialized values, may be
+     *                      <tt>null</tt>
+     * @param  data         the encoded data
+     * @return              the holder
+     */
+    public DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException, ClassNotFoundException {
+        return decode(camelContext, new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Decodes the holder from the input stream. The stream is not closed.
+     *
+     * @param  camelContext the camel context used for loading the classes of Java serialized values, may be
+     *                      <tt>null</tt>
+     * @param  in           the input stream
+     * @return              the holder
+     */
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException, ClassNotFoundException {
+        int version = in.read();
+        if (version < 0) {
+            throw new EOFException();
+        }
+        if (!isBinaryFormat(version)) {
+            throw new StreamCorruptedException("Unsupported binary exchange format version: " + version);
+        }
+        int flags = in.read();
+        if (flags < 0) {
+            throw new EOFException();
+        }
+
+        ClassLoader classLoader = camelContext != null ? camelContext.getApplicationContextClassLoader() : null;
+        Inflater inflater = null;
+        try {
+            DataInputStream data;
+            if ((flags & FLAG_DEFLATE) != 0) {
+                inflater = new Inflater();
+                data = new DataInputStream(new InflaterInputStream(in, inflater));
+            } else {
+                data = new DataInputStream(in);
+            }
+
+            // the arguments are evaluated from left to right, in the order the values were written
+            return new DefaultExchangeHolder(
+                    (String) readValue(data, classLoader), readValue(data, classLoader), readValue(data, classLoader),
+                    readMap(data, classLoader), readMap(data, classLoader), readMap(data, classLoader),
+                    (Exception) readValue(data, classLoader));
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        // the size is written plus one, so zero can denote a null map
+        writeVarInt(out, map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in, ClassLoader classLoader)
+            throws IOException, ClassNotFoundException {
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(in, classLoader));
+        }
+        return map;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            writeVarLong(out, zigZag((Short) value));
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(TYPE_BYTES);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value.getClass() == Date.class) {
+            // subclasses such as java.sql.Timestamp are java serialized to keep their type and precision
+            out.writeByte(TYPE_DATE);
+            writeVarLong(out, zigZag(((Date) value).getTime()));
+        } else if (value.getClass() == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal) value;
+            byte[] bytes = decimal.unscaledValue().toByteArray();
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeVarLong(out, zigZag(decimal.scale()));
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value.getClass() == BigInteger.class) {
+            byte[] bytes = ((BigInteger) value).toByteArray();
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else {
+            // fallback to java serialization
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            out.writeByte(TYPE_SERIALIZED);
+            writeVarInt(out, bos.size());
+            bos.writeTo(out);
+        }
+    }
+
+    private static Object readValue(DataInputStream in, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        int type = in.readUnsignedByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_INTEGER:
+                return (int) unZigZag(readVarLong(in));
+            case TYPE_LONG:
+                return unZigZag(readVarLong(in));
+            case TYPE_TRUE:
+                return Boolean.TRUE;
+            case TYPE_FALSE:
+                return Boolean.FALSE;
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_SHORT:
+                return (short) unZigZag(readVarLong(in));
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_CHARACTER:
+                return in.readChar();
+            case TYPE_BYTES:
+                return readBytes(in);
+            case TYPE_DATE:
+                return new Date(unZigZag(readVarLong(in)));
+            case TYPE_BIG_DECIMAL: {
+                int scale = (int) unZigZag(readVarLong(in));
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case TYPE_SERIALIZED: {
+                byte[] bytes = readBytes(in);
+                try (ObjectInputStream ois = new ClassLoadingAwareObjectInputStream(
+                        classLoader, new ByteArrayInputStream(bytes))) {
+                    return ois.readObject();
+                }
+            }
+            default:
+                throw new StreamCorruptedException("Unknown type tag: " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Invalid length: " + value);
+        }
+        return (int) value;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length integer");
+    }
+
+}
@@ -72,6 +72,23 @@ public class DefaultExchangeHolder implements Serializable {
     private Map<String, Object> properties;
     private Exception exception;
 
+    public DefaultExchangeHolder() {
+    }
+
+    /**
+     * Creates a holder with the given information, used by {@link BinaryExchangeHolderCodec} when decoding.
+     */
+    DefaultExchangeHolder(String exchangeId, Object inBody, Object outBody, Map<String, Object> inHeaders,
+                          Map<String, Object> outHeaders, Map<String, Object> properties, Exception exception) {
+        this.exchangeId = exchangeId;
+        this.inBody = inBody;
+        this.outBody = outBody;
+        this.inHeaders = inHeaders;
+        this.outHeaders = outHeaders;
+        this.properties = properties;
+        this.exception = exception;
+    }
+
     /**
      * Creates a payload object with the information from the given exchange.
      *
@@ -197,6 +214,36 @@ public class DefaultExchangeHolder implements Serializable {
         payload.properties.put(key, property);
     }
 
+    // accessors used by BinaryExchangeHolderCodec when encoding
+
+    String getExchangeId() {
+        return exchangeId;
+    }
+
+    Object getInBody() {
+        return inBody;
+    }
+
+    Object getOutBody() {
+        return outBody;
+    }
+
+    Map<String, Object> getInHeaders() {
+        return inHeaders;
+    }
+
+    Map<String, Object> getOutHeaders() {
+        return outHeaders;
+    }
+
+    Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    Exception getException() {
+        return exception;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("DefaultExchangeHolder[exchangeId=").append(exchangeId);
@@ -37,9 +37,15 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * If the thread pool profile has virtual threads enabled (and they are supported by the JVM) then a
+ * {@link VirtualThreadPoolExecutor} is created, which runs each task on its own virtual thread.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
@@ -62,6 +68,10 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && ThreadHelper.isVirtualThreadsSupported()) {
+            return newVirtualThreadPool(profile, factory);
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -117,6 +127,21 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return answer;
     }
 
+    protected ExecutorService newVirtualThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        RejectedExecutionHandler rejectedExecutionHandler;
+        if (profile.getRejectedPolicy() == ThreadPoolRejectedPolicy.DiscardOldest) {
+            // there are no waiting tasks to discard, as all the tasks are running on their own threads
+            rejectedExecutionHandler = ThreadPoolRejectedPolicy.Discard.asRejectedExecutionHandler();
+        } else {
+            rejectedExecutionHandler = profile.getRejectedExecutionHandler();
+        }
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        int maxQueueSize = profile.getMaxQueueSize() != null ? profile.getMaxQueueSize() : -1;
+        return new VirtualThreadPoolExecutor(maxQueueSize, factory, rejectedExecutionHandler);
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -38,6 +38,9 @@ import org.apache.camel.util.Scanner;
  * individual parts.
  * <p/>
  * For example if you group by new line, then a new line token is inserted between the lines.
+ * <p/>
+ * When grouping the tokens of a {@link Scanner} then the tokens are appended directly from the scanner's buffer,
+ * without creating a String per token.
  */
 public final class GroupTokenIterator implements Iterator<Object>, Closeable {
 
@@ -50,6 +53,7 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
     private final AtomicBoolean hasSkipFirst;
     private boolean closed;
     private final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    private final StringBuilder sb;
 
     /**
      * Creates a new token based group iterator
@@ -82,6 +86,7 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
         } else {
             this.hasSkipFirst = null;
         }
+        this.sb = it instanceof Scanner ? new StringBuilder() : null;
     }
 
     @Override
@@ -124,6 +129,10 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
     }
 
     private Object doNext() throws IOException, NoTypeConversionAvailableException {
+        if (sb != null) {
+            return doNextScanner((Scanner) it);
+        }
+
         int count = 0;
         Object data = "";
         while (count < group && it.hasNext()) {
@@ -163,6 +172,35 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
         return answer;
     }
 
+    private Object doNextScanner(Scanner scanner) {
+        int count = 0;
+        while (count < group && scanner.hasNext()) {
+            if (skipFirst && hasSkipFirst.compareAndSet(false, true)) {
+                scanner.next();
+                if (!scanner.hasNext()) {
+                    // Content with header only which is marked to skip
+                    if (count > 0 && token != null) {
+                        sb.append(token);
+                    }
+                    count++;
+                    continue;
+                }
+            }
+
+            // include token in between
+            if (count > 0 && token != null) {
+                sb.append(token);
+            }
+            scanner.appendNext(sb);
+
+            count++;
+        }
+
+        String answer = sb.toString();
+        sb.setLength(0);
+        return answer;
+    }
+
     @Override
     public void remove() {
         it.remove();
@@ -0,0 +1,722 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores a 128-bit fingerprint
+ * of each key in a memory-mapped hash table.
+ * <p/>
+ * The hash table uses open addressing with linear probing, so {@link #add(String)}, {@link #contains(String)} and
+ * {@link #remove(String)} only touch a few slots of the file regardless of how many keys are stored, and starting the
+ * repository only maps the file into memory without reading the keys. Each slot is written so that a partially written
+ * slot (if the JVM crashes) is seen as a removed key, which means the file store cannot become corrupted.
+ * <p/>
+ * When the hash table becomes half full (including the slots of removed keys) it is rebuilt into a new file, which is
+ * then atomically moved in place of the old file. The table is doubled in size if needed, and the slots of removed keys
+ * are compacted. When a {@link CamelContext} has been set, the table is rebuilt in the background using a thread from
+ * the {@link org.apache.camel.spi.ExecutorServiceManager}, which copies the keys a chunk at a time, so adding and
+ * removing keys is only blocked while a chunk is copied, and when the new file is moved in place.
+ * <p/>
+ * If the repository was not stopped (such as when the JVM crashed), then the number of keys is counted again when the
+ * repository is started.
+ * <p/>
+ * As only the fingerprints are stored, a different key with the same fingerprint would be regarded as a duplicate,
+ * which is very unlikely with 128-bit fingerprints. The keys cannot be listed or loaded from the file store. The file
+ * store is limited to 64 million slots (1gb), which allows for up to 32 million keys.
+ */
+@ManagedResource(description = "Memory mapped file based idempotent repository")
+public class MemoryMappedIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedIdempotentRepository.class);
+
+    // the file starts with a header with the magic number, version, capacity, number of keys and removed keys, and
+    // whether the file store is in use
+    private static final int MAGIC = 0x43494452;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int REMOVED_OFFSET = 24;
+    private static final int OPEN_OFFSET = 32;
+    private static final int HEADER_SIZE = 64;
+    // each slot has two longs with the fingerprint of the key, where the first long is never 0 for a stored key
+    private static final int SLOT_SIZE = 16;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 26;
+    // the number of slots copied at a time when rebuilding in the background
+    private static final int REBUILD_CHUNK = 16 * 1024;
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method method = null;
+        Object unsafe = null;
+        try {
+            Class<?> clazz = Class.forName("sun.misc.Unsafe");
+            Field field = clazz.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            method = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Exception e) {
+            // the files are unmapped when the buffers are garbage collected
+            LOG.debug("Cannot unmap memory mapped files explicitly due to: {}", e.getMessage());
+        }
+        INVOKE_CLEANER = method;
+        UNSAFE = unsafe;
+    }
+
+    private CamelContext camelContext;
+    private File fileStore;
+    private int initialCapacity = 64 * 1024;
+    private boolean sync;
+
+    private ExecutorService executorService;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int mask;
+    private long size;
+    private long removed;
+    private boolean rebuildScheduled;
+    // the keys added and removed while the hash table is rebuilt in the background
+    private List<Change> changes;
+
+    public MemoryMappedIdempotentRepository() {
+    }
+
+    public MemoryMappedIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new memory mapped file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository memoryMappedIdempotentRepository(File fileStore) {
+        return new MemoryMappedIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new memory mapped file based repository.
+     *
+     * @param fileStore       the file store
+     * @param initialCapacity the initial number of slots in the hash table
+     */
+    public static IdempotentRepository memoryMappedIdempotentRepository(File fileStore, int initialCapacity) {
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore);
+        repository.setInitialCapacity(initialCapacity);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The initial number of slots in the hash table")
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    /**
+     * Sets the initial number of slots in the hash table, which is rounded up to a power of two. The hash table is
+     * rebuilt with twice the number of slots when it becomes half full, so set this to at least twice the number of
+     * keys expected, to avoid rebuilding the hash table. Each slot takes 16 bytes in the file store.
+     * <p/>
+     * The default is 65536 (1mb).
+     */
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    @ManagedAttribute(description = "Whether the changes are forced to the file store on each update")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the changes to the storage device when a key is added or removed. Without this the changes are
+     * written to the storage device by the operating system, which means they are not lost if the JVM crashes, but
+     * could be lost if the operating system crashes.
+     * <p/>
+     * The default is false.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public synchronized long getSize() {
+        return size;
+    }
+
+    @ManagedAttribute(description = "The number of slots in the hash table")
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    @ManagedAttribute(description = "The number of slots in the hash table of removed keys")
+    public synchronized long getRemovedSize() {
+        return removed;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public synchronized boolean add(String key) {
+        long h1 = fingerprint1(key);
+        long h2 = fingerprint2(key);
+        int index = indexOf(h1, h2);
+        if (index >= 0) {
+            return false;
+        }
+        if ((size + 1) * 4 > capacity * 3L) {
+            // the hash table cannot grow any larger
+            throw new IllegalStateException("The file store " + fileStore + " is full with " + size + " keys");
+        }
+        index = -index - 1;
+        int pos = HEADER_SIZE + index * SLOT_SIZE;
+        if (buffer.getLong(pos + 8) != 0) {
+            // reuse the slot of a removed key
+            removed--;
+        }
+        // write the first long last, so the key is only stored if the slot is fully written
+        buffer.putLong(pos + 8, h2);
+        buffer.putLong(pos, h1);
+        size++;
+        updateHeader();
+        if (changes != null) {
+            changes.add(new Change(h1, h2, true));
+        }
+        checkRebuild();
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public synchronized boolean contains(String key) {
+        return indexOf(fingerprint1(key), fingerprint2(key)) >= 0;
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public synchronized boolean remove(String key) {
+        long h1 = fingerprint1(key);
+        long h2 = fingerprint2(key);
+        int index = indexOf(h1, h2);
+        if (index < 0) {
+            return false;
+        }
+        markRemoved(buffer, index);
+        size--;
+        removed++;
+        updateHeader();
+        if (changes != null) {
+            changes.add(new Change(h1, h2, false));
+        }
+        checkRebuild();
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public synchronized void clear() {
+        try {
+            rebuild(tableSize(initialCapacity), false);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Rebuilds the hash table to compact the slots of removed keys
+     */
+    @ManagedOperation(description = "Compacts the slots of removed keys in the file store")
+    public synchronized void compact() {
+        try {
+            rebuild(capacity, true);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Finds the slot of the given fingerprint
+     *
+     * @return the index of the slot, or <tt>(-(insertion point) - 1)</tt> if the fingerprint is not stored
+     */
+    private int indexOf(long h1, long h2) {
+        return indexOf(buffer, mask, h1, h2);
+    }
+
+    private static int indexOf(MappedByteBuffer table, int mask, long h1, long h2) {
+        int index = (int) h1 & mask;
+        int free = -1;
+        for (int i = 0; i <= mask; i++) {
+            int pos = HEADER_SIZE + index * SLOT_SIZE;
+            long s1 = table.getLong(pos);
+            if (s1 == 0) {
+                if (table.getLong(pos + 8) == 0) {
+                    // an empty slot ends the probing
+                    return free >= 0 ? -free - 1 : -index - 1;
+                } else if (free < 0) {
+                    free = index;
+                }
+            } else if (s1 == h1 && table.getLong(pos + 8) == h2) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -free - 1;
+    }
+
+    private static void markRemoved(MappedByteBuffer table, int index) {
+        int pos = HEADER_SIZE + index * SLOT_SIZE;
+        // a slot with 0 as the first long and non 0 as the second long is a removed key, which is skipped when probing
+        table.putLong(pos, 0);
+        table.putLong(pos + 8, 1);
+    }
+
+    private void updateHeader() {
+        buffer.putLong(SIZE_OFFSET, size);
+        buffer.putLong(REMOVED_OFFSET, removed);
+        if (sync) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Rebuilds the hash table when it becomes half full, which is done in the background if possible. The hash table is
+     * rebuilt right away if it becomes three quarters full before the background task has run.
+     */
+    private void checkRebuild() {
+        long used = size + removed;
+        if (used * 4 >= capacity * 3L) {
+            rebuildNow();
+        } else if (used * 2 >= capacity && !rebuildScheduled) {
+            if (executorService != null) {
+                rebuildScheduled = true;
+                executorService.submit(this::rebuildInBackground);
+            } else {
+                rebuildNow();
+            }
+        }
+    }
+
+    private void rebuildInBackground() {
+        MappedByteBuffer source;
+        int sourceCapacity;
+        int newCapacity;
+        synchronized (this) {
+            rebuildScheduled = false;
+            if (buffer == null || (size + removed) * 2 < capacity) {
+                return;
+            }
+            newCapacity = newCapacity();
+            if (newCapacity == capacity && removed == 0) {
+                // the hash table is already as large as it can be
+                return;
+            }
+            source = buffer;
+            sourceCapacity = capacity;
+            changes = new ArrayList<>();
+        }
+        LOG.debug("Rebuilding idempotent filestore: {} in the background to {} slots", fileStore, newCapacity);
+
+        File tmp = tempFile(".rebuild");
+        MappedByteBuffer target = null;
+        try {
+            FileUtil.deleteFile(tmp);
+            target = createStore(tmp, newCapacity);
+            int newMask = newCapacity - 1;
+            long count = 0;
+            for (int from = 0; from < sourceCapacity; from += REBUILD_CHUNK) {
+                synchronized (this) {
+                    if (buffer != source) {
+                        // the hash table has been rebuilt (or the repository stopped) meanwhile
+                        return;
+                    }
+                    count += copySlots(source, from, Math.min(from + REBUILD_CHUNK, sourceCapacity), target, newMask);
+                }
+            }
+            // write the new file to the storage device before the keys added meanwhile are applied while blocking
+            target.force();
+            synchronized (this) {
+                if (buffer != source) {
+                    return;
+                }
+                // apply the keys added and removed while copying, which makes no difference for the slots which were
+                // copied after the change
+                long removedCount = 0;
+                for (Change change : changes) {
+                    int index = indexOf(target, newMask, change.h1, change.h2);
+                    if (change.added && index < 0) {
+                        int pos = HEADER_SIZE + (-index - 1) * SLOT_SIZE;
+                        if (target.getLong(pos + 8) != 0) {
+                            removedCount--;
+                        }
+                        target.putLong(pos + 8, change.h2);
+                        target.putLong(pos, change.h1);
+                        count++;
+                    } else if (!change.added && index >= 0) {
+                        markRemoved(target, index);
+                        count--;
+                        removedCount++;
+                    }
+                }
+                changes = null;
+                replace(tmp, target, count, removedCount);
+                target = null;
+                LOG.debug("Rebuilt idempotent filestore: {} with {} keys", fileStore, size);
+            }
+        } catch (Exception e) {
+            LOG.warn("Error rebuilding idempotent filestore: {} in the background. This exception is ignored.", fileStore,
+                    e);
+        } finally {
+            synchronized (this) {
+                changes = null;
+            }
+            if (target != null) {
+                unmap(target);
+                FileUtil.deleteFile(tmp);
+            }
+        }
+    }
+
+    private void rebuildNow() {
+        int newCapacity = newCapacity();
+        if (newCapacity == capacity && removed == 0) {
+            // the hash table is already as large as it can be
+            return;
+        }
+        try {
+            rebuild(newCapacity, true);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private int newCapacity() {
+        // keep the hash table at most a quarter full after being rebuilt
+        int newCapacity = capacity;
+        while (size * 4 > newCapacity && newCapacity < MAX_CAPACITY) {
+            newCapacity <<= 1;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Rebuilds the hash table into a new file, which replaces the current file store
+     *
+     * @param newCapacity the number of slots in the new hash table
+     * @param copy        whether to copy the keys to the new hash table
+     */
+    private void rebuild(int newCapacity, boolean copy) throws IOException {
+        LOG.debug("Rebuilding idempotent filestore: {} with {} keys and {} removed keys to {} slots", fileStore, size,
+                removed, newCapacity);
+
+        // a rebuild in the background is abandoned as the hash table is replaced
+        changes = null;
+        File tmp = tempFile(".tmp");
+        FileUtil.deleteFile(tmp);
+        MappedByteBuffer target = createStore(tmp, newCapacity);
+        long count = copy ? copySlots(buffer, 0, capacity, target, newCapacity - 1) : 0;
+        replace(tmp, target, count, 0);
+        LOG.debug("Rebuilt idempotent filestore: {} with {} keys", fileStore, size);
+    }
+
+    /**
+     * Copies the keys in the given slots to the new hash table, which has no removed keys
+     *
+     * @return the number of keys copied
+     */
+    private static long copySlots(MappedByteBuffer source, int from, int to, MappedByteBuffer target, int newMask) {
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            int pos = HEADER_SIZE + i * SLOT_SIZE;
+            long h1 = source.getLong(pos);
+            if (h1 != 0) {
+                int index = (int) h1 & newMask;
+                while (target.getLong(HEADER_SIZE + index * SLOT_SIZE) != 0) {
+                    index = (index + 1) & newMask;
+                }
+                int newPos = HEADER_SIZE + index * SLOT_SIZE;
+                target.putLong(newPos + 8, source.getLong(pos + 8));
+                target.putLong(newPos, h1);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves the new hash table in place of the current file store
+     */
+    private void replace(File tmp, MappedByteBuffer target, long count, long removedCount) throws IOException {
+        target.putLong(SIZE_OFFSET, count);
+        target.putLong(REMOVED_OFFSET, removedCount);
+        target.putInt(OPEN_OFFSET, 1);
+        target.force();
+        // unmap the files before the move, as a file which is memory mapped cannot be replaced on some platforms
+        unmap(target);
+        unmap(buffer);
+        buffer = null;
+        try {
+            Files.move(tmp.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            // map the file store again, which is the old file store if the move failed
+            setBuffer(openStore(fileStore));
+        }
+    }
+
+    /**
+     * Counts the keys and removed keys again, as the header may not have been updated if the JVM crashed while a key
+     * was added or removed
+     */
+    private void recover() {
+        long count = 0;
+        long removedCount = 0;
+        for (int i = 0; i < capacity; i++) {
+            int pos = HEADER_SIZE + i * SLOT_SIZE;
+            if (buffer.getLong(pos) != 0) {
+                count++;
+            } else if (buffer.getLong(pos + 8) != 0) {
+                removedCount++;
+            }
+        }
+        if (count != size || removedCount != removed) {
+            LOG.warn("Recovered idempotent filestore: {} which was not stopped with {} keys and {} removed keys"
+                     + " (was {} keys and {} removed keys)",
+                    fileStore, count, removedCount, size, removed);
+            size = count;
+            removed = removedCount;
+            updateHeader();
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (buffer != null && INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (Exception e) {
+                LOG.debug("Cannot unmap memory mapped file due to: {}", e.getMessage());
+            }
+        }
+    }
+
+    private MappedByteBuffer createStore(File file, int capacity) throws IOException {
+        long length = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // mapping beyond the end of the file extends the file with zeros, which are empty slots
+            MappedByteBuffer answer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            answer.putInt(MAGIC_OFFSET, MAGIC);
+            answer.putInt(VERSION_OFFSET, VERSION);
+            answer.putInt(CAPACITY_OFFSET, capacity);
+            return answer;
+        }
+    }
+
+    private MappedByteBuffer openStore(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > HEADER_SIZE + (long) MAX_CAPACITY * SLOT_SIZE) {
+                throw new IOException("The file store " + file + " is not a valid idempotent filestore");
+            }
+            MappedByteBuffer answer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            int slots = answer.getInt(CAPACITY_OFFSET);
+            if (answer.getInt(MAGIC_OFFSET) != MAGIC || answer.getInt(VERSION_OFFSET) != VERSION
+                    || Integer.bitCount(slots) != 1 || length != HEADER_SIZE + (long) slots * SLOT_SIZE) {
+                throw new IOException("The file store " + file + " is not a valid idempotent filestore");
+            }
+            return answer;
+        }
+    }
+
+    private void setBuffer(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+        this.mask = capacity - 1;
+        this.size = buffer.getLong(SIZE_OFFSET);
+        this.removed = buffer.getLong(REMOVED_OFFSET);
+    }
+
+    private File tempFile(String suffix) {
+        return new File(fileStore.getPath() + suffix);
+    }
+
+    private static int tableSize(int initialCapacity) {
+        int answer = MIN_CAPACITY;
+        while (answer < initialCapacity && answer < MAX_CAPACITY) {
+            answer <<= 1;
+        }
+        return answer;
+    }
+
+    /**
+     * The first part of the fingerprint, which is also used to find the slot. It is never 0 as that marks an empty or
+     * removed slot.
+     */
+    private static long fingerprint1(String key) {
+        // FNV-1a
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = mix(h);
+        return h != 0 ? h : 1;
+    }
+
+    /**
+     * The second part of the fingerprint, which uses a different hash function than the first part
+     */
+    private static long fingerprint2(String key) {
+        long h = 0x9e3779b97f4a7c15L + key.length();
+        for (int i = 0; i < key.length(); i++) {
+            h = Long.rotateLeft(h + key.charAt(i) * 0xc2b2ae3d27d4eb4fL, 31) * 0x9e3779b97f4a7c15L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        // the finalizer of splitmix64 to spread the bits
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        synchronized (this) {
+            // the left over files from rebuilding, which were not moved in place of the file store
+            FileUtil.deleteFile(tempFile(".tmp"));
+            FileUtil.deleteFile(tempFile(".rebuild"));
+
+            if (fileStore.exists() && fileStore.length() > 0) {
+                setBuffer(openStore(fileStore));
+                if (buffer.getInt(OPEN_OFFSET) != 0) {
+                    recover();
+                }
+                LOG.debug("Opened idempotent filestore: {} with {} keys in {} slots", fileStore, size, capacity);
+            } else {
+                File parent = fileStore.getParentFile();
+                if (parent != null && !parent.exists()) {
+                    boolean mkdirsResult = parent.mkdirs();
+                    if (!mkdirsResult) {
+                        LOG.warn("Cannot create the filestore directory at: {}", parent);
+                    }
+                }
+                LOG.debug("Creating idempotent filestore: {}", fileStore);
+                setBuffer(createStore(fileStore, tableSize(initialCapacity)));
+            }
+            // marks the file store as in use, until the repository is stopped
+            buffer.putInt(OPEN_OFFSET, 1);
+            buffer.force();
+        }
+
+        if (camelContext != null && executorService == null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "MemoryMappedIdempotentRepository");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+
+        synchronized (this) {
+            if (buffer != null) {
+                buffer.putInt(OPEN_OFFSET, 0);
+                buffer.force();
+                unmap(buffer);
+                buffer = null;
+            }
+            rebuildScheduled = false;
+        }
+    }
+
+    private static final class Change {
+        private final long h1;
+        private final long h2;
+        private final boolean added;
+
+        private Change(long h1, long h2, boolean added) {
+            this.h1 = h1;
+            this.h2 = h2;
+            this.added = added;
+        }
+    }
+
+}
@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, as {@link CaseInsensitiveMap} does.
+ * <p/>
+ * The map is a hash map using open addressing, which uses O(1) for lookup instead of O(log n) as
+ * {@link CaseInsensitiveMap} does. The entries are stored in flat arrays in insertion order, together with the case
+ * insensitive hash codes of the keys, which is also the iteration order of the map. The hash table only holds the
+ * positions of the entries, and uses linear probing.
+ * <p/>
+ * Copying a map into a new map (using the copy constructor) is cheap, as the copies share the arrays until either map
+ * is changed (copy on write).
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    // the positions in the table are stored as index + 1, so 0 is an empty slot
+    private static final int EMPTY = 0;
+    private static final int REMOVED = -1;
+
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int[] table;
+    // number of entries, and number of used positions in the arrays (including removed entries)
+    private int size;
+    private int used;
+    // whether the arrays are shared with a copy of this map
+    private boolean shared;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+    private transient Set<String> keySet;
+
+    public CaseInsensitiveHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveHashMap(int capacity) {
+        init(Math.max(capacity, DEFAULT_CAPACITY));
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap) {
+            CaseInsensitiveHashMap other = (CaseInsensitiveHashMap) map;
+            keys = other.keys;
+            values = other.values;
+            hashes = other.hashes;
+            table = other.table;
+            size = other.size;
+            used = other.used;
+            shared = true;
+            other.shared = true;
+        } else {
+            init(Math.max(map.size(), DEFAULT_CAPACITY));
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int index = indexOf((String) key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            // keep the existing key as the original key case is preserved
+            unshare();
+            Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+        unshare();
+        if (used == keys.length) {
+            // compact the removed entries, or grow the arrays
+            rebuild(size < keys.length / 2 ? keys.length : keys.length * 2);
+        }
+        index = used++;
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        insert(hash, index);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (used + map.size() > keys.length) {
+            unshare();
+            rebuild(Math.max(keys.length, Integer.highestOneBit(size + map.size()) << 1));
+        }
+        for (Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int hash = hash((String) key);
+        int mask = table.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            int position = table[i];
+            if (position == EMPTY) {
+                return null;
+            }
+            if (position != REMOVED && matches(position - 1, (String) key, hash)) {
+                unshare();
+                return removeAt(position - 1, i);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0 || used > 0) {
+            init(DEFAULT_CAPACITY);
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> answer = entrySet;
+        if (answer == null) {
+            answer = new EntrySet();
+            entrySet = answer;
+        }
+        return answer;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> answer = keySet;
+        if (answer == null) {
+            answer = new KeySet();
+            keySet = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * The case insensitive hash code of the key, which is the same for keys that are equal ignoring case (as by
+     * {@link String#equalsIgnoreCase(String)}).
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch = (char) (ch + ('a' - 'A'));
+                }
+            } else {
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        // spread the bits as the table uses the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private void init(int capacity) {
+        int length = Integer.highestOneBit(capacity - 1) << 1;
+        keys = new String[length];
+        values = new Object[length];
+        hashes = new int[length];
+        table = new int[length * 2];
+        size = 0;
+        used = 0;
+        shared = false;
+    }
+
+    private int indexOf(String key) {
+        return indexOf(key, hash(key));
+    }
+
+    private int indexOf(String key, int hash) {
+        int mask = table.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            int position = table[i];
+            if (position == EMPTY) {
+                return -1;
+            }
+            if (position != REMOVED && matches(position - 1, key, hash)) {
+                return position - 1;
+            }
+        }
+    }
+
+    private boolean matches(int index, String key, int hash) {
+        String k = keys[index];
+        return hashes[index] == hash && (k == key || k.equalsIgnoreCase(key));
+    }
+
+    private void insert(int hash, int index) {
+        int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] > EMPTY) {
+            i = (i + 1) & mask;
+        }
+        table[i] = index + 1;
+    }
+
+    private Object removeAt(int index, int tableIndex) {
+        Object old = values[index];
+        keys[index] = null;
+        values[index] = null;
+        table[tableIndex] = REMOVED;
+        size--;
+        modCount++;
+        return old;
+    }
+
+    private void removeAt(int index) {
+        int mask = table.length - 1;
+        for (int i = hashes[index] & mask;; i = (i + 1) & mask) {
+            if (table[i] == index + 1) {
+                removeAt(index, i);
+                return;
+            }
+        }
+    }
+
+    private void rebuild(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        init(capacity);
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                keys[used] = oldKeys[i];
+                values[used] = oldValues[i];
+                hashes[used] = oldHashes[i];
+                insert(oldHashes[i], used);
+                used++;
+            }
+        }
+        size = used;
+    }
+
+    private void unshare() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    private abstract class EntryIterator<T> implements Iterator<T> {
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+            return next < used;
+        }
+
+        int nextIndex() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0 || keys[current] == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            unshare();
+            removeAt(current);
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator<Entry<String, Object>>() {
+                @Override
+                public Entry<String, Object> next() {
+                    return new MapEntry(nextIndex());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return new EntryIterator<String>() {
+                @Override
+                public String next() {
+                    return keys[nextIndex()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (containsKey(o)) {
+                CaseInsensitiveHashMap.this.remove(o);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+        private final int index;
+        private final String key;
+
+        private MapEntry(int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[index] == key ? values[index] : get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[index] != key) {
+                return put(key, value);
+            }
+            unshare();
+            Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+}
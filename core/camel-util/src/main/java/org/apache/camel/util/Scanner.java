@@ -33,37 +33,40 @@ import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.InputMismatchException;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.apache.camel.util.BufferCaster.cast;
 
+/**
+ * A scanner which splits the input into tokens using a delimiter pattern.
+ * <p/>
+ * Delimiters which are literal text (such as a new line or comma) are searched for directly in the buffer, and only
+ * other delimiters are matched using regular expressions.
+ */
 public final class Scanner implements Iterator<String>, Closeable {
 
     static {
         WHITESPACE_PATTERN = Pattern.compile("\\s+");
-        FIND_ANY_PATTERN = Pattern.compile("(?s).*");
     }
 
-    private static final Map<String, Pattern> CACHE = new LinkedHashMap<String, Pattern>() {
-        @Override
-        protected boolean removeEldestEntry(Entry<String, Pattern> eldest) {
-            return size() >= 7;
-        }
-    };
+    private static final int CACHE_SIZE = 16;
+
+    private static final Map<String, Pattern> CACHE = new ConcurrentHashMap<>();
 
     private static final Pattern WHITESPACE_PATTERN;
 
-    private static final Pattern FIND_ANY_PATTERN;
+    private static final String REGEX_META_CHARS = ".$|()[]{}^?*+";
 
     private static final int BUFFER_SIZE = 1024;
 
     private Readable source;
+    private final String delimiter;
+    private final char[] literal;
     private Pattern delimPattern;
     private Matcher matcher;
     private CharBuffer buf;
@@ -76,7 +79,7 @@ public final class Scanner implements Iterator<String>, Closeable {
     private IOException lastIOException;
 
     public Scanner(InputStream source, String charsetName, String pattern) {
-        this(new InputStreamReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName)), cachePattern(pattern));
+        this(new InputStreamReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName)), pattern);
     }
 
     public Scanner(File source, String charsetName, String pattern) throws FileNotFoundException {
@@ -84,29 +87,37 @@ public final class Scanner implements Iterator<String>, Closeable {
     }
 
     public Scanner(String source, String pattern) {
-        this(new StringReader(Objects.requireNonNull(source, "source")), cachePattern(pattern));
+        this(new StringReader(Objects.requireNonNull(source, "source")), pattern);
     }
 
     public Scanner(String source, Pattern pattern) {
-        this(new StringReader(Objects.requireNonNull(source, "source")), pattern);
+        this(new StringReader(Objects.requireNonNull(source, "source")), pattern, null, null);
     }
 
     public Scanner(ReadableByteChannel source, String charsetName, String pattern) {
-        this(Channels.newReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName), -1), cachePattern(pattern));
+        this(Channels.newReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName), -1), pattern);
     }
 
     public Scanner(Readable source, String pattern) {
-        this(Objects.requireNonNull(source, "source"), cachePattern(pattern));
+        this(Objects.requireNonNull(source, "source"), pattern, toLiteral(pattern));
     }
 
-    private Scanner(Readable source, Pattern pattern) {
+    private Scanner(Readable source, String pattern, char[] literal) {
+        this(source, literal != null ? null : cachePattern(pattern), pattern, literal);
+    }
+
+    private Scanner(Readable source, Pattern pattern, String delimiter, char[] literal) {
         this.source = source;
-        delimPattern = pattern != null ? pattern : WHITESPACE_PATTERN;
+        this.delimiter = delimiter;
+        this.literal = literal;
         buf = CharBuffer.allocate(BUFFER_SIZE);
         cast(buf).limit(0);
-        matcher = delimPattern.matcher(buf);
-        matcher.useTransparentBounds(true);
-        matcher.useAnchoringBounds(false);
+        if (literal == null) {
+            delimPattern = pattern != null ? pattern : WHITESPACE_PATTERN;
+            matcher = delimPattern.matcher(buf);
+            matcher.useTransparentBounds(true);
+            matcher.useAnchoringBounds(false);
+        }
     }
 
     private static CharsetDecoder toDecoder(String charsetName) {
@@ -138,12 +149,35 @@ public final class Scanner implements Iterator<String>, Closeable {
 
     @Override
     public String next() {
+        int end = nextTokenEnd();
+        String token = new String(buf.array(), buf.arrayOffset() + position, end - position);
+        position = end;
+        return token;
+    }
+
+    /**
+     * Appends the next token to the given builder, which avoids creating a String per token.
+     *
+     * @param  sb                     the builder to append to
+     * @throws NoSuchElementException if there are no more tokens
+     */
+    public void appendNext(StringBuilder sb) {
+        int end = nextTokenEnd();
+        sb.append(buf.array(), buf.arrayOffset() + position, end - position);
+        position = end;
+    }
+
+    public String getDelim() {
+        return literal != null ? delimiter : delimPattern.pattern();
+    }
+
+    private int nextTokenEnd() {
         checkClosed();
         while (true) {
-            String token = getCompleteTokenInBuffer();
-            if (token != null) {
+            int end = getCompleteTokenInBuffer();
+            if (end != -1) {
                 skipped = false;
-                return token;
+                return end;
             }
             if (needInput) {
                 readMore();
@@ -153,10 +187,6 @@ public final class Scanner implements Iterator<String>, Closeable {
         }
     }
 
-    public String getDelim() {
-        return delimPattern.pattern();
-    }
-
     private void saveState() {
         savedPosition = position;
     }
@@ -207,7 +237,9 @@ public final class Scanner implements Iterator<String>, Closeable {
             translateSavedIndexes(offset);
             position -= offset;
             buf = newBuf;
-            matcher.reset(buf);
+            if (matcher != null) {
+                matcher.reset(buf);
+            }
         }
     }
 
@@ -227,67 +259,108 @@ public final class Scanner implements Iterator<String>, Closeable {
     }
 
     private boolean hasTokenInBuffer() {
-        matcher.usePattern(delimPattern);
-        matcher.region(position, buf.limit());
-        if (matcher.lookingAt()) {
-            position = matcher.end();
+        if (literal != null) {
+            if (startsWithLiteral(position)) {
+                position += literal.length;
+            }
+        } else {
+            matcher.region(position, buf.limit());
+            if (matcher.lookingAt()) {
+                position = matcher.end();
+            }
         }
         return position != buf.limit();
     }
 
-    private String getCompleteTokenInBuffer() {
-        matcher.usePattern(delimPattern);
+    /**
+     * Finds the next complete token in the buffer, which starts at the position (after skipping a leading delimiter).
+     *
+     * @return the end index of the token, or <tt>-1</tt> if there is no complete token in the buffer
+     */
+    private int getCompleteTokenInBuffer() {
         if (!skipped) {
-            matcher.region(position, buf.limit());
-            if (matcher.lookingAt()) {
-                if (matcher.hitEnd() && !inputExhausted) {
-                    needInput = true;
-                    return null;
+            if (literal != null) {
+                if (startsWithLiteral(position)) {
+                    skipped = true;
+                    position += literal.length;
+                }
+            } else {
+                matcher.region(position, buf.limit());
+                if (matcher.lookingAt()) {
+                    if (matcher.hitEnd() && !inputExhausted) {
+                        needInput = true;
+                        return -1;
+                    }
+                    skipped = true;
+                    position = matcher.end();
                 }
-                skipped = true;
-                position = matcher.end();
             }
         }
         if (position == buf.limit()) {
-            if (inputExhausted) {
-                return null;
+            if (!inputExhausted) {
+                needInput = true;
             }
-            needInput = true;
-            return null;
-        }
-        matcher.region(position, buf.limit());
-        boolean foundNextDelim = matcher.find();
-        if (foundNextDelim && matcher.end() == position) {
-            foundNextDelim = matcher.find();
+            return -1;
         }
-        if (foundNextDelim) {
-            if (matcher.requireEnd() && !inputExhausted) {
-                needInput = true;
-                return null;
+        int tokenEnd;
+        if (literal != null) {
+            tokenEnd = indexOfLiteral(position);
+        } else {
+            matcher.region(position, buf.limit());
+            boolean foundNextDelim = matcher.find();
+            if (foundNextDelim && matcher.end() == position) {
+                foundNextDelim = matcher.find();
             }
-            int tokenEnd = matcher.start();
-            matcher.usePattern(FIND_ANY_PATTERN);
-            matcher.region(position, tokenEnd);
-            if (matcher.matches()) {
-                String s = matcher.group();
-                position = matcher.end();
-                return s;
-            } else {
-                return null;
+            if (foundNextDelim && matcher.requireEnd() && !inputExhausted) {
+                needInput = true;
+                return -1;
             }
+            tokenEnd = foundNextDelim ? matcher.start() : -1;
+        }
+        if (tokenEnd != -1) {
+            return tokenEnd;
         }
         if (inputExhausted) {
-            matcher.usePattern(FIND_ANY_PATTERN);
-            matcher.region(position, buf.limit());
-            if (matcher.matches()) {
-                String s = matcher.group();
-                position = matcher.end();
-                return s;
-            }
-            return null;
+            // the last token is the remainder of the input
+            return buf.limit();
         }
         needInput = true;
-        return null;
+        return -1;
+    }
+
+    private boolean startsWithLiteral(int from) {
+        int n = literal.length;
+        if (buf.limit() - from < n) {
+            return false;
+        }
+        char[] chars = buf.array();
+        int offset = buf.arrayOffset() + from;
+        for (int i = 0; i < n; i++) {
+            if (chars[offset + i] != literal[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOfLiteral(int from) {
+        char[] chars = buf.array();
+        int offset = buf.arrayOffset();
+        char first = literal[0];
+        int n = literal.length;
+        int max = buf.limit() - n;
+        for (int i = from; i <= max; i++) {
+            if (chars[offset + i] == first) {
+                int j = 1;
+                while (j < n && chars[offset + i + j] == literal[j]) {
+                    j++;
+                }
+                if (j == n) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
     private void checkClosed() {
@@ -317,9 +390,54 @@ public final class Scanner implements Iterator<String>, Closeable {
         if (pattern == null) {
             return null;
         }
-        synchronized (CACHE) {
-            return CACHE.computeIfAbsent(pattern, Pattern::compile);
+        Pattern answer = CACHE.get(pattern);
+        if (answer == null) {
+            if (CACHE.size() >= CACHE_SIZE) {
+                // keep the cache small as dynamic delimiters may create many patterns
+                CACHE.clear();
+            }
+            answer = Pattern.compile(pattern);
+            CACHE.put(pattern, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the delimiter as literal text, if the pattern has no regular expression constructs (other than escaped
+     * characters), or <tt>null</tt> if the pattern must be matched as a regular expression.
+     */
+    static char[] toLiteral(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\\') {
+                if (++i == pattern.length()) {
+                    return null;
+                }
+                char next = pattern.charAt(i);
+                if (next == 'n') {
+                    sb.append('\n');
+                } else if (next == 'r') {
+                    sb.append('\r');
+                } else if (next == 't') {
+                    sb.append('\t');
+                } else if (!Character.isLetterOrDigit(next)) {
+                    // escaped meta character
+                    sb.append(next);
+                } else {
+                    // character class or other construct such as \s or \d
+                    return null;
+                }
+            } else if (REGEX_META_CHARS.indexOf(ch) != -1) {
+                return null;
+            } else {
+                sb.append(ch);
+            }
         }
+        return sb.toString().toCharArray();
     }
 
 }
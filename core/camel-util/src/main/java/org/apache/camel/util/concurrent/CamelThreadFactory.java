@@ -23,6 +23,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * The factory can create virtual threads, if they are supported by the JVM, otherwise platform threads are created.
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
@@ -30,18 +32,30 @@ public final class CamelThreadFactory implements ThreadFactory {
     private final String pattern;
     private final String name;
     private final boolean daemon;
+    private final boolean virtual;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
+        this.virtual = virtual && ThreadHelper.isVirtualThreadsSupported();
     }
 
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
-        Thread answer = new Thread(runnable, threadName);
-        answer.setDaemon(daemon);
+        Thread answer;
+        if (virtual) {
+            // virtual threads are always daemon threads
+            answer = ThreadHelper.newVirtualThread(threadName, runnable);
+        } else {
+            answer = new Thread(runnable, threadName);
+            answer.setDaemon(daemon);
+        }
 
         LOG.trace("Created thread[{}] -> {}", threadName, answer);
         return answer;
@@ -51,6 +65,13 @@ public final class CamelThreadFactory implements ThreadFactory {
         return name;
     }
 
+    /**
+     * Whether this factory creates virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.apache.camel.util.StringHelper;
 
 /**
- * Various helper method for thread naming.
+ * Various helper method for thread naming, and creating virtual threads.
  */
 public final class ThreadHelper {
 
@@ -32,9 +33,23 @@ public final class ThreadHelper {
 
     private static AtomicLong threadCounter = new AtomicLong();
 
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
     private ThreadHelper() {
     }
 
+    private static ThreadFactory createVirtualThreadFactory() {
+        // virtual threads are only available from Java 21 onwards (or as preview feature in 19 and 20)
+        // so we need to use reflection to create the factory as Camel is compiled for older versions of Java
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (Throwable e) {
+            // not supported on this JVM
+            return null;
+        }
+    }
+
     private static long nextThreadCounter() {
         return threadCounter.incrementAndGet();
     }
@@ -74,4 +89,28 @@ public final class ThreadHelper {
         return answer;
     }
 
+    /**
+     * Whether virtual threads are supported on this JVM.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Creates a new unstarted virtual thread with the given name.
+     *
+     * @param  name                          the thread name
+     * @param  runnable                      the task to run
+     * @return                               the thread
+     * @throws UnsupportedOperationException if virtual threads are not supported on this JVM
+     */
+    public static Thread newVirtualThread(String name, Runnable runnable) {
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported on this JVM");
+        }
+        Thread answer = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+        answer.setName(name);
+        return answer;
+    }
+
 }
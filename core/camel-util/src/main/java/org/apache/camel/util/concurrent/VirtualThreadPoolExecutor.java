@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool executor which runs each task on a new thread, which is intended to be used with a thread factory that
+ * creates virtual threads.
+ * <p/>
+ * The executor is a {@link java.util.concurrent.ThreadPoolExecutor} without any core threads and with a direct handover
+ * of the tasks, where a thread terminates as soon as its task is complete. This means the executor keeps the same
+ * statistics as a pool of platform threads (such as active count, task count and largest pool size), which are exposed
+ * in JMX.
+ * <p/>
+ * As threads are not pooled, the number of tasks that can be either running or waiting to run can be limited using a
+ * {@link Semaphore} with the given number of max tasks. When there are no more permits the task is rejected using the
+ * {@link RejectedExecutionHandler}, which by default runs the task in the caller thread, to provide back-pressure to
+ * the caller.
+ */
+public class VirtualThreadPoolExecutor extends RejectableThreadPoolExecutor {
+
+    private final Semaphore permits;
+    private final int maxTasks;
+
+    /**
+     * Creates the executor
+     *
+     * @param maxTasks      the max number of tasks that can be either running or waiting to run, use <tt>-1</tt> or
+     *                      <tt>Integer.MAX_VALUE</tt> for no limit
+     * @param threadFactory the factory for creating the threads
+     * @param handler       the handler for tasks that cannot be executed
+     */
+    public VirtualThreadPoolExecutor(int maxTasks, ThreadFactory threadFactory, RejectedExecutionHandler handler) {
+        super(0, Integer.MAX_VALUE, 0, TimeUnit.NANOSECONDS, new SynchronousQueue<>(), threadFactory, handler);
+        if (maxTasks > 0 && maxTasks < Integer.MAX_VALUE) {
+            this.maxTasks = maxTasks;
+            this.permits = new Semaphore(maxTasks);
+        } else {
+            this.maxTasks = -1;
+            this.permits = null;
+        }
+        if (permits != null) {
+            super.setRejectedExecutionHandler(new ReleasePermitPolicy(permits, handler));
+        }
+    }
+
+    /**
+     * The max number of tasks that can be either running or waiting to run, or <tt>-1</tt> if there is no limit.
+     */
+    public int getMaxTasks() {
+        return maxTasks;
+    }
+
+    /**
+     * The number of tasks that can be executed before new tasks are rejected, or <tt>-1</tt> if there is no limit.
+     */
+    public int getRemainingTasks() {
+        return permits != null ? permits.availablePermits() : -1;
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        if (permits != null) {
+            handler = new ReleasePermitPolicy(permits, handler);
+        }
+        super.setRejectedExecutionHandler(handler);
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        RejectedExecutionHandler answer = super.getRejectedExecutionHandler();
+        if (answer instanceof ReleasePermitPolicy) {
+            answer = ((ReleasePermitPolicy) answer).delegate;
+        }
+        return answer;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (permits == null) {
+            super.execute(command);
+            return;
+        }
+
+        if (!permits.tryAcquire()) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+        // if the task is rejected (such as when shutting down) then the permit is released by the ReleasePermitPolicy
+        super.execute(command);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    /**
+     * Releases the permit of a task that was rejected after it was given a permit, and then delegates to the configured
+     * handler. The permit must be released before the handler is called, as the handler may run the task in the caller
+     * thread (which does not call {@link #afterExecute(Runnable, Throwable)}) or throw an exception.
+     */
+    private static final class ReleasePermitPolicy implements RejectedExecutionHandler {
+
+        private final Semaphore permits;
+        private final RejectedExecutionHandler delegate;
+
+        ReleasePermitPolicy(Semaphore permits, RejectedExecutionHandler delegate) {
+            this.permits = permits;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            permits.release();
+            delegate.rejectedExecution(r, executor);
+        }
+    }
+
+}
@@ -21,6 +21,9 @@ import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -78,4 +81,64 @@ public class ScannerTest {
         Assertions.assertEquals("data3", s.next());
     }
 
+    @Test
+    public void testLiteralDelimiter() throws Exception {
+        Assertions.assertArrayEquals("\n".toCharArray(), Scanner.toLiteral("\n"));
+        Assertions.assertArrayEquals("\r\n".toCharArray(), Scanner.toLiteral("\\r\\n"));
+        Assertions.assertArrayEquals("a|b".toCharArray(), Scanner.toLiteral("a\\|b"));
+        Assertions.assertArrayEquals("<END>".toCharArray(), Scanner.toLiteral("<END>"));
+        Assertions.assertNull(Scanner.toLiteral("\\s+"));
+        Assertions.assertNull(Scanner.toLiteral("a|b"));
+        Assertions.assertNull(Scanner.toLiteral("\r?\n"));
+        Assertions.assertNull(Scanner.toLiteral(""));
+        Assertions.assertNull(Scanner.toLiteral(null));
+
+        Scanner s = new Scanner("a|b", "\\|");
+        Assertions.assertEquals("\\|", s.getDelim());
+        Assertions.assertEquals("a", s.next());
+        Assertions.assertEquals("b", s.next());
+        Assertions.assertFalse(s.hasNext());
+    }
+
+    @Test
+    public void testLiteralDelimiterSameAsRegex() throws Exception {
+        // use large input so delimiters span the buffer boundaries
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("data").append(i);
+            sb.append(i % 7 == 0 ? "<SEP><SEP>" : "<SEP>");
+        }
+        sb.append("<SE");
+        String d = sb.toString();
+
+        List<String> expected = tokens(new Scanner(d, Pattern.compile("<SEP>")));
+        List<String> actual = tokens(new Scanner(
+                new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8)), "UTF-8",
+                "<SEP>"));
+        Assertions.assertTrue(expected.contains(""));
+        Assertions.assertEquals("<SE", expected.get(expected.size() - 1));
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testAppendNext() throws Exception {
+        Scanner s = new Scanner("data1,data2,data3", ",");
+
+        StringBuilder sb = new StringBuilder();
+        s.appendNext(sb);
+        sb.append('+');
+        s.appendNext(sb);
+        Assertions.assertEquals("data1+data2", sb.toString());
+        Assertions.assertEquals("data3", s.next());
+        Assertions.assertFalse(s.hasNext());
+    }
+
+    private static List<String> tokens(Scanner s) {
+        List<String> answer = new ArrayList<>();
+        while (s.hasNext()) {
+            answer.add(s.next());
+        }
+        return answer;
+    }
+
 }
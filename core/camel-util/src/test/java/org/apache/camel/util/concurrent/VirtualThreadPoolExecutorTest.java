@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadPoolExecutorTest {
+
+    @Test
+    public void testThreadPerTask() throws Exception {
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                -1, new CamelThreadFactory(null, "test", true, true), new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch running = new CountDownLatch(5);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(release);
+            });
+        }
+        // all the tasks run at the same time as each task has its own thread
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(5, executor.getActiveCount());
+        assertEquals(-1, executor.getMaxTasks());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(5, executor.getCompletedTaskCount());
+        assertEquals(5, executor.getLargestPoolSize());
+    }
+
+    @Test
+    public void testMaxTasksCallerRuns() throws Exception {
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                2, new CamelThreadFactory(null, "test", true, true), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(release);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getRemainingTasks());
+
+        // there are no more permits so the task runs in the caller thread
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+        assertSame(Thread.currentThread(), thread.get());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, executor.getRemainingTasks());
+        assertEquals(2, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testMaxTasksAbort() throws Exception {
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                1, new CamelThreadFactory(null, "test", true, true),
+                ThreadPoolRejectedPolicy.Abort.asRejectedExecutionHandler());
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testRejectedWhenShutdownReleasesPermit() throws Exception {
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                2, new CamelThreadFactory(null, "test", true, true),
+                ThreadPoolRejectedPolicy.Discard.asRejectedExecutionHandler());
+        executor.shutdown();
+
+        // the task is rejected by the executor itself (and discarded) so its permit must be released
+        AtomicBoolean run = new AtomicBoolean();
+        executor.execute(() -> run.set(true));
+        executor.execute(() -> run.set(true));
+        executor.execute(() -> run.set(true));
+        assertFalse(run.get());
+        assertEquals(2, executor.getRemainingTasks());
+    }
+
+    @Test
+    // JRE.OTHER is any version newer than Java 20 on this JUnit version
+    @EnabledForJreRange(min = JRE.OTHER)
+    public void testVirtualThreads() throws Exception {
+        assertTrue(ThreadHelper.isVirtualThreadsSupported());
+
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                100, new CamelThreadFactory(null, "test", true, true), new ThreadPoolExecutor.AbortPolicy());
+
+        int size = 50;
+        CountDownLatch running = new CountDownLatch(size);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < size; i++) {
+            executor.execute(() -> {
+                threads.add(Thread.currentThread());
+                running.countDown();
+                awaitQuietly(release);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(size, threads.size());
+        assertEquals(100 - size, executor.getRemainingTasks());
+        Method isVirtual = Thread.class.getMethod("isVirtual");
+        for (Thread thread : threads) {
+            assertTrue((Boolean) isVirtual.invoke(thread), "Should be a virtual thread: " + thread);
+        }
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(100, executor.getRemainingTasks());
+        assertEquals(size, executor.getCompletedTaskCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -99,6 +99,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); break;
@@ -599,12 +600,14 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); break;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "maxInFlight": def.setMaxInFlight(val); break;
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
                 case "stopOnException": def.setStopOnException(val); break;
                 case "streaming": def.setStreaming(val); break;
+                case "streamingOrdered": def.setStreamingOrdered(val); break;
                 case "timeout": def.setTimeout(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -1333,12 +1336,14 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "maxInFlight": def.setMaxInFlight(val); break;
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
                 case "stopOnException": def.setStopOnException(val); break;
                 case "streaming": def.setStreaming(val); break;
+                case "streamingOrdered": def.setStreamingOrdered(val); break;
                 case "timeout": def.setTimeout(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -1428,6 +1433,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); break;
                 case "rejectedPolicy": def.setRejectedPolicy(val); break;
                 case "timeUnit": def.setTimeUnit(val); break;
+                case "virtualThreads": def.setVirtualThreads(val); break;
                 default: return optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -1457,6 +1463,7 @@ public class ModelParser extends BaseParser {
                 case "asyncDelayed": def.setAsyncDelayed(val); break;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "mode": def.setMode(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
@@ -1853,6 +1860,7 @@ public class ModelParser extends BaseParser {
                 case "comparator": def.setComparator(val); break;
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); break;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); break;
+                case "indexed": def.setIndexed(val); break;
                 case "rejectOld": def.setRejectOld(val); break;
                 case "timeout": def.setTimeout(val); break;
                 default: return false;
@@ -1990,6 +1998,7 @@ public class ModelParser extends BaseParser {
         return doParse(new CsvDataFormat(), (def, key, val) -> {
             switch (key) {
                 case "allowMissingColumnNames": def.setAllowMissingColumnNames(val); break;
+                case "batchSize": def.setBatchSize(val); break;
                 case "captureHeaderRecord": def.setCaptureHeaderRecord(val); break;
                 case "commentMarker": def.setCommentMarker(val); break;
                 case "commentMarkerDisabled": def.setCommentMarkerDisabled(val); break;
@@ -2012,6 +2021,8 @@ public class ModelParser extends BaseParser {
                 case "recordConverterRef": def.setRecordConverterRef(val); break;
                 case "recordSeparator": def.setRecordSeparator(val); break;
                 case "recordSeparatorDisabled": def.setRecordSeparatorDisabled(val); break;
+                case "reuseRows": def.setReuseRows(val); break;
+                case "selectColumns": def.setSelectColumns(val); break;
                 case "skipHeaderRecord": def.setSkipHeaderRecord(val); break;
                 case "trailingDelimiter": def.setTrailingDelimiter(val); break;
                 case "trim": def.setTrim(val); break;
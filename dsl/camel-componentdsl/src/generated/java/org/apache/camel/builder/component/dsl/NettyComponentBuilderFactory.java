@@ -623,6 +623,29 @@ public interface NettyComponentBuilderFactory {
             doSetProperty("producerPoolEnabled", producerPoolEnabled);
             return this;
         }
+        /**
+         * Whether the producer pool should use a lock-free pool of channels
+         * instead of the default commons-pool2 based pool, which synchronizes
+         * when borrowing and returning channels. This can reduce contention at
+         * high request rates with sync=true. Channels bound to the event loop of
+         * the calling thread are preferred, and channels are validated when
+         * borrowed. The producerPoolMinIdle and producerPoolMinEvictableIdle
+         * options are not used, as idle channels are not evicted by the
+         * lock-free pool.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolLockFree the value to set
+         * @return the dsl builder
+         */
+        default NettyComponentBuilder producerPoolLockFree(
+                boolean producerPoolLockFree) {
+            doSetProperty("producerPoolLockFree", producerPoolLockFree);
+            return this;
+        }
         /**
          * Sets the cap on the number of idle instances in the pool.
          * 
@@ -1371,6 +1394,7 @@ public interface NettyComponentBuilderFactory {
             case "correlationManager": getOrCreateConfiguration((NettyComponent) component).setCorrelationManager((org.apache.camel.component.netty.NettyCamelStateCorrelationManager) value); return true;
             case "lazyChannelCreation": getOrCreateConfiguration((NettyComponent) component).setLazyChannelCreation((boolean) value); return true;
             case "producerPoolEnabled": getOrCreateConfiguration((NettyComponent) component).setProducerPoolEnabled((boolean) value); return true;
+            case "producerPoolLockFree": getOrCreateConfiguration((NettyComponent) component).setProducerPoolLockFree((boolean) value); return true;
             case "producerPoolMaxIdle": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxIdle((int) value); return true;
             case "producerPoolMaxTotal": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxTotal((int) value); return true;
             case "producerPoolMinEvictableIdle": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMinEvictableIdle((long) value); return true;
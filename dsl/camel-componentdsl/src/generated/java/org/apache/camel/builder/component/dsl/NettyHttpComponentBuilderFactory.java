@@ -642,6 +642,29 @@ public interface NettyHttpComponentBuilderFactory {
             doSetProperty("producerPoolEnabled", producerPoolEnabled);
             return this;
         }
+        /**
+         * Whether the producer pool should use a lock-free pool of channels
+         * instead of the default commons-pool2 based pool, which synchronizes
+         * when borrowing and returning channels. This can reduce contention at
+         * high request rates with sync=true. Channels bound to the event loop of
+         * the calling thread are preferred, and channels are validated when
+         * borrowed. The producerPoolMinIdle and producerPoolMinEvictableIdle
+         * options are not used, as idle channels are not evicted by the
+         * lock-free pool.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolLockFree the value to set
+         * @return the dsl builder
+         */
+        default NettyHttpComponentBuilder producerPoolLockFree(
+                boolean producerPoolLockFree) {
+            doSetProperty("producerPoolLockFree", producerPoolLockFree);
+            return this;
+        }
         /**
          * Sets the cap on the number of idle instances in the pool.
          * 
@@ -1450,6 +1473,7 @@ public interface NettyHttpComponentBuilderFactory {
             case "correlationManager": getOrCreateConfiguration((NettyHttpComponent) component).setCorrelationManager((org.apache.camel.component.netty.NettyCamelStateCorrelationManager) value); return true;
             case "lazyChannelCreation": getOrCreateConfiguration((NettyHttpComponent) component).setLazyChannelCreation((boolean) value); return true;
             case "producerPoolEnabled": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolEnabled((boolean) value); return true;
+            case "producerPoolLockFree": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolLockFree((boolean) value); return true;
             case "producerPoolMaxIdle": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMaxIdle((int) value); return true;
             case "producerPoolMaxTotal": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMaxTotal((int) value); return true;
             case "producerPoolMinEvictableIdle": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMinEvictableIdle((long) value); return true;
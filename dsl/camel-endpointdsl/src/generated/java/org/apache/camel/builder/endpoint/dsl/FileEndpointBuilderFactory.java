@@ -2472,6 +2472,55 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to scan the directories lazily using a
+         * java.nio.file.DirectoryStream, instead of listing all the files of a
+         * directory up front. Together with maxMessagesPerPoll, the scan stops
+         * as soon as the limit is reached, and the next poll continues the scan
+         * from where it stopped. This can be used to poll directories with a
+         * very large number of files with a bounded memory usage. Files which
+         * are skipped during a scan, for example because they are in progress,
+         * are only picked up again when the scan restarts from the beginning of
+         * the directory. Cannot be used together with preSort.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param streamingScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder streamingScan(
+                boolean streamingScan) {
+            doSetProperty("streamingScan", streamingScan);
+            return this;
+        }
+        /**
+         * Whether to scan the directories lazily using a
+         * java.nio.file.DirectoryStream, instead of listing all the files of a
+         * directory up front. Together with maxMessagesPerPoll, the scan stops
+         * as soon as the limit is reached, and the next poll continues the scan
+         * from where it stopped. This can be used to poll directories with a
+         * very large number of files with a bounded memory usage. Files which
+         * are skipped during a scan, for example because they are in progress,
+         * are only picked up again when the scan restarts from the beginning of
+         * the directory. Cannot be used together with preSort.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param streamingScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder streamingScan(
+                String streamingScan) {
+            doSetProperty("streamingScan", streamingScan);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -825,6 +825,91 @@ public interface HttpEndpointBuilderFactory {
         default HttpEndpointBuilder basic() {
             return (HttpEndpointBuilder) this;
         }
+        /**
+         * Whether the producer should use the non-blocking Apache
+         * HttpAsyncClient instead of the blocking HttpClient. The thread sending
+         * the request is then not blocked waiting for the response, so many
+         * concurrent requests do not need a thread each while waiting. The
+         * response is processed, and the routing continued, by a worker thread
+         * pool of the producer, which is bounded by the default thread pool
+         * profile. The response body is buffered in memory before it is
+         * returned. The non-blocking client supports HTTP/1.1 only, and does not
+         * support HTTP/2. The httpClient, clientBuilder and
+         * clientConnectionManager options are not used by the non-blocking
+         * client.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClient(boolean asyncClient) {
+            doSetProperty("asyncClient", asyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should use the non-blocking Apache
+         * HttpAsyncClient instead of the blocking HttpClient. The thread sending
+         * the request is then not blocked waiting for the response, so many
+         * concurrent requests do not need a thread each while waiting. The
+         * response is processed, and the routing continued, by a worker thread
+         * pool of the producer, which is bounded by the default thread pool
+         * profile. The response body is buffered in memory before it is
+         * returned. The non-blocking client supports HTTP/1.1 only, and does not
+         * support HTTP/2. The httpClient, clientBuilder and
+         * clientConnectionManager options are not used by the non-blocking
+         * client.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClient(String asyncClient) {
+            doSetProperty("asyncClient", asyncClient);
+            return this;
+        }
+        /**
+         * The number of I/O dispatcher threads of the non-blocking
+         * HttpAsyncClient, which is used when the asyncClient option is enabled.
+         * By default the number of available processors is used.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param asyncClientIoThreadCount the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClientIoThreadCount(
+                int asyncClientIoThreadCount) {
+            doSetProperty("asyncClientIoThreadCount", asyncClientIoThreadCount);
+            return this;
+        }
+        /**
+         * The number of I/O dispatcher threads of the non-blocking
+         * HttpAsyncClient, which is used when the asyncClient option is enabled.
+         * By default the number of available processors is used.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param asyncClientIoThreadCount the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClientIoThreadCount(
+                String asyncClientIoThreadCount) {
+            doSetProperty("asyncClientIoThreadCount", asyncClientIoThreadCount);
+            return this;
+        }
         /**
          * Configure a cookie handler to maintain a HTTP session.
          * 
@@ -1235,6 +1235,145 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("valueDeserializer", valueDeserializer);
             return this;
         }
+        /**
+         * The maximum number of records which can be waiting to be processed by
+         * each worker lane. When a lane is full the consumer waits for room in
+         * the lane before polling more records, so the queue size multiplied by
+         * the processing time of a record should be kept well below
+         * maxPollIntervalMs.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param workerLaneQueueSize the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder workerLaneQueueSize(
+                int workerLaneQueueSize) {
+            doSetProperty("workerLaneQueueSize", workerLaneQueueSize);
+            return this;
+        }
+        /**
+         * The maximum number of records which can be waiting to be processed by
+         * each worker lane. When a lane is full the consumer waits for room in
+         * the lane before polling more records, so the queue size multiplied by
+         * the processing time of a record should be kept well below
+         * maxPollIntervalMs.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param workerLaneQueueSize the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder workerLaneQueueSize(
+                String workerLaneQueueSize) {
+            doSetProperty("workerLaneQueueSize", workerLaneQueueSize);
+            return this;
+        }
+        /**
+         * The number of worker lanes each consumer hands the polled records to,
+         * so the records of different partitions are processed in parallel
+         * instead of one after another by the consumer thread. The records of a
+         * partition are always processed in order by the same lane, unless
+         * workerLanesByKey is enabled. The offsets are committed in order, up to
+         * the last record of each partition which has been processed along with
+         * all the records before it. Setting this to 0 (the default) processes
+         * the records by the consumer thread. Worker lanes cannot be used
+         * together with breakOnFirstError. When allowManualCommit is enabled the
+         * offsets are committed by the consumer, and the KafkaManualCommit
+         * header is not set, as the Kafka consumer cannot be used by the worker
+         * lanes. Otherwise the auto commit of the Kafka consumer is disabled,
+         * regardless of autoCommitEnable, as it would commit the records which
+         * have been polled but not yet processed, and the offsets processed by
+         * the worker lanes are committed by the consumer at most once every
+         * autoCommitIntervalMs instead.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param workerLanes the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder workerLanes(int workerLanes) {
+            doSetProperty("workerLanes", workerLanes);
+            return this;
+        }
+        /**
+         * The number of worker lanes each consumer hands the polled records to,
+         * so the records of different partitions are processed in parallel
+         * instead of one after another by the consumer thread. The records of a
+         * partition are always processed in order by the same lane, unless
+         * workerLanesByKey is enabled. The offsets are committed in order, up to
+         * the last record of each partition which has been processed along with
+         * all the records before it. Setting this to 0 (the default) processes
+         * the records by the consumer thread. Worker lanes cannot be used
+         * together with breakOnFirstError. When allowManualCommit is enabled the
+         * offsets are committed by the consumer, and the KafkaManualCommit
+         * header is not set, as the Kafka consumer cannot be used by the worker
+         * lanes. Otherwise the auto commit of the Kafka consumer is disabled,
+         * regardless of autoCommitEnable, as it would commit the records which
+         * have been polled but not yet processed, and the offsets processed by
+         * the worker lanes are committed by the consumer at most once every
+         * autoCommitIntervalMs instead.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param workerLanes the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder workerLanes(String workerLanes) {
+            doSetProperty("workerLanes", workerLanes);
+            return this;
+        }
+        /**
+         * Whether the records are handed to the worker lanes by the key of the
+         * record instead of by the partition, so the records of a single
+         * partition are processed in parallel while the records with the same
+         * key are processed in order. Records without a key are handed to the
+         * lane of their partition.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param workerLanesByKey the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder workerLanesByKey(
+                boolean workerLanesByKey) {
+            doSetProperty("workerLanesByKey", workerLanesByKey);
+            return this;
+        }
+        /**
+         * Whether the records are handed to the worker lanes by the key of the
+         * record instead of by the partition, so the records of a single
+         * partition are processed in parallel while the records with the same
+         * key are processed in order. Records without a key are handed to the
+         * lane of their partition.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param workerLanesByKey the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder workerLanesByKey(
+                String workerLanesByKey) {
+            doSetProperty("workerLanesByKey", workerLanesByKey);
+            return this;
+        }
         /**
          * URL of the Confluent Platform schema registry servers to use. The
          * format is host1:port1,host2:port2. This is known as
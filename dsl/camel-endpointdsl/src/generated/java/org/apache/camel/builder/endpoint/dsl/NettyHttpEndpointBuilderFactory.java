@@ -3257,6 +3257,53 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("producerPoolEnabled", producerPoolEnabled);
             return this;
         }
+        /**
+         * Whether the producer pool should use a lock-free pool of channels
+         * instead of the default commons-pool2 based pool, which synchronizes
+         * when borrowing and returning channels. This can reduce contention at
+         * high request rates with sync=true. Channels bound to the event loop of
+         * the calling thread are preferred, and channels are validated when
+         * borrowed. The producerPoolMinIdle and producerPoolMinEvictableIdle
+         * options are not used, as idle channels are not evicted by the
+         * lock-free pool.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolLockFree the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder producerPoolLockFree(
+                boolean producerPoolLockFree) {
+            doSetProperty("producerPoolLockFree", producerPoolLockFree);
+            return this;
+        }
+        /**
+         * Whether the producer pool should use a lock-free pool of channels
+         * instead of the default commons-pool2 based pool, which synchronizes
+         * when borrowing and returning channels. This can reduce contention at
+         * high request rates with sync=true. Channels bound to the event loop of
+         * the calling thread are preferred, and channels are validated when
+         * borrowed. The producerPoolMinIdle and producerPoolMinEvictableIdle
+         * options are not used, as idle channels are not evicted by the
+         * lock-free pool.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolLockFree the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder producerPoolLockFree(
+                String producerPoolLockFree) {
+            doSetProperty("producerPoolLockFree", producerPoolLockFree);
+            return this;
+        }
         /**
          * Sets the cap on the number of idle instances in the pool.
          * 
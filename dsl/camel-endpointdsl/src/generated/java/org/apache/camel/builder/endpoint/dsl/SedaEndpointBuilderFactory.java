@@ -120,6 +120,85 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of exchanges the consumer takes from the queue and
+         * routes together as a single batch. The batch is routed as one grouped
+         * exchange, which has the exchanges as a java.util.List in the message
+         * body, and the exchanges are completed when the grouped exchange is
+         * done. This reduces the overhead of routing each exchange when the
+         * route sends to a bulk sink. Exchanges which expect a reply (InOut)
+         * cannot be routed in a batch, and are failed. Use 0 or 1 to route the
+         * exchanges one at a time.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges the consumer takes from the queue and
+         * routes together as a single batch. The batch is routed as one grouped
+         * exchange, which has the exchanges as a java.util.List in the message
+         * body, and the exchanges are completed when the grouped exchange is
+         * done. This reduces the overhead of routing each exchange when the
+         * route sends to a bulk sink. Exchanges which expect a reply (InOut)
+         * cannot be routed in a batch, and are failed. Use 0 or 1 to route the
+         * exchanges one at a time.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(
+                String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The timeout (in milliseconds) the consumer waits for more exchanges to
+         * arrive on the queue until the batch is full. By default, the consumer
+         * does not wait, and routes the exchanges which are on the queue when
+         * the batch is taken.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The timeout (in milliseconds) the consumer waits for more exchanges to
+         * arrive on the queue until the batch is full. By default, the consumer
+         * does not wait, and routes the exchanges which are on the queue when
+         * the batch is taken.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions occurred while the consumer is trying to
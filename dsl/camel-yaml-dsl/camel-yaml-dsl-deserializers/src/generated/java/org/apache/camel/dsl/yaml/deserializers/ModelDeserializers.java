@@ -322,6 +322,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "ignore-invalid-correlation-keys", type = "boolean"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "lock-stripes", type = "number"),
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -463,6 +464,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "lock-stripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimistic-lock-retry-policy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -2388,6 +2394,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
             properties = {
                     @YamlProperty(name = "allow-missing-column-names", type = "boolean"),
+                    @YamlProperty(name = "batch-size", type = "number"),
                     @YamlProperty(name = "capture-header-record", type = "boolean"),
                     @YamlProperty(name = "comment-marker", type = "string"),
                     @YamlProperty(name = "comment-marker-disabled", type = "boolean"),
@@ -2412,6 +2419,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "record-converter-ref", type = "string"),
                     @YamlProperty(name = "record-separator", type = "string"),
                     @YamlProperty(name = "record-separator-disabled", type = "string"),
+                    @YamlProperty(name = "reuse-rows", type = "boolean"),
+                    @YamlProperty(name = "select-columns", type = "string"),
                     @YamlProperty(name = "skip-header-record", type = "boolean"),
                     @YamlProperty(name = "trailing-delimiter", type = "boolean"),
                     @YamlProperty(name = "trim", type = "boolean"),
@@ -2443,6 +2452,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setAllowMissingColumnNames(val);
                     break;
                 }
+                case "batch-size": {
+                    String val = asText(node);
+                    target.setBatchSize(val);
+                    break;
+                }
                 case "capture-header-record": {
                     String val = asText(node);
                     target.setCaptureHeaderRecord(val);
@@ -2493,6 +2507,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setHeaderDisabled(val);
                     break;
                 }
+                case "reuse-rows": {
+                    String val = asText(node);
+                    target.setReuseRows(val);
+                    break;
+                }
+                case "select-columns": {
+                    String val = asText(node);
+                    target.setSelectColumns(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -8505,6 +8529,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executor-service", type = "string"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "max-in-flight", type = "number"),
                     @YamlProperty(name = "on-prepare", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -8512,6 +8537,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "stop-on-exception", type = "boolean"),
                     @YamlProperty(name = "streaming", type = "boolean"),
+                    @YamlProperty(name = "streaming-ordered", type = "boolean"),
                     @YamlProperty(name = "timeout", type = "string")
             }
     )
@@ -8554,6 +8580,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "max-in-flight": {
+                    String val = asText(node);
+                    target.setMaxInFlight(val);
+                    break;
+                }
                 case "on-prepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -8584,6 +8615,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setStreaming(val);
                     break;
                 }
+                case "streaming-ordered": {
+                    String val = asText(node);
+                    target.setStreamingOrdered(val);
+                    break;
+                }
                 case "timeout": {
                     String val = asText(node);
                     target.setTimeout(val);
@@ -14524,6 +14560,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "max-in-flight", type = "number"),
                     @YamlProperty(name = "on-prepare", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -14531,6 +14568,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "stop-on-exception", type = "boolean"),
                     @YamlProperty(name = "streaming", type = "boolean"),
+                    @YamlProperty(name = "streaming-ordered", type = "boolean"),
                     @YamlProperty(name = "timeout", type = "string")
             }
     )
@@ -14583,6 +14621,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "max-in-flight": {
+                    String val = asText(node);
+                    target.setMaxInFlight(val);
+                    break;
+                }
                 case "on-prepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -14613,6 +14656,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setStreaming(val);
                     break;
                 }
+                case "streaming-ordered": {
+                    String val = asText(node);
+                    target.setStreamingOrdered(val);
+                    break;
+                }
                 case "timeout": {
                     String val = asText(node);
                     target.setTimeout(val);
@@ -14970,6 +15018,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "comparator", type = "string"),
                     @YamlProperty(name = "delivery-attempt-interval", type = "string"),
                     @YamlProperty(name = "ignore-invalid-exchanges", type = "boolean"),
+                    @YamlProperty(name = "indexed", type = "boolean"),
                     @YamlProperty(name = "reject-old", type = "boolean"),
                     @YamlProperty(name = "timeout", type = "string")
             }
@@ -15008,6 +15057,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setIgnoreInvalidExchanges(val);
                     break;
                 }
+                case "indexed": {
+                    String val = asText(node);
+                    target.setIndexed(val);
+                    break;
+                }
                 case "reject-old": {
                     String val = asText(node);
                     target.setRejectOld(val);
@@ -15182,7 +15236,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "max-queue-size", type = "number"),
                     @YamlProperty(name = "pool-size", type = "number"),
                     @YamlProperty(name = "rejected-policy", type = "enum:Abort,CallerRuns,DiscardOldest,Discard"),
-                    @YamlProperty(name = "time-unit", type = "enum:NANOSECONDS,MICROSECONDS,MILLISECONDS,SECONDS,MINUTES,HOURS,DAYS")
+                    @YamlProperty(name = "time-unit", type = "enum:NANOSECONDS,MICROSECONDS,MILLISECONDS,SECONDS,MINUTES,HOURS,DAYS"),
+                    @YamlProperty(name = "virtual-threads", type = "boolean")
             }
     )
     public static class ThreadPoolProfileDefinitionDeserializer extends YamlDeserializerBase<ThreadPoolProfileDefinition> {
@@ -15239,6 +15294,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeUnit(val);
                     break;
                 }
+                case "virtual-threads": {
+                    String val = asText(node);
+                    target.setVirtualThreads(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -15437,6 +15497,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "mode", type = "enum:DelayQueue,TokenBucket"),
                     @YamlProperty(name = "reject-execution", type = "boolean"),
                     @YamlProperty(name = "time-period-millis", type = "string")
             }
@@ -15485,6 +15546,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "mode": {
+                    String val = asText(node);
+                    target.setMode(val);
+                    break;
+                }
                 case "reject-execution": {
                     String val = asText(node);
                     target.setRejectExecution(val);
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.component.bean.BeanProcessor;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks invoking bean methods with the bean processor.
+ */
+public class BeanProcessorBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        BeanProcessor hello;
+        BeanProcessor add;
+        BeanProcessor touch;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            MyBean bean = new MyBean();
+            hello = createProcessor(bean, "hello");
+            add = createProcessor(bean, "add");
+            touch = createProcessor(bean, "touch");
+
+            exchange = new DefaultExchange(camel);
+            exchange.getMessage().setHeader("num", 123);
+        }
+
+        private BeanProcessor createProcessor(Object bean, String method) {
+            BeanProcessor processor = new BeanProcessor(bean, camel);
+            processor.setMethod(method);
+            processor.start();
+            return processor;
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void hello(BenchmarkState state, Blackhole bh) throws Exception {
+        state.exchange.getMessage().setBody("World");
+        state.hello.process(state.exchange);
+        bh.consume(state.exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void add(BenchmarkState state, Blackhole bh) throws Exception {
+        state.exchange.getMessage().setBody(42);
+        state.add.process(state.exchange);
+        bh.consume(state.exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void touch(BenchmarkState state, Blackhole bh) throws Exception {
+        state.touch.process(state.exchange);
+        bh.consume(state.exchange.getMessage().getHeader("touched"));
+    }
+
+    public static class MyBean {
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public int add(int body, @Header("num") int num) {
+            return body + num;
+        }
+
+        public void touch(Exchange exchange) {
+            exchange.getMessage().setHeader("touched", true);
+        }
+    }
+
+}
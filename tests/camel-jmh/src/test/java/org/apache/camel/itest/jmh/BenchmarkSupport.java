@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Common JMH setup used by all the benchmarks in this module.
+ * <p/>
+ * Each benchmark is measured both as throughput and as sampled time (which reports latency percentiles), and with the
+ * GC profiler enabled so the allocation rate per operation is reported as well. The results are written as JSON to
+ * <tt>target/jmh-&lt;benchmark&gt;.json</tt> so the output of two releases can be compared.
+ * <p/>
+ * The number of forks, iterations and threads can be tuned using the <tt>jmh.forks</tt>, <tt>jmh.iterations</tt>,
+ * <tt>jmh.time</tt> and <tt>jmh.threads</tt> system properties.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static void run(Class<?> benchmark) throws Exception {
+        new Runner(options(benchmark)).run();
+    }
+
+    public static Options options(Class<?> benchmark) {
+        int forks = Integer.getInteger("jmh.forks", 1);
+        int iterations = Integer.getInteger("jmh.iterations", 3);
+        int time = Integer.getInteger("jmh.time", 2);
+        int threads = Integer.getInteger("jmh.threads", 1);
+
+        return new OptionsBuilder()
+                .include(benchmark.getName() + ".*")
+                .mode(Mode.Throughput)
+                .mode(Mode.SampleTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupTime(TimeValue.seconds(time))
+                .warmupIterations(iterations)
+                .measurementTime(TimeValue.seconds(time))
+                .measurementIterations(iterations)
+                .threads(threads)
+                .forks(forks)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-" + benchmark.getSimpleName() + ".json")
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the overhead of the advices in {@link org.apache.camel.impl.engine.CamelInternalProcessor}, by routing
+ * with the optional advices (message history, stream caching and tracing in standby) turned off and on.
+ */
+public class CamelInternalProcessorBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "false", "true" })
+        boolean advices;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.setMessageHistory(advices);
+            camel.setStreamCaching(advices);
+            camel.setTracingStandby(advices);
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").routeId("advised")
+                            .setHeader("foo", constant("bar"))
+                            .to("direct:end");
+
+                    from("direct:end")
+                            .setBody(constant("Bye World"));
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void advised(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:start", "Hello World"));
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.dataformat.csv.CsvDataFormat;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks unmarshalling a CSV file with lazyLoad, one record at a time and in batches with and without reused rows
+ * and selected columns. An operation is a single CSV row, so the throughput is reported as rows per microsecond and the
+ * allocation rate (gc.alloc.rate.norm) as bytes allocated per row.
+ */
+public class CsvUnmarshalBenchmark {
+
+    private static final int ROWS = 10000;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "record", "batch", "batchReuse", "batchReuseSelect" })
+        String mode;
+
+        CamelContext camel;
+        CsvDataFormat csv;
+        byte[] data;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            csv = new CsvDataFormat();
+            csv.setSkipHeaderRecord(true);
+            csv.setLazyLoad(true);
+            if (mode.startsWith("batch")) {
+                csv.setBatchSize(100);
+            }
+            if (mode.startsWith("batchReuse")) {
+                csv.setReuseRows(true);
+            }
+            if (mode.equals("batchReuseSelect")) {
+                csv.setSelectColumns("id,amount");
+            }
+            csv.start();
+
+            StringBuilder sb = new StringBuilder("id,name,city,amount,date\n");
+            for (int i = 0; i < ROWS; i++) {
+                sb.append(i).append(",Name ").append(i).append(",City ").append(i % 100)
+                        .append(',').append(i * 10).append(",2022-06-01\n");
+            }
+            data = sb.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            csv.stop();
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void unmarshal(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        Iterator<?> it = (Iterator<?>) state.csv.unmarshal(exchange, new ByteArrayInputStream(state.data));
+        try {
+            while (it.hasNext()) {
+                Object row = it.next();
+                if (row instanceof List) {
+                    for (Object o : (List<?>) row) {
+                        bh.consume(o);
+                    }
+                } else {
+                    bh.consume(row);
+                }
+            }
+        } finally {
+            IOHelper.closeIterator(it);
+        }
+    }
+
+}
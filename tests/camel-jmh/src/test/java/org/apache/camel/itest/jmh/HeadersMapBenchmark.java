@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@link HeadersMapFactory} implementations, creating, reading and copying the headers as the routing
+ * engine does with the message headers.
+ */
+public class HeadersMapBenchmark {
+
+    private static final String[] KEYS = {
+            "CamelFileName", "CamelFileLength", "CamelFileLastModified", "CamelHttpMethod", "CamelHttpUri",
+            "Content-Type", "Content-Length", "Accept", "User-Agent", "breadcrumbId", "JMSCorrelationID",
+            "JMSDestination" };
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "default", "headersmap", "hash" })
+        String factory;
+
+        HeadersMapFactory headersMapFactory;
+        Map<String, Object> headers;
+        String[] lookups;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            if ("headersmap".equals(factory)) {
+                headersMapFactory = new JavaUtilHeadersMapFactory();
+            } else if ("hash".equals(factory)) {
+                headersMapFactory = new CaseInsensitiveHashMapHeadersMapFactory();
+            } else {
+                headersMapFactory = new DefaultHeadersMapFactory();
+            }
+            headers = headersMapFactory.newMap();
+            for (int i = 0; i < KEYS.length; i++) {
+                headers.put(KEYS[i], i);
+            }
+            // lookup using other cases than the header keys
+            lookups = new String[KEYS.length];
+            for (int i = 0; i < KEYS.length; i++) {
+                lookups[i] = i % 2 == 0 ? KEYS[i].toLowerCase() : KEYS[i];
+            }
+        }
+    }
+
+    /**
+     * The same as the camel-headersmap factory, which is not used directly as it would be auto detected by the other
+     * benchmarks.
+     */
+    private static class JavaUtilHeadersMapFactory implements HeadersMapFactory {
+
+        @Override
+        public Map<String, Object> newMap() {
+            return new CaseInsensitiveMap<>();
+        }
+
+        @Override
+        public Map<String, Object> newMap(Map<String, Object> map) {
+            return new CaseInsensitiveMap<>(map);
+        }
+
+        @Override
+        public boolean isInstanceOf(Map<String, Object> map) {
+            return map instanceof CaseInsensitiveMap;
+        }
+
+        @Override
+        public boolean isCaseInsensitive() {
+            return true;
+        }
+    }
+
+    @Benchmark
+    public void put(BenchmarkState state, Blackhole bh) {
+        Map<String, Object> map = state.headersMapFactory.newMap();
+        for (int i = 0; i < KEYS.length; i++) {
+            map.put(KEYS[i], i);
+        }
+        bh.consume(map);
+    }
+
+    @Benchmark
+    public void get(BenchmarkState state, Blackhole bh) {
+        for (String key : state.lookups) {
+            bh.consume(state.headers.get(key));
+        }
+    }
+
+    @Benchmark
+    public void copy(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.headersMapFactory.newMap(state.headers));
+    }
+
+    @Benchmark
+    public void copyAndPut(BenchmarkState state, Blackhole bh) {
+        // such as a multicast or splitter which copies the exchange and sets a header on the copy
+        Map<String, Object> map = state.headersMapFactory.newMap(state.headers);
+        map.put("CamelSplitIndex", 1);
+        bh.consume(map);
+    }
+
+    @Benchmark
+    public void iterate(BenchmarkState state, Blackhole bh) {
+        for (Map.Entry<String, Object> entry : state.headers.entrySet()) {
+            bh.consume(entry.getValue());
+        }
+    }
+
+}
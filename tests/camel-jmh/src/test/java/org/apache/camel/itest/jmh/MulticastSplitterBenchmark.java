@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@link org.apache.camel.processor.MulticastProcessor} and {@link org.apache.camel.processor.Splitter}
+ * EIPs, both sequential and with parallel processing.
+ */
+public class MulticastSplitterBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "false", "true" })
+        boolean parallel;
+
+        @Param({ "10" })
+        int size;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        List<String> body;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            body = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                body.add("Message " + i);
+            }
+
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:multicast")
+                            .multicast().parallelProcessing(parallel)
+                            .to("direct:a", "direct:b", "direct:c")
+                            .end();
+
+                    from("direct:split")
+                            .split(body()).parallelProcessing(parallel)
+                            .to("direct:a")
+                            .end();
+
+                    from("direct:splitStreaming")
+                            .split(body()).streaming().parallelProcessing(parallel)
+                            .to("direct:a")
+                            .end();
+
+                    from("direct:a").setHeader("a", constant("a"));
+                    from("direct:b").setHeader("b", constant("b"));
+                    from("direct:c").setHeader("c", constant("c"));
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void multicast(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:multicast", "Hello World"));
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:split", state.body));
+    }
+
+    @Benchmark
+    public void splitStreaming(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:splitStreaming", state.body));
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks scheduling continuations on the {@link ReactiveExecutor}, comparing the
+ * {@link org.apache.camel.impl.engine.DefaultReactiveExecutor} with the {@link WorkStealingReactiveExecutor}.
+ */
+public class ReactiveExecutorBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "default", "workStealing" })
+        String type;
+
+        @Param({ "1", "16" })
+        int depth;
+
+        CamelContext camel;
+        ReactiveExecutor executor;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            if ("workStealing".equals(type)) {
+                camel.adapt(ExtendedCamelContext.class).setReactiveExecutor(new WorkStealingReactiveExecutor());
+            }
+            camel.start();
+            executor = camel.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void scheduleMain(BenchmarkState state, Blackhole bh) throws InterruptedException {
+        // each task schedules its continuation, like the processors in a pipeline do
+        Task task = new Task(state.executor, state.depth, bh);
+        state.executor.scheduleMain(task);
+        // the tasks may run on other threads so wait for the last continuation
+        task.latch.await();
+    }
+
+    @Benchmark
+    public void scheduleSync(BenchmarkState state, Blackhole bh) {
+        state.executor.scheduleSync(() -> bh.consume(state.depth));
+    }
+
+    private static final class Task implements Runnable {
+        private final ReactiveExecutor executor;
+        private final Blackhole bh;
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private int remaining;
+
+        private Task(ReactiveExecutor executor, int remaining, Blackhole bh) {
+            this.executor = executor;
+            this.remaining = remaining;
+            this.bh = bh;
+        }
+
+        @Override
+        public void run() {
+            bh.consume(remaining);
+            if (--remaining > 0) {
+                executor.schedule(this);
+            } else {
+                latch.countDown();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks evaluating pre-parsed expressions and predicates with the simple language, in regular and compiled mode.
+ */
+public class SimpleLanguageBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "false", "true" })
+        String compiled;
+
+        CamelContext camel;
+        Exchange exchange;
+        Expression header;
+        Expression template;
+        Predicate predicate;
+        Predicate compound;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.getGlobalOptions().put(SimpleLanguage.COMPILED, compiled);
+            camel.start();
+
+            exchange = new DefaultExchange(camel);
+            exchange.getMessage().setBody("Hello World");
+            exchange.getMessage().setHeader("foo", "bar");
+            exchange.getMessage().setHeader("num", 123);
+
+            Language simple = camel.resolveLanguage("simple");
+            header = simple.createExpression("${header.foo}");
+            template = simple.createExpression("Hello ${header.foo} the body is ${body} and num is ${header.num}");
+            predicate = simple.createPredicate("${header.num} > 100");
+            compound = simple.createPredicate(
+                    "${header.num} > 100 && ${header.foo} == 'bar' && ${body} contains 'World'");
+            header.init(camel);
+            template.init(camel);
+            predicate.init(camel);
+            compound.init(camel);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void header(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.header.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    public void template(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.template.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    public void predicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.predicate.matches(state.exchange));
+    }
+
+    @Benchmark
+    public void compoundPredicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.compound.matches(state.exchange));
+    }
+
+}